@@ -74,6 +74,21 @@ public abstract class AbstractCollectionAssert<S, A extends Collection<?>> exten
     return myself;
   }
 
+  /**
+   * Verifies that the actual collection contains exactly the given values, in any order: each value appears in the
+   * actual collection as many times as it was given, and the actual collection has no other elements.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the actual collection is {@code null}.
+   * @throws AssertionError if the actual collection does not contain exactly the given values, i.e. some of the given
+   * values appear fewer times in the actual collection than they were given, or some of its elements appear more times.
+   */
+  public final S containsExactlyInAnyOrder(Object... values) {
+    collections.assertContainsExactlyInAnyOrder(info, actual, values);
+    return myself;
+  }
+
   /** {@inheritDoc} */
   public final S containsSequence(Object... sequence) {
     collections.assertContainsSequence(info, actual, sequence);
@@ -0,0 +1,70 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.api;
+
+import com.github.shareme.festassertionsforandroid.data.ElementChecks;
+import com.github.shareme.festassertionsforandroid.internal.Iterables;
+import com.github.shareme.festutilitiesandroid.VisibleForTesting;
+
+/**
+ * Base class for assertions on groups of elements that may be read only once, like iterators, database cursors or
+ * paged results. All the checks on the elements are given at once, to
+ * <code>{@link #satisfiesAll(ElementChecks)}</code>, which performs them in a single pass over the elements, without
+ * keeping them in memory:
+ *
+ * <pre>
+ * assertThatSinglePass(cursor).satisfiesAll(
+ *     elementChecks().hasSize(6).startsWith(&quot;Frodo&quot;).doesNotContainNull());
+ * </pre>
+ * @param <S> the "self" type of this assertion class. Please read
+ * &quot;<a href="http://bit.ly/anMa4g" target="_blank">Emulating 'self types' using Java Generics to simplify fluent
+ * API implementation</a>&quot; for more details.
+ * @param <A> the type of the "actual" value.
+ */
+public abstract class AbstractIterableAssert<S, A> extends AbstractAssert<S, A> {
+
+  @VisibleForTesting Iterables iterables = Iterables.instance();
+
+  protected AbstractIterableAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the elements pass all the given checks, in a single pass over them. Reading stops as soon as none of
+   * the checks can change its outcome. Since the elements may be read only once, all the checks should be given to a
+   * single call to this method.
+   * @param checks the checks to perform.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given checks are {@code null}.
+   * @throws IllegalArgumentException if the given checks are empty.
+   * @throws AssertionError if the actual value is {@code null}.
+   * @throws AssertionError if any of the given checks fails.
+   */
+  public final S satisfiesAll(ElementChecks checks) {
+    assertSatisfies(checks);
+    return myself;
+  }
+
+  /**
+   * Verifies that the elements pass all the given checks; <code>{@link #satisfiesAll(ElementChecks)}</code> delegates
+   * to this method.
+   * @param checks the checks to perform.
+   * @throws NullPointerException if the given checks are {@code null}.
+   * @throws IllegalArgumentException if the given checks are empty.
+   * @throws AssertionError if the actual value is {@code null}.
+   * @throws AssertionError if any of the given checks fails.
+   */
+  protected abstract void assertSatisfies(ElementChecks checks);
+}
@@ -14,10 +14,15 @@
  */
 package com.github.shareme.festassertionsforandroid.api;
 
+import static com.github.shareme.festassertionsforandroid.data.Snapshot.snapshotOf;
+
 import java.io.File;
 import java.math.BigDecimal;
+import java.nio.*;
 import java.util.*;
 
+import com.github.shareme.festassertionsforandroid.data.Snapshot;
+
 /**
  * Entry point for assertion methods for different data types. Each method in this class is a static
  * factory for the type-specific assertion objects. The purpose of this class is to make test code more readable.
@@ -102,6 +107,15 @@ public class Assertions {
     return new ByteArrayAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link ByteBufferAssert}</code>.
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static ByteBufferAssert assertThat(ByteBuffer actual) {
+    return new ByteBufferAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link CharacterAssert}</code>.
    * @param actual the actual value.
@@ -120,6 +134,15 @@ public class Assertions {
     return new CharArrayAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link CharBufferAssert}</code>.
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static CharBufferAssert assertThat(CharBuffer actual) {
+    return new CharBufferAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link CharacterAssert}</code>.
    * @param actual the actual value.
@@ -129,6 +152,17 @@ public class Assertions {
     return new CharacterAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link CharSequenceAssert}</code>, which reads the characters of the given sequence
+   * in place instead of copying them into a {@code String}. A {@code CharBuffer} is verified as a sequence of
+   * characters when it is passed as a {@code CharSequence}: <code>assertThat((CharSequence) buffer)</code>.
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static CharSequenceAssert assertThat(CharSequence actual) {
+    return new CharSequenceAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link CollectionAssert}</code>.
    * @param actual the actual value.
@@ -165,6 +199,15 @@ public class Assertions {
     return new DoubleArrayAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link DoubleBufferAssert}</code>.
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static DoubleBufferAssert assertThat(DoubleBuffer actual) {
+    return new DoubleBufferAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link FileAssert}</code>.
    * @param actual the actual value.
@@ -201,6 +244,15 @@ public class Assertions {
     return new FloatArrayAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link FloatBufferAssert}</code>.
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static FloatBufferAssert assertThat(FloatBuffer actual) {
+    return new FloatBufferAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link IntegerAssert}</code>.
    * @param actual the actual value.
@@ -219,6 +271,15 @@ public class Assertions {
     return new IntArrayAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link IntBufferAssert}</code>.
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static IntBufferAssert assertThat(IntBuffer actual) {
+    return new IntBufferAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link IntegerAssert}</code>.
    * @param actual the actual value.
@@ -264,6 +325,15 @@ public class Assertions {
     return new LongArrayAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link LongBufferAssert}</code>.
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static LongBufferAssert assertThat(LongBuffer actual) {
+    return new LongBufferAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link ObjectAssert}</code>.
    * @param actual the actual value.
@@ -327,6 +397,63 @@ public class Assertions {
     return new StringAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link IterableAssert}</code>, which reads the elements of the given
+   * {@code Iterable} once, in a single pass, and does not keep them. Use it for groups of elements that can only be
+   * read once, like database cursors or paged results.
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static IterableAssert assertThatSinglePass(Iterable<?> actual) {
+    return new IterableAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link IteratorAssert}</code>, which reads the remaining elements of the given
+   * {@code Iterator} once, in a single pass, and does not keep them.
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static IteratorAssert assertThatSinglePass(Iterator<?> actual) {
+    return new IteratorAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link CollectionAssert}</code> that verifies a copy of the given collection
+   * instead of the collection itself. The copy is taken once, so all the assertions in a chain verify the same state of
+   * a collection that other threads may be modifying. To know the size of the copy and how long it took to take it, use
+   * <code>{@link Snapshot#snapshotOf(Collection)}</code> and <code>{@link #assertThat(Collection)}</code> instead.
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static CollectionAssert assertThatSnapshot(Collection<?> actual) {
+    return new CollectionAssert(snapshotOf(actual).copy);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link ListAssert}</code> that verifies a copy of the given list instead of the
+   * list itself. The copy is taken once, so all the assertions in a chain verify the same state of a list that other
+   * threads may be modifying. To know the size of the copy and how long it took to take it, use <code>{@link
+   * Snapshot#snapshotOf(List)}</code> and <code>{@link #assertThat(List)}</code> instead.
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static ListAssert assertThatSnapshot(List<?> actual) {
+    return new ListAssert(snapshotOf(actual).copy);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link MapAssert}</code> that verifies a copy of the given map instead of the map
+   * itself. The copy is taken once, so all the assertions in a chain verify the same state of a map that other threads
+   * may be modifying. To know the size of the copy and how long it took to take it, use
+   * <code>{@link Snapshot#snapshotOf(Map)}</code> and <code>{@link #assertThat(Map)}</code> instead.
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public static MapAssert assertThatSnapshot(Map<?, ?> actual) {
+    return new MapAssert(snapshotOf(actual).copy);
+  }
+
   /** Creates a new </code>{@link Assertions}</code>. */
   protected Assertions() {}
 }
@@ -14,6 +14,8 @@
  */
 package com.github.shareme.festassertionsforandroid.api;
 
+import java.util.Comparator;
+
 import com.github.shareme.festassertionsforandroid.core.EnumerableAssert;
 import com.github.shareme.festassertionsforandroid.data.Index;
 import com.github.shareme.festassertionsforandroid.internal.BooleanArrays;
@@ -87,6 +89,21 @@ public class BooleanArrayAssert extends AbstractAssert<BooleanArrayAssert, boole
     return this;
   }
 
+  /**
+   * Verifies that the actual array contains exactly the given values, in any order: each value appears in the actual
+   * array as many times as it was given, and the actual array has no other elements.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the actual array does not contain exactly the given values, i.e. some of the given values
+   * appear fewer times in the actual array than they were given, or some of its elements appear more times.
+   */
+  public BooleanArrayAssert containsExactlyInAnyOrder(boolean... values) {
+    arrays.assertContainsExactlyInAnyOrder(info, actual, values);
+    return this;
+  }
+
   /**
    * Verifies that the actual array contains the given sequence, without any other values between them.
    * @param sequence the sequence of values to look for.
@@ -186,4 +203,30 @@ public class BooleanArrayAssert extends AbstractAssert<BooleanArrayAssert, boole
     arrays.assertEndsWith(info, actual, sequence);
     return this;
   }
+
+  /**
+   * Verifies that the actual array is sorted in ascending order. Empty arrays and arrays with one element are
+   * considered sorted.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the actual array is not sorted in ascending order.
+   */
+  public BooleanArrayAssert isSorted() {
+    arrays.assertIsSorted(info, actual);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual array is sorted according to the given comparator. Empty arrays and arrays with one
+   * element are considered sorted.
+   * @param comparator the {@code Comparator} used to compare the elements of the array.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the actual array is not sorted according to the given comparator.
+   */
+  public BooleanArrayAssert isSortedAccordingTo(Comparator<? super Boolean> comparator) {
+    arrays.assertIsSortedAccordingToComparator(info, actual, comparator);
+    return this;
+  }
 }
@@ -0,0 +1,130 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.api;
+
+import java.nio.ByteBuffer;
+
+import com.github.shareme.festassertionsforandroid.core.EnumerableAssert;
+import com.github.shareme.festassertionsforandroid.internal.ByteBuffers;
+import com.github.shareme.festutilitiesandroid.VisibleForTesting;
+
+/**
+ * Assertion methods for <code>{@link ByteBuffer}</code>s. They verify the elements between the position and the limit
+ * of the buffer, in place, without changing its position.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link Assertions#assertThat(ByteBuffer)}</code>.
+ * </p>
+ */
+public class ByteBufferAssert extends AbstractAssert<ByteBufferAssert, ByteBuffer> implements
+    EnumerableAssert<ByteBufferAssert> {
+
+  @VisibleForTesting ByteBuffers buffers = ByteBuffers.instance();
+
+  protected ByteBufferAssert(ByteBuffer actual) {
+    super(actual, ByteBufferAssert.class);
+  }
+
+  /** {@inheritDoc} */
+  public void isNullOrEmpty() {
+    buffers.assertNullOrEmpty(info, actual);
+  }
+
+  /** {@inheritDoc} */
+  public void isEmpty() {
+    buffers.assertEmpty(info, actual);
+  }
+
+  /** {@inheritDoc} */
+  public ByteBufferAssert isNotEmpty() {
+    buffers.assertNotEmpty(info, actual);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  public ByteBufferAssert hasSize(int expected) {
+    buffers.assertHasSize(info, actual, expected);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual buffer contains the given values, in any order.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual buffer is {@code null}.
+   * @throws AssertionError if the actual buffer does not contain the given values.
+   */
+  public ByteBufferAssert contains(byte... values) {
+    buffers.assertContains(info, actual, values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual buffer does not contain the given values.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual buffer is {@code null}.
+   * @throws AssertionError if the actual buffer contains any of the given values.
+   */
+  public ByteBufferAssert doesNotContain(byte... values) {
+    buffers.assertDoesNotContain(info, actual, values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual buffer contains the given sequence, without any other values between them.
+   * @param sequence the sequence of values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual buffer is {@code null}.
+   * @throws AssertionError if the actual buffer does not contain the given sequence.
+   */
+  public ByteBufferAssert containsSequence(byte... sequence) {
+    buffers.assertContainsSequence(info, actual, sequence);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual buffer starts with the given sequence of values, without any other values between them.
+   * @param sequence the sequence of values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual buffer is {@code null}.
+   * @throws AssertionError if the actual buffer does not start with the given sequence.
+   */
+  public ByteBufferAssert startsWith(byte... sequence) {
+    buffers.assertStartsWith(info, actual, sequence);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual buffer ends with the given sequence of values, without any other values between them.
+   * @param sequence the sequence of values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual buffer is {@code null}.
+   * @throws AssertionError if the actual buffer does not end with the given sequence.
+   */
+  public ByteBufferAssert endsWith(byte... sequence) {
+    buffers.assertEndsWith(info, actual, sequence);
+    return this;
+  }
+}
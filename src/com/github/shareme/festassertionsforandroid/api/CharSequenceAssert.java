@@ -0,0 +1,291 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.api;
+
+import java.util.regex.*;
+
+import com.github.shareme.festassertionsforandroid.core.EnumerableAssert;
+import com.github.shareme.festassertionsforandroid.internal.CharSequences;
+import com.github.shareme.festutilitiesandroid.VisibleForTesting;
+
+/**
+ * Assertion methods for <code>{@link CharSequence}</code>s, such as {@code StringBuilder}s and {@code CharBuffer}s. The
+ * characters are read in place and never copied into a {@code String}.
+ * <p>
+ * To create a new instance of this class, invoke <code>{@link Assertions#assertThat(CharSequence)}</code>.
+ * </p>
+ */
+public class CharSequenceAssert extends AbstractAssert<CharSequenceAssert, CharSequence> implements
+    EnumerableAssert<CharSequenceAssert> {
+
+  @VisibleForTesting CharSequences charSequences = CharSequences.instance();
+
+  protected CharSequenceAssert(CharSequence actual) {
+    super(actual, CharSequenceAssert.class);
+  }
+
+  /** {@inheritDoc} */
+  public void isNullOrEmpty() {
+    charSequences.assertNullOrEmpty(info, actual);
+  }
+
+  /** {@inheritDoc} */
+  public void isEmpty() {
+    charSequences.assertEmpty(info, actual);
+  }
+
+  /** {@inheritDoc} */
+  public CharSequenceAssert isNotEmpty() {
+    charSequences.assertNotEmpty(info, actual);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  public CharSequenceAssert hasSize(int expected) {
+    charSequences.assertHasSize(info, actual, expected);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} has the same characters as the given one, regardless of their types.
+   * @param expected the given {@code CharSequence} to compare the actual {@code CharSequence} to.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code CharSequence} does not have the same characters as the given one.
+   */
+  @Override public CharSequenceAssert isEqualTo(CharSequence expected) {
+    charSequences.assertEqual(info, actual, expected);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} does not have the same characters as the given one.
+   * @param other the given {@code CharSequence} to compare the actual {@code CharSequence} to.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code CharSequence} has the same characters as the given one.
+   */
+  @Override public CharSequenceAssert isNotEqualTo(CharSequence other) {
+    charSequences.assertNotEqual(info, actual, other);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} contains the given sequence.
+   * @param sequence the sequence to search for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not contain the given one.
+   */
+  public CharSequenceAssert contains(CharSequence sequence) {
+    charSequences.assertContains(info, actual, sequence);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} contains the given sequence, ignoring case considerations.
+   * @param sequence the sequence to search for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not contain the given one.
+   */
+  public CharSequenceAssert containsIgnoringCase(CharSequence sequence) {
+    charSequences.assertContainsIgnoringCase(info, actual, sequence);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} does not contain the given sequence.
+   * @param sequence the sequence to search for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} contains the given one.
+   */
+  public CharSequenceAssert doesNotContain(CharSequence sequence) {
+    charSequences.assertDoesNotContain(info, actual, sequence);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} starts with the given prefix.
+   * @param prefix the given prefix.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given prefix is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not start with the given prefix.
+   */
+  public CharSequenceAssert startsWith(CharSequence prefix) {
+    charSequences.assertStartsWith(info, actual, prefix);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} ends with the given suffix.
+   * @param suffix the given suffix.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given suffix is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not end with the given suffix.
+   */
+  public CharSequenceAssert endsWith(CharSequence suffix) {
+    charSequences.assertEndsWith(info, actual, suffix);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} matches the given regular expression.
+   * @param regex the regular expression to which the actual {@code CharSequence} is to be matched.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not match the given regular expression.
+   */
+  public CharSequenceAssert matches(String regex) {
+    charSequences.assertMatches(info, actual, regex);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} does not match the given regular expression.
+   * @param regex the regular expression to which the actual {@code CharSequence} is to be matched.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the actual {@code CharSequence} matches the given regular expression.
+   */
+  public CharSequenceAssert doesNotMatch(String regex) {
+    charSequences.assertDoesNotMatch(info, actual, regex);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} matches the given regular expression.
+   * @param pattern the regular expression to which the actual {@code CharSequence} is to be matched.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not match the given regular expression.
+   */
+  public CharSequenceAssert matches(Pattern pattern) {
+    charSequences.assertMatches(info, actual, pattern);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} does not match the given regular expression.
+   * @param pattern the regular expression to which the actual {@code CharSequence} is to be matched.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} matches the given regular expression.
+   */
+  public CharSequenceAssert doesNotMatch(Pattern pattern) {
+    charSequences.assertDoesNotMatch(info, actual, pattern);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} has the given number of lines, counting them in a single pass.
+   * @param expectedLineCount the expected number of lines.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the number of lines of the actual {@code CharSequence} is different than the given one.
+   */
+  public CharSequenceAssert hasLineCount(int expectedLineCount) {
+    charSequences.assertHasLineCount(info, actual, expectedLineCount);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} has a line equal to the given one, reading its lines in place.
+   * @param line the line to look for, without line terminator.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given line is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not have a line equal to the given one.
+   */
+  public CharSequenceAssert containsLine(CharSequence line) {
+    charSequences.assertContainsLine(info, actual, line);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} has no line equal to the given one, reading its lines in place.
+   * @param line the line to look for, without line terminator.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given line is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} has a line equal to the given one.
+   */
+  public CharSequenceAssert doesNotContainLine(CharSequence line) {
+    charSequences.assertDoesNotContainLine(info, actual, line);
+    return this;
+  }
+
+  /**
+   * Verifies that every line of the actual {@code CharSequence} matches the given regular expression.
+   * @param regex the regular expression to which every line is to be matched.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if a line of the actual {@code CharSequence} does not match the given regular expression.
+   */
+  public CharSequenceAssert allLinesMatch(String regex) {
+    charSequences.assertAllLinesMatch(info, actual, regex);
+    return this;
+  }
+
+  /**
+   * Verifies that every line of the actual {@code CharSequence} matches the given regular expression.
+   * @param pattern the regular expression to which every line is to be matched.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if a line of the actual {@code CharSequence} does not match the given regular expression.
+   */
+  public CharSequenceAssert allLinesMatch(Pattern pattern) {
+    charSequences.assertAllLinesMatch(info, actual, pattern);
+    return this;
+  }
+
+  /**
+   * Verifies that at least one line of the actual {@code CharSequence} matches the given regular expression.
+   * @param regex the regular expression to which the lines are to be matched.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if no line of the actual {@code CharSequence} matches the given regular expression.
+   */
+  public CharSequenceAssert anyLineMatches(String regex) {
+    charSequences.assertAnyLineMatches(info, actual, regex);
+    return this;
+  }
+
+  /**
+   * Verifies that at least one line of the actual {@code CharSequence} matches the given regular expression.
+   * @param pattern the regular expression to which the lines are to be matched.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if no line of the actual {@code CharSequence} matches the given regular expression.
+   */
+  public CharSequenceAssert anyLineMatches(Pattern pattern) {
+    charSequences.assertAnyLineMatches(info, actual, pattern);
+    return this;
+  }
+}
@@ -14,8 +14,14 @@
  */
 package com.github.shareme.festassertionsforandroid.api;
 
+import static com.github.shareme.festassertionsforandroid.data.Parallelism.parallelism;
+
+import java.util.Comparator;
+
 import com.github.shareme.festassertionsforandroid.core.EnumerableAssert;
 import com.github.shareme.festassertionsforandroid.data.Index;
+import com.github.shareme.festassertionsforandroid.data.Offset;
+import com.github.shareme.festassertionsforandroid.data.Parallelism;
 import com.github.shareme.festassertionsforandroid.internal.FloatArrays;
 import com.github.shareme.festutilitiesandroid.VisibleForTesting;
 
@@ -58,6 +64,44 @@ public class FloatArrayAssert extends AbstractAssert<FloatArrayAssert, float[]>
     return this;
   }
 
+  /**
+   * Verifies that the elements of the actual array are equal to the ones of the given array, within a positive offset.
+   * It stops at the first element that is not.
+   * @param expected the given array to compare the actual array to.
+   * @param offset the given positive offset.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given offset is {@code null}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the actual array does not have the same size as the given one.
+   * @throws AssertionError if any element of the actual array is not equal to the element of the given array at the
+   * same index, within the given offset.
+   */
+  public FloatArrayAssert isEqualTo(float[] expected, Offset<Float> offset) {
+    arrays.assertEqual(info, actual, expected, offset);
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual array are equal to the ones of the given array, within a positive offset.
+   * When they are not, the error message shows up to the given number of elements that differ.
+   * @param expected the given array to compare the actual array to.
+   * @param offset the given positive offset.
+   * @param mismatchesToReport the maximum number of elements that differ to show in the error message.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given offset is {@code null}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws IllegalArgumentException if the number of elements to show is not greater than zero.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the actual array does not have the same size as the given one.
+   * @throws AssertionError if any element of the actual array is not equal to the element of the given array at the
+   * same index, within the given offset.
+   */
+  public FloatArrayAssert isEqualTo(float[] expected, Offset<Float> offset, int mismatchesToReport) {
+    arrays.assertEqual(info, actual, expected, offset, mismatchesToReport);
+    return this;
+  }
+
   /**
    * Verifies that the actual array contains the given values, in any order.
    * @param values the given values.
@@ -87,6 +131,21 @@ public class FloatArrayAssert extends AbstractAssert<FloatArrayAssert, float[]>
     return this;
   }
 
+  /**
+   * Verifies that the actual array contains exactly the given values, in any order: each value appears in the actual
+   * array as many times as it was given, and the actual array has no other elements.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the actual array does not contain exactly the given values, i.e. some of the given values
+   * appear fewer times in the actual array than they were given, or some of its elements appear more times.
+   */
+  public FloatArrayAssert containsExactlyInAnyOrder(float... values) {
+    arrays.assertContainsExactlyInAnyOrder(info, actual, values);
+    return this;
+  }
+
   /**
    * Verifies that the actual array contains the given sequence, without any other values between them.
    * @param sequence the sequence of values to look for.
@@ -186,4 +245,65 @@ public class FloatArrayAssert extends AbstractAssert<FloatArrayAssert, float[]>
     arrays.assertEndsWith(info, actual, sequence);
     return this;
   }
+
+  /**
+   * Verifies that the actual array is sorted in ascending order. Empty arrays and arrays with one element are
+   * considered sorted.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the actual array is not sorted in ascending order.
+   */
+  public FloatArrayAssert isSorted() {
+    arrays.assertIsSorted(info, actual);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual array is sorted according to the given comparator. Empty arrays and arrays with one
+   * element are considered sorted.
+   * @param comparator the {@code Comparator} used to compare the elements of the array.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the actual array is not sorted according to the given comparator.
+   */
+  public FloatArrayAssert isSortedAccordingTo(Comparator<? super Float> comparator) {
+    arrays.assertIsSortedAccordingToComparator(info, actual, comparator);
+    return this;
+  }
+
+  /**
+   * Verifies the actual array in parallel, in a pool of threads shared by all assertions, when it has at least
+   * <code>{@link Parallelism#DEFAULT_THRESHOLD}</code> elements.
+   * @return {@code this} assertion object.
+   * @see #inParallel(Parallelism)
+   */
+  public FloatArrayAssert inParallel() {
+    return inParallel(parallelism());
+  }
+
+  /**
+   * Verifies the actual array in parallel, as described by the given {@code Parallelism}. Only the assertions that
+   * visit every element of the array, like {@code contains} and {@code containsOnly}, split their work between
+   * threads. They report the same failures as when they run in the calling thread.
+   * @param parallelism how to split the work between threads.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code Parallelism} is {@code null}.
+   */
+  public FloatArrayAssert inParallel(Parallelism parallelism) {
+    arrays = arrays.inParallel(parallelism);
+    return this;
+  }
+
+  /**
+   * Makes {@code contains} and {@code doesNotContain} look for values with a binary search, which expects the actual
+   * array to be sorted in ascending order. {@code contains} still reports the same failures when the array is not
+   * sorted. {@code doesNotContain} first verifies that the array is sorted, since a binary search could miss values,
+   * and fails like <code>{@link #isSorted()}</code> if it is not.
+   * @return {@code this} assertion object.
+   */
+  public FloatArrayAssert usingSortedSearch() {
+    arrays = arrays.usingSortedSearch();
+    return this;
+  }
 }
@@ -0,0 +1,169 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.api;
+
+import java.nio.FloatBuffer;
+
+import com.github.shareme.festassertionsforandroid.core.EnumerableAssert;
+import com.github.shareme.festassertionsforandroid.data.Offset;
+import com.github.shareme.festassertionsforandroid.internal.FloatBuffers;
+import com.github.shareme.festutilitiesandroid.VisibleForTesting;
+
+/**
+ * Assertion methods for <code>{@link FloatBuffer}</code>s. They verify the elements between the position and the limit
+ * of the buffer, in place, without changing its position.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link Assertions#assertThat(FloatBuffer)}</code>.
+ * </p>
+ */
+public class FloatBufferAssert extends AbstractAssert<FloatBufferAssert, FloatBuffer> implements
+    EnumerableAssert<FloatBufferAssert> {
+
+  @VisibleForTesting FloatBuffers buffers = FloatBuffers.instance();
+
+  protected FloatBufferAssert(FloatBuffer actual) {
+    super(actual, FloatBufferAssert.class);
+  }
+
+  /** {@inheritDoc} */
+  public void isNullOrEmpty() {
+    buffers.assertNullOrEmpty(info, actual);
+  }
+
+  /** {@inheritDoc} */
+  public void isEmpty() {
+    buffers.assertEmpty(info, actual);
+  }
+
+  /** {@inheritDoc} */
+  public FloatBufferAssert isNotEmpty() {
+    buffers.assertNotEmpty(info, actual);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  public FloatBufferAssert hasSize(int expected) {
+    buffers.assertHasSize(info, actual, expected);
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual buffer are equal to the ones of the given array, within a positive
+   * offset. It stops at the first element that is not.
+   * @param expected the given array to compare the actual buffer to.
+   * @param offset the given positive offset.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given offset is {@code null}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws AssertionError if the actual buffer is {@code null}.
+   * @throws AssertionError if the actual buffer does not have the same size as the given array.
+   * @throws AssertionError if any element of the actual buffer is not equal to the element of the given array at the
+   * same index, within the given offset.
+   */
+  public FloatBufferAssert isEqualTo(float[] expected, Offset<Float> offset) {
+    buffers.assertEqual(info, actual, expected, offset);
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual buffer are equal to the ones of the given array, within a positive
+   * offset. When they are not, the error message shows up to the given number of elements that differ.
+   * @param expected the given array to compare the actual buffer to.
+   * @param offset the given positive offset.
+   * @param mismatchesToReport the maximum number of elements that differ to show in the error message.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given offset is {@code null}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws IllegalArgumentException if the number of elements to show is not greater than zero.
+   * @throws AssertionError if the actual buffer is {@code null}.
+   * @throws AssertionError if the actual buffer does not have the same size as the given array.
+   * @throws AssertionError if any element of the actual buffer is not equal to the element of the given array at the
+   * same index, within the given offset.
+   */
+  public FloatBufferAssert isEqualTo(float[] expected, Offset<Float> offset, int mismatchesToReport) {
+    buffers.assertEqual(info, actual, expected, offset, mismatchesToReport);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual buffer contains the given values, in any order.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual buffer is {@code null}.
+   * @throws AssertionError if the actual buffer does not contain the given values.
+   */
+  public FloatBufferAssert contains(float... values) {
+    buffers.assertContains(info, actual, values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual buffer does not contain the given values.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual buffer is {@code null}.
+   * @throws AssertionError if the actual buffer contains any of the given values.
+   */
+  public FloatBufferAssert doesNotContain(float... values) {
+    buffers.assertDoesNotContain(info, actual, values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual buffer contains the given sequence, without any other values between them.
+   * @param sequence the sequence of values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual buffer is {@code null}.
+   * @throws AssertionError if the actual buffer does not contain the given sequence.
+   */
+  public FloatBufferAssert containsSequence(float... sequence) {
+    buffers.assertContainsSequence(info, actual, sequence);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual buffer starts with the given sequence of values, without any other values between them.
+   * @param sequence the sequence of values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual buffer is {@code null}.
+   * @throws AssertionError if the actual buffer does not start with the given sequence.
+   */
+  public FloatBufferAssert startsWith(float... sequence) {
+    buffers.assertStartsWith(info, actual, sequence);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual buffer ends with the given sequence of values, without any other values between them.
+   * @param sequence the sequence of values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual buffer is {@code null}.
+   * @throws AssertionError if the actual buffer does not end with the given sequence.
+   */
+  public FloatBufferAssert endsWith(float... sequence) {
+    buffers.assertEndsWith(info, actual, sequence);
+    return this;
+  }
+}
@@ -14,8 +14,13 @@
  */
 package com.github.shareme.festassertionsforandroid.api;
 
+import static com.github.shareme.festassertionsforandroid.data.Parallelism.parallelism;
+
+import java.util.Comparator;
+
 import com.github.shareme.festassertionsforandroid.core.EnumerableAssert;
 import com.github.shareme.festassertionsforandroid.data.Index;
+import com.github.shareme.festassertionsforandroid.data.Parallelism;
 import com.github.shareme.festassertionsforandroid.internal.IntArrays;
 import com.github.shareme.festutilitiesandroid.VisibleForTesting;
 
@@ -87,6 +92,21 @@ public class IntArrayAssert extends AbstractAssert<IntArrayAssert, int[]> implem
     return this;
   }
 
+  /**
+   * Verifies that the actual array contains exactly the given values, in any order: each value appears in the actual
+   * array as many times as it was given, and the actual array has no other elements.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the actual array does not contain exactly the given values, i.e. some of the given values
+   * appear fewer times in the actual array than they were given, or some of its elements appear more times.
+   */
+  public IntArrayAssert containsExactlyInAnyOrder(int... values) {
+    arrays.assertContainsExactlyInAnyOrder(info, actual, values);
+    return this;
+  }
+
   /**
    * Verifies that the actual array contains the given sequence, without any other values between them.
    * @param sequence the sequence of values to look for.
@@ -186,4 +206,65 @@ public class IntArrayAssert extends AbstractAssert<IntArrayAssert, int[]> implem
     arrays.assertEndsWith(info, actual, sequence);
     return this;
   }
+
+  /**
+   * Verifies that the actual array is sorted in ascending order. Empty arrays and arrays with one element are
+   * considered sorted.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the actual array is not sorted in ascending order.
+   */
+  public IntArrayAssert isSorted() {
+    arrays.assertIsSorted(info, actual);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual array is sorted according to the given comparator. Empty arrays and arrays with one
+   * element are considered sorted.
+   * @param comparator the {@code Comparator} used to compare the elements of the array.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the actual array is not sorted according to the given comparator.
+   */
+  public IntArrayAssert isSortedAccordingTo(Comparator<? super Integer> comparator) {
+    arrays.assertIsSortedAccordingToComparator(info, actual, comparator);
+    return this;
+  }
+
+  /**
+   * Verifies the actual array in parallel, in a pool of threads shared by all assertions, when it has at least
+   * <code>{@link Parallelism#DEFAULT_THRESHOLD}</code> elements.
+   * @return {@code this} assertion object.
+   * @see #inParallel(Parallelism)
+   */
+  public IntArrayAssert inParallel() {
+    return inParallel(parallelism());
+  }
+
+  /**
+   * Verifies the actual array in parallel, as described by the given {@code Parallelism}. Only the assertions that
+   * visit every element of the array, like {@code contains} and {@code containsOnly}, split their work between
+   * threads. They report the same failures as when they run in the calling thread.
+   * @param parallelism how to split the work between threads.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code Parallelism} is {@code null}.
+   */
+  public IntArrayAssert inParallel(Parallelism parallelism) {
+    arrays = arrays.inParallel(parallelism);
+    return this;
+  }
+
+  /**
+   * Makes {@code contains} and {@code doesNotContain} look for values with a binary search, which expects the actual
+   * array to be sorted in ascending order. {@code contains} still reports the same failures when the array is not
+   * sorted. {@code doesNotContain} first verifies that the array is sorted, since a binary search could miss values,
+   * and fails like <code>{@link #isSorted()}</code> if it is not.
+   * @return {@code this} assertion object.
+   */
+  public IntArrayAssert usingSortedSearch() {
+    arrays = arrays.usingSortedSearch();
+    return this;
+  }
 }
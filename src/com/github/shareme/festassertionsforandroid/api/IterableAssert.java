@@ -0,0 +1,35 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.api;
+
+import com.github.shareme.festassertionsforandroid.data.ElementChecks;
+
+/**
+ * Assertion methods for <code>{@link Iterable}</code>s, whose elements are read once, when
+ * <code>{@link #satisfiesAll(ElementChecks)}</code> is invoked.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link Assertions#assertThatSinglePass(Iterable)}</code>.
+ * </p>
+ */
+public class IterableAssert extends AbstractIterableAssert<IterableAssert, Iterable<?>> {
+
+  protected IterableAssert(Iterable<?> actual) {
+    super(actual, IterableAssert.class);
+  }
+
+  @Override protected void assertSatisfies(ElementChecks checks) {
+    iterables.assertSatisfies(info, actual, checks);
+  }
+}
@@ -49,4 +49,31 @@ public class ListAssert extends AbstractCollectionAssert<ListAssert, List<?>> im
     lists.assertDoesNotContain(info, actual, value, index);
     return this;
   }
+
+  /**
+   * Verifies that the actual list contains the given list as a contiguous sublist, with its elements in the same order.
+   * @param subList the list to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given list is {@code null}.
+   * @throws IllegalArgumentException if the given list is empty.
+   * @throws AssertionError if the actual list is {@code null}.
+   * @throws AssertionError if the actual list does not contain the given list.
+   */
+  public ListAssert containsSubList(List<?> subList) {
+    lists.assertContainsSubList(info, actual, subList);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual list is a contiguous sublist of the given list, with its elements in the same order.
+   * @param list the list expected to contain the actual list.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given list is {@code null}.
+   * @throws AssertionError if the actual list is {@code null}.
+   * @throws AssertionError if the actual list is not a sublist of the given list.
+   */
+  public ListAssert isSubListOf(List<?> list) {
+    lists.assertIsSubListOf(info, actual, list);
+    return this;
+  }
 }
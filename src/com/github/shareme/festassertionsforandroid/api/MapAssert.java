@@ -89,4 +89,87 @@ public class MapAssert extends AbstractAssert<MapAssert, Map<?, ?>> implements E
     maps.assertDoesNotContain(info, actual, entries);
     return this;
   }
+
+  /**
+   * Verifies that the actual map contains the given keys, in any order.
+   * @param keys the given keys.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual map is {@code null}.
+   * @throws AssertionError if the actual map does not contain the given keys.
+   */
+  public MapAssert containsKeys(Object... keys) {
+    maps.assertContainsKeys(info, actual, keys);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual map contains the given keys and no other keys, in any order.
+   * @param keys the given keys.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual map is {@code null}.
+   * @throws AssertionError if the actual map does not contain the given keys, or contains keys other than the given
+   * ones.
+   */
+  public MapAssert containsOnlyKeys(Object... keys) {
+    maps.assertContainsOnlyKeys(info, actual, keys);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual map contains the given values, in any order. When many values are given, the values of
+   * the actual map are indexed first.
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual map is {@code null}.
+   * @throws AssertionError if the actual map does not contain the given values.
+   */
+  public MapAssert containsValues(Object... values) {
+    maps.assertContainsValues(info, actual, values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual map does not contain the given value.
+   * @param value the given value.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual map is {@code null}.
+   * @throws AssertionError if the actual map contains the given value.
+   */
+  public MapAssert doesNotContainValue(Object value) {
+    maps.assertDoesNotContainValue(info, actual, value);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual map is equal to the given one. If it is not, the error message shows some of the
+   * differences between the maps (missing keys, unexpected keys and keys mapped to different values) instead of both
+   * maps.
+   * @param expected the given map to compare the actual map to.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual map is not equal to the given one.
+   */
+  @Override public MapAssert isEqualTo(Map<?, ?> expected) {
+    maps.assertEqual(info, actual, expected);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual map is equal to the given one. If it is not, the error message shows up to the given
+   * number of differences between the maps (missing keys, unexpected keys and keys mapped to different values.)
+   * @param expected the given map to compare the actual map to.
+   * @param differencesToReport the maximum number of differences to show in the error message.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if the number of differences to show is not greater than zero.
+   * @throws AssertionError if the actual map is not equal to the given one.
+   */
+  public MapAssert isEqualTo(Map<?, ?> expected, int differencesToReport) {
+    maps.assertEqual(info, actual, expected, differencesToReport);
+    return this;
+  }
 }
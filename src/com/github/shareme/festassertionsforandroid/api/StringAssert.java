@@ -17,6 +17,7 @@ package com.github.shareme.festassertionsforandroid.api;
 import java.util.regex.*;
 
 import com.github.shareme.festassertionsforandroid.core.EnumerableAssert;
+import com.github.shareme.festassertionsforandroid.internal.CharSequences;
 import com.github.shareme.festassertionsforandroid.internal.Strings;
 import com.github.shareme.festutilitiesandroid.VisibleForTesting;
 
@@ -33,6 +34,7 @@ import com.github.shareme.festutilitiesandroid.VisibleForTesting;
 public class StringAssert extends AbstractAssert<StringAssert, String> implements EnumerableAssert<StringAssert> {
 
   @VisibleForTesting Strings strings = Strings.instance();
+  @VisibleForTesting CharSequences charSequences = CharSequences.instance();
 
   protected StringAssert(String actual) {
     super(actual, StringAssert.class);
@@ -40,23 +42,23 @@ public class StringAssert extends AbstractAssert<StringAssert, String> implement
 
   /** {@inheritDoc} */
   public void isNullOrEmpty() {
-    strings.assertNullOrEmpty(info, actual);
+    charSequences.assertNullOrEmpty(info, actual);
   }
 
   /** {@inheritDoc} */
   public void isEmpty() {
-    strings.assertEmpty(info, actual);
+    charSequences.assertEmpty(info, actual);
   }
 
   /** {@inheritDoc} */
   public StringAssert isNotEmpty() {
-    strings.assertNotEmpty(info, actual);
+    charSequences.assertNotEmpty(info, actual);
     return this;
   }
 
   /** {@inheritDoc} */
   public StringAssert hasSize(int expected) {
-    strings.assertHasSize(info, actual, expected);
+    charSequences.assertHasSize(info, actual, expected);
     return this;
   }
 
@@ -80,7 +82,7 @@ public class StringAssert extends AbstractAssert<StringAssert, String> implement
    * @throws AssertionError if the actual {@code String} does not contain the given one.
    */
   public StringAssert contains(String sequence) {
-    strings.assertContains(info, actual, sequence);
+    charSequences.assertContains(info, actual, sequence);
     return this;
   }
 
@@ -93,7 +95,36 @@ public class StringAssert extends AbstractAssert<StringAssert, String> implement
    * @throws AssertionError if the actual {@code String} does not contain the given one.
    */
   public StringAssert containsIgnoringCase(String sequence) {
-    strings.assertContainsIgnoringCase(info, actual, sequence);
+    charSequences.assertContainsIgnoringCase(info, actual, sequence);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code String} contains all the given sequences, looking for all of them in a single pass.
+   * @param sequences the sequences to search for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given array of sequences, or any of the sequences, is {@code null}.
+   * @throws IllegalArgumentException if the given array of sequences is empty.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if the actual {@code String} does not contain all the given sequences.
+   */
+  public StringAssert containsAll(String... sequences) {
+    strings.assertContainsAll(info, actual, sequences);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code String} contains at least one of the given sequences, looking for all of them in a
+   * single pass.
+   * @param sequences the sequences to search for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given array of sequences, or any of the sequences, is {@code null}.
+   * @throws IllegalArgumentException if the given array of sequences is empty.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if the actual {@code String} contains none of the given sequences.
+   */
+  public StringAssert containsAny(String... sequences) {
+    strings.assertContainsAny(info, actual, sequences);
     return this;
   }
 
@@ -106,7 +137,22 @@ public class StringAssert extends AbstractAssert<StringAssert, String> implement
    * @throws AssertionError if the actual {@code String} contains the given one.
    */
   public StringAssert doesNotContain(String sequence) {
-    strings.assertDoesNotContain(info, actual, sequence);
+    charSequences.assertDoesNotContain(info, actual, sequence);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code String} contains none of the given sequences, looking for all of them in a single
+   * pass.
+   * @param sequences the sequences to search for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given array of sequences, or any of the sequences, is {@code null}.
+   * @throws IllegalArgumentException if the given array of sequences is empty.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if the actual {@code String} contains any of the given sequences.
+   */
+  public StringAssert doesNotContainAny(String... sequences) {
+    strings.assertDoesNotContainAny(info, actual, sequences);
     return this;
   }
 
@@ -119,7 +165,7 @@ public class StringAssert extends AbstractAssert<StringAssert, String> implement
    * @throws AssertionError if the actual {@code String} does not start with the given prefix.
    */
   public StringAssert startsWith(String prefix) {
-    strings.assertStartsWith(info, actual, prefix);
+    charSequences.assertStartsWith(info, actual, prefix);
     return this;
   }
 
@@ -132,7 +178,33 @@ public class StringAssert extends AbstractAssert<StringAssert, String> implement
    * @throws AssertionError if the actual {@code String} does not end with the given suffix.
    */
   public StringAssert endsWith(String suffix) {
-    strings.assertEndsWith(info, actual, suffix);
+    charSequences.assertEndsWith(info, actual, suffix);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code String} starts with the given prefix, ignoring case considerations.
+   * @param prefix the given prefix.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given prefix is {@code null}.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if the actual {@code String} does not start with the given prefix, ignoring case.
+   */
+  public StringAssert startsWithIgnoringCase(String prefix) {
+    strings.assertStartsWithIgnoringCase(info, actual, prefix);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code String} ends with the given suffix, ignoring case considerations.
+   * @param suffix the given suffix.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given suffix is {@code null}.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if the actual {@code String} does not end with the given suffix, ignoring case.
+   */
+  public StringAssert endsWithIgnoringCase(String suffix) {
+    strings.assertEndsWithIgnoringCase(info, actual, suffix);
     return this;
   }
 
@@ -146,7 +218,7 @@ public class StringAssert extends AbstractAssert<StringAssert, String> implement
    * @throws AssertionError if the actual {@code String} does not match the given regular expression.
    */
   public StringAssert matches(String regex) {
-    strings.assertMatches(info, actual, regex);
+    charSequences.assertMatches(info, actual, regex);
     return this;
   }
 
@@ -160,7 +232,7 @@ public class StringAssert extends AbstractAssert<StringAssert, String> implement
    * @throws AssertionError if the actual {@code String} matches the given regular expression.
    */
   public StringAssert doesNotMatch(String regex) {
-    strings.assertDoesNotMatch(info, actual, regex);
+    charSequences.assertDoesNotMatch(info, actual, regex);
     return this;
   }
 
@@ -173,7 +245,7 @@ public class StringAssert extends AbstractAssert<StringAssert, String> implement
    * @throws AssertionError if the actual {@code String} does not match the given regular expression.
    */
   public StringAssert matches(Pattern pattern) {
-    strings.assertMatches(info, actual, pattern);
+    charSequences.assertMatches(info, actual, pattern);
     return this;
   }
 
@@ -185,7 +257,99 @@ public class StringAssert extends AbstractAssert<StringAssert, String> implement
    * @throws AssertionError if the actual {@code String} does not match the given regular expression.
    */
   public StringAssert doesNotMatch(Pattern pattern) {
-    strings.assertDoesNotMatch(info, actual, pattern);
+    charSequences.assertDoesNotMatch(info, actual, pattern);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code String} has the given number of lines, counting them in a single pass.
+   * @param expectedLineCount the expected number of lines.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if the number of lines of the actual {@code String} is different than the given one.
+   */
+  public StringAssert hasLineCount(int expectedLineCount) {
+    charSequences.assertHasLineCount(info, actual, expectedLineCount);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code String} has a line equal to the given one, reading its lines in place.
+   * @param line the line to look for, without line terminator.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given line is {@code null}.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if the actual {@code String} does not have a line equal to the given one.
+   */
+  public StringAssert containsLine(CharSequence line) {
+    charSequences.assertContainsLine(info, actual, line);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code String} has no line equal to the given one, reading its lines in place.
+   * @param line the line to look for, without line terminator.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given line is {@code null}.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if the actual {@code String} has a line equal to the given one.
+   */
+  public StringAssert doesNotContainLine(CharSequence line) {
+    charSequences.assertDoesNotContainLine(info, actual, line);
+    return this;
+  }
+
+  /**
+   * Verifies that every line of the actual {@code String} matches the given regular expression.
+   * @param regex the regular expression to which every line is to be matched.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if a line of the actual {@code String} does not match the given regular expression.
+   */
+  public StringAssert allLinesMatch(String regex) {
+    charSequences.assertAllLinesMatch(info, actual, regex);
+    return this;
+  }
+
+  /**
+   * Verifies that every line of the actual {@code String} matches the given regular expression.
+   * @param pattern the regular expression to which every line is to be matched.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if a line of the actual {@code String} does not match the given regular expression.
+   */
+  public StringAssert allLinesMatch(Pattern pattern) {
+    charSequences.assertAllLinesMatch(info, actual, pattern);
+    return this;
+  }
+
+  /**
+   * Verifies that at least one line of the actual {@code String} matches the given regular expression.
+   * @param regex the regular expression to which the lines are to be matched.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if no line of the actual {@code String} matches the given regular expression.
+   */
+  public StringAssert anyLineMatches(String regex) {
+    charSequences.assertAnyLineMatches(info, actual, regex);
+    return this;
+  }
+
+  /**
+   * Verifies that at least one line of the actual {@code String} matches the given regular expression.
+   * @param pattern the regular expression to which the lines are to be matched.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the actual {@code String} is {@code null}.
+   * @throws AssertionError if no line of the actual {@code String} matches the given regular expression.
+   */
+  public StringAssert anyLineMatches(Pattern pattern) {
+    charSequences.assertAnyLineMatches(info, actual, pattern);
     return this;
   }
 }
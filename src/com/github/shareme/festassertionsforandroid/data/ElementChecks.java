@@ -0,0 +1,181 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.data;
+
+import java.util.*;
+
+/**
+ * A group of checks to perform on the elements of an <code>{@link Iterable}</code> or <code>{@link Iterator}</code>,
+ * all of them in a single pass, without keeping the elements that were read. Checks are verified, all at once, by
+ * {@code satisfiesAll} on the assertion objects returned by {@code Assertions.assertThatSinglePass}:
+ *
+ * <pre>
+ * assertThatSinglePass(cursor).satisfiesAll(elementChecks().hasSize(6).startsWith(&quot;Frodo&quot;));
+ * </pre>
+ * <p>
+ * A group of checks only describes what to verify, and never changes: adding a check returns a new group. The state a
+ * check needs while the elements are read (e.g. the values it has not found yet) is created by each verification and
+ * dropped once it is done, so a group can be reused, and shared between threads. That state does not grow with the
+ * number of elements, except for <code>{@link #doesNotHaveDuplicates()}</code>, which needs to remember every distinct
+ * element it has seen.
+ * </p>
+ */
+public final class ElementChecks {
+
+  /** What a check verifies. */
+  public static enum Kind {
+    /** Verifies that the number of elements is equal to the expected one. */
+    HAS_SIZE,
+    /** Verifies that the elements contain the given values, in any order. */
+    CONTAINS,
+    /** Verifies that the first elements are the given sequence of values. */
+    STARTS_WITH,
+    /** Verifies that the elements contain the given sequence of values, without any other values between them. */
+    CONTAINS_SEQUENCE,
+    /** Verifies that none of the elements is {@code null}. */
+    DOES_NOT_CONTAIN_NULL,
+    /** Verifies that there are no duplicates among the elements. */
+    DOES_NOT_HAVE_DUPLICATES
+  }
+
+  /** One of the checks of a group: what it verifies, and the values it verifies it with. */
+  public static final class Check {
+
+    /** What this check verifies. */
+    public final Kind kind;
+
+    /** The expected number of elements, if this check verifies it. */
+    public final int expectedSize;
+
+    private final Object[] values;
+
+    private Check(Kind kind, int expectedSize, Object[] values) {
+      this.kind = kind;
+      this.expectedSize = expectedSize;
+      this.values = values;
+    }
+
+    /**
+     * Returns the values this check verifies the elements with, if any.
+     * @return a copy of the values of this check, empty if it has none.
+     */
+    public Object[] values() {
+      return values.clone();
+    }
+  }
+
+  private static final Object[] NO_VALUES = new Object[0];
+
+  private static final ElementChecks EMPTY = new ElementChecks(Collections.<Check>emptyList());
+
+  /**
+   * Returns an empty group of checks, to add checks to.
+   * @return an empty group of checks.
+   */
+  public static ElementChecks elementChecks() {
+    return EMPTY;
+  }
+
+  /** The checks of this group, in the order they were added. */
+  public final List<Check> checks;
+
+  private ElementChecks(List<Check> checks) {
+    this.checks = checks;
+  }
+
+  /**
+   * Returns a group with the checks of this one and a check that verifies that the number of elements is equal to the
+   * expected one.
+   * @param expectedSize the expected number of elements.
+   * @return the new group of checks.
+   */
+  public ElementChecks hasSize(int expectedSize) {
+    return with(new Check(Kind.HAS_SIZE, expectedSize, NO_VALUES));
+  }
+
+  /**
+   * Returns a group with the checks of this one and a check that verifies that the elements contain the given values,
+   * in any order.
+   * @param values the values to look for.
+   * @return the new group of checks.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   */
+  public ElementChecks contains(Object... values) {
+    return with(Kind.CONTAINS, values);
+  }
+
+  /**
+   * Returns a group with the checks of this one and a check that verifies that the first elements are the given
+   * sequence of values.
+   * @param sequence the sequence of values to look for.
+   * @return the new group of checks.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   */
+  public ElementChecks startsWith(Object... sequence) {
+    return with(Kind.STARTS_WITH, sequence);
+  }
+
+  /**
+   * Returns a group with the checks of this one and a check that verifies that the elements contain the given sequence
+   * of values, without any other values between them.
+   * @param sequence the sequence of values to look for.
+   * @return the new group of checks.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   */
+  public ElementChecks containsSequence(Object... sequence) {
+    return with(Kind.CONTAINS_SEQUENCE, sequence);
+  }
+
+  /**
+   * Returns a group with the checks of this one and a check that verifies that none of the elements is {@code null}.
+   * @return the new group of checks.
+   */
+  public ElementChecks doesNotContainNull() {
+    return with(new Check(Kind.DOES_NOT_CONTAIN_NULL, 0, NO_VALUES));
+  }
+
+  /**
+   * Returns a group with the checks of this one and a check that verifies that there are no duplicates among the
+   * elements.
+   * @return the new group of checks.
+   */
+  public ElementChecks doesNotHaveDuplicates() {
+    return with(new Check(Kind.DOES_NOT_HAVE_DUPLICATES, 0, NO_VALUES));
+  }
+
+  private ElementChecks with(Kind kind, Object[] values) {
+    if (values == null) throw new NullPointerException("The array of values to look for should not be null");
+    if (values.length == 0) throw new IllegalArgumentException("The array of values to look for should not be empty");
+    return with(new Check(kind, 0, values.clone()));
+  }
+
+  private ElementChecks with(Check check) {
+    List<Check> withCheck = new ArrayList<Check>(checks.size() + 1);
+    withCheck.addAll(checks);
+    withCheck.add(check);
+    return new ElementChecks(Collections.unmodifiableList(withCheck));
+  }
+
+  /**
+   * Indicates whether this group has no checks.
+   * @return {@code true} if this group has no checks; {@code false} otherwise.
+   */
+  public boolean isEmpty() {
+    return checks.isEmpty();
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.data;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * How to split the work of an assertion on a large array between threads. Arrays with fewer elements than the
+ * threshold are verified in the calling thread.
+ */
+public class Parallelism {
+
+  /** The default minimum number of elements an array should have to be verified in parallel. */
+  public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+  /** The executor that runs the parts of an assertion. */
+  public final ExecutorService executor;
+
+  /** The number of parts the work of an assertion is split into. */
+  public final int partCount;
+
+  /** The minimum number of elements an array should have to be verified in parallel. */
+  public final int threshold;
+
+  /**
+   * Returns a <code>{@link Parallelism}</code> that uses a shared pool of daemon threads, one per available processor,
+   * and the default threshold.
+   * @return a {@code Parallelism} that uses a shared pool of threads.
+   */
+  public static Parallelism parallelism() {
+    return SharedPool.DEFAULT;
+  }
+
+  /**
+   * Creates a new <code>{@link Parallelism}</code> that uses a shared pool of daemon threads, one per available
+   * processor.
+   * @param threshold the minimum number of elements an array should have to be verified in parallel.
+   * @return the created {@code Parallelism}.
+   * @throws IllegalArgumentException if the given threshold is negative.
+   */
+  public static Parallelism parallelism(int threshold) {
+    return parallelism(SharedPool.EXECUTOR, SharedPool.THREAD_COUNT, threshold);
+  }
+
+  /**
+   * Creates a new <code>{@link Parallelism}</code>.
+   * @param executor the executor that runs the parts of an assertion. It should not be the executor running the
+   * assertion itself, since the assertion waits for all its parts to finish.
+   * @param partCount the number of parts the work of an assertion is split into.
+   * @param threshold the minimum number of elements an array should have to be verified in parallel.
+   * @return the created {@code Parallelism}.
+   * @throws NullPointerException if the given executor is {@code null}.
+   * @throws IllegalArgumentException if the given number of parts is less than one.
+   * @throws IllegalArgumentException if the given threshold is negative.
+   */
+  public static Parallelism parallelism(ExecutorService executor, int partCount, int threshold) {
+    if (executor == null) throw new NullPointerException("The executor should not be null");
+    if (partCount < 1) throw new IllegalArgumentException("The number of parts should be greater than zero");
+    if (threshold < 0) throw new IllegalArgumentException("The threshold should not be negative");
+    return new Parallelism(executor, partCount, threshold);
+  }
+
+  private Parallelism(ExecutorService executor, int partCount, int threshold) {
+    this.executor = executor;
+    this.partCount = partCount;
+    this.threshold = threshold;
+  }
+
+  @Override public String toString() {
+    return String.format("%s[partCount=%d, threshold=%d]", getClass().getSimpleName(), partCount, threshold);
+  }
+
+  private static class SharedPool {
+    static final int THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+    static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREAD_COUNT, new ThreadFactory() {
+      private final AtomicInteger threadCount = new AtomicInteger();
+
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, "fest-assertions-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    static final Parallelism DEFAULT = new Parallelism(EXECUTOR, THREAD_COUNT, DEFAULT_THRESHOLD);
+  }
+}
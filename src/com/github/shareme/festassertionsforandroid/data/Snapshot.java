@@ -0,0 +1,163 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.data;
+
+import static java.util.Arrays.asList;
+
+import java.util.*;
+
+/**
+ * A copy of a collection or map that may be modified by other threads while it is being verified (e.g. a concurrent
+ * queue or a map shared with producer threads.) All the assertions in a chain can verify the same copy, instead of
+ * reading a different state of the original each time.
+ * <p>
+ * The copy is taken with the structure's own bulk operations where possible: collections are copied with
+ * <code>{@link Collection#toArray()}</code>, which is atomic for copy-on-write and synchronized collections, and does
+ * not throw <code>{@link ConcurrentModificationException}</code> for concurrent ones. Maps are copied while holding
+ * their lock, which is the lock used by <code>{@link Hashtable}</code> and synchronized maps, and is not used by
+ * concurrent maps.
+ * </p>
+ * @param <T> the type of the copy.
+ */
+public class Snapshot<T> {
+
+  /** The copy of the original collection or map; {@code null} if the original is {@code null}. */
+  public final T copy;
+
+  /** The number of elements or entries in the copy. */
+  public final int size;
+
+  /** The time it took to take the copy, in nanoseconds. */
+  public final long nanosToTake;
+
+  /**
+   * Takes a snapshot of the given collection. The copy is a sorted {@code Set} using the same comparator if the given
+   * collection is a {@code SortedSet}, a {@code Set} with the same iteration order if it is a {@code HashSet}, or a
+   * fixed-size {@code List} otherwise. Other sets are copied into a {@code List} too, since their equality may not be
+   * the one of {@code equals} (e.g. a set backed by an {@code IdentityHashMap}): the copy keeps their elements and
+   * their order without comparing them again.
+   * @param actual the collection to copy.
+   * @return the created snapshot.
+   */
+  public static Snapshot<Collection<?>> snapshotOf(Collection<?> actual) {
+    long start = System.nanoTime();
+    if (actual == null) return new Snapshot<Collection<?>>(null, 0, start);
+    List<Object> elements = elementsOf(actual);
+    Collection<?> copy = elements;
+    if (actual instanceof SortedSet) copy = sortedSetOf(elements, ((SortedSet<?>) actual).comparator());
+    else if (actual instanceof HashSet) copy = new LinkedHashSet<Object>(elements);
+    return new Snapshot<Collection<?>>(copy, copy.size(), start);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Set<Object> sortedSetOf(List<Object> elements, Comparator<?> comparator) {
+    return new TreeSet<Object>(new SortedElements(elements, (Comparator<Object>) comparator));
+  }
+
+  /**
+   * The elements of a {@code SortedSet}, already in order. <code>{@link TreeSet}</code> builds a copy of a
+   * {@code SortedSet} in linear time, without comparing its elements again.
+   */
+  private static class SortedElements extends AbstractSet<Object> implements SortedSet<Object> {
+    private final List<Object> elements;
+    private final Comparator<Object> comparator;
+
+    SortedElements(List<Object> elements, Comparator<Object> comparator) {
+      this.elements = elements;
+      this.comparator = comparator;
+    }
+
+    @Override public Iterator<Object> iterator() {
+      return elements.iterator();
+    }
+
+    @Override public int size() {
+      return elements.size();
+    }
+
+    public Comparator<? super Object> comparator() {
+      return comparator;
+    }
+
+    public Object first() {
+      if (elements.isEmpty()) throw new NoSuchElementException();
+      return elements.get(0);
+    }
+
+    public Object last() {
+      if (elements.isEmpty()) throw new NoSuchElementException();
+      return elements.get(elements.size() - 1);
+    }
+
+    public SortedSet<Object> subSet(Object fromElement, Object toElement) {
+      throw new UnsupportedOperationException();
+    }
+
+    public SortedSet<Object> headSet(Object toElement) {
+      throw new UnsupportedOperationException();
+    }
+
+    public SortedSet<Object> tailSet(Object fromElement) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  /**
+   * Takes a snapshot of the given list. The copy is a fixed-size {@code List}.
+   * @param actual the list to copy.
+   * @return the created snapshot.
+   */
+  public static Snapshot<List<?>> snapshotOf(List<?> actual) {
+    long start = System.nanoTime();
+    if (actual == null) return new Snapshot<List<?>>(null, 0, start);
+    List<Object> copy = elementsOf(actual);
+    return new Snapshot<List<?>>(copy, copy.size(), start);
+  }
+
+  private static List<Object> elementsOf(Collection<?> actual) {
+    return asList(actual.toArray());
+  }
+
+  /**
+   * Takes a snapshot of the given map. The copy is a {@code SortedMap} using the same comparator if the given map is
+   * sorted, or a {@code Map} with the same iteration order otherwise.
+   * @param actual the map to copy.
+   * @return the created snapshot.
+   */
+  public static Snapshot<Map<?, ?>> snapshotOf(Map<?, ?> actual) {
+    long start = System.nanoTime();
+    if (actual == null) return new Snapshot<Map<?, ?>>(null, 0, start);
+    Map<?, ?> copy;
+    synchronized (actual) {
+      copy = actual instanceof SortedMap ? sortedMapOf(actual) : new LinkedHashMap<Object, Object>(actual);
+    }
+    return new Snapshot<Map<?, ?>>(copy, copy.size(), start);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<?, ?> sortedMapOf(Map<?, ?> actual) {
+    return new TreeMap<Object, Object>((SortedMap<Object, Object>) actual);
+  }
+
+  private Snapshot(T copy, int size, long start) {
+    this.copy = copy;
+    this.size = size;
+    nanosToTake = System.nanoTime() - start;
+  }
+
+  @Override public String toString() {
+    return String.format("%s[size=%s, nanosToTake=%s]", getClass().getSimpleName(), size, nanosToTake);
+  }
+}
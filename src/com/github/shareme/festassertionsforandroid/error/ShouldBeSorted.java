@@ -0,0 +1,65 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.error;
+
+import static com.github.shareme.festutilitiesandroid.Systems.LINE_SEPARATOR;
+
+import java.lang.reflect.Array;
+import java.util.Comparator;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that an array is sorted failed.
+ */
+public class ShouldBeSorted extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldBeSorted}</code>.
+   * @param i the index of the first element that is greater than the element that follows it.
+   * @param group the actual array in the failed assertion.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeSorted(int i, Object group) {
+    return new ShouldBeSorted("group is not sorted because element <%s>:<%s> is not less or equal than element "
+        + "<%s>:<%s>." + LINE_SEPARATOR + "group was:<%s>", i, Array.get(group, i), i + 1, Array.get(group, i + 1),
+        group);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldBeSorted}</code>.
+   * @param i the index of the first element that the given comparator orders after the element that follows it.
+   * @param group the actual array in the failed assertion.
+   * @param comparator the comparator the array should be sorted according to.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeSortedAccordingToGivenComparator(int i, Object group,
+      Comparator<?> comparator) {
+    return new ShouldBeSorted("group is not sorted according to comparator:<%s> because element <%s>:<%s> is not less "
+        + "or equal than element <%s>:<%s>." + LINE_SEPARATOR + "group was:<%s>", comparator, i, Array.get(group, i),
+        i + 1, Array.get(group, i + 1), group);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldBeSorted}</code>.
+   * @param group the actual array in the failed assertion.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveMutuallyComparableElements(Object group) {
+    return new ShouldBeSorted("some elements are not mutually comparable in group:<%s>", group);
+  }
+
+  private ShouldBeSorted(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
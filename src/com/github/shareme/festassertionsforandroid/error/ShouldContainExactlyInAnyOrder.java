@@ -0,0 +1,45 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.error;
+
+import java.util.Map;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a group of elements contains exactly the
+ * given values, each of them as many times as it was given, in any order, failed. A group of elements can be a
+ * collection or an array.
+ */
+public class ShouldContainExactlyInAnyOrder extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldContainExactlyInAnyOrder}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param expected values expected to be the elements of {@code actual}.
+   * @param missing the values found fewer times in {@code actual} than in {@code expected}, mapped to the number of
+   * times they are missing.
+   * @param notExpected the elements found more times in {@code actual} than in {@code expected}, mapped to the number
+   * of times they were not expected.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainExactlyInAnyOrder(Object actual, Object expected,
+      Map<?, Integer> missing, Map<?, Integer> notExpected) {
+    return new ShouldContainExactlyInAnyOrder(actual, expected, missing, notExpected);
+  }
+
+  private ShouldContainExactlyInAnyOrder(Object actual, Object expected, Object missing, Object notExpected) {
+    super("expecting:<%s> to contain exactly in any order:<%s>; missing (element=times):<%s> and not expected "
+        + "(element=times):<%s>", actual, expected, missing, notExpected);
+  }
+}
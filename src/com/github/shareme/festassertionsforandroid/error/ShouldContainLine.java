@@ -0,0 +1,51 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.error;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a text contains, or does not contain, a
+ * given line failed.
+ */
+public class ShouldContainLine extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldContainLine}</code>.
+   * @param actual the actual value in the failed assertion, or an excerpt of it.
+   * @param lineCount the number of lines of {@code actual}.
+   * @param line the line expected to be in {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainLine(Object actual, int lineCount, Object line) {
+    return new ShouldContainLine("expecting:<%s> to contain line:<%s> but none of its <%s> line(s) was equal to it",
+        actual, line, lineCount);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldContainLine}</code> for an assertion that verifies that a text does not contain a
+   * given line.
+   * @param actual the actual value in the failed assertion, or an excerpt of it.
+   * @param line the line expected not to be in {@code actual}.
+   * @param lineNumbers the numbers of the lines of {@code actual} that are equal to {@code line}, starting at 1.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldNotContainLine(Object actual, Object line, Object lineNumbers) {
+    return new ShouldContainLine("expecting:<%s> not to contain line:<%s> but found it at line(s):<%s>", actual, line,
+        lineNumbers);
+  }
+
+  private ShouldContainLine(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
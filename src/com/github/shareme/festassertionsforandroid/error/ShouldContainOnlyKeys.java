@@ -0,0 +1,40 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.error;
+
+/**
+ * Creates an error message indicating that an assertion that verifies a map contains only a given set of keys and
+ * nothing else failed.
+ */
+public class ShouldContainOnlyKeys extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldContainOnlyKeys}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param expected keys expected to be the only ones in {@code actual}.
+   * @param notFound keys in {@code expected} not found in {@code actual}.
+   * @param notExpected keys in {@code actual} that were not in {@code expected}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainOnlyKeys(Object actual, Object expected, Object notFound,
+      Object notExpected) {
+    return new ShouldContainOnlyKeys(actual, expected, notFound, notExpected);
+  }
+
+  private ShouldContainOnlyKeys(Object actual, Object expected, Object notFound, Object notExpected) {
+    super("expecting:<%s> to contain only key(s):<%s>; not found:<%s> and not expected:<%s>", actual, expected,
+        notFound, notExpected);
+  }
+}
@@ -32,7 +32,28 @@ public class ShouldContainSequence extends BasicErrorMessageFactory {
     return new ShouldContainSequence(actual, sequence);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldContainSequence}</code> that also reports the longest part of the sequence that
+   * was found in {@code actual}.
+   * @param actual the actual value in the failed assertion.
+   * @param sequence the sequence of values expected to be in {@code actual}.
+   * @param partialMatchStart the index in {@code actual} where the longest partial match of the sequence starts.
+   * @param partialMatchSize the number of values of the sequence in the longest partial match; if zero, not even the
+   * first value of the sequence was found.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainSequence(Object actual, Object sequence, int partialMatchStart,
+      int partialMatchSize) {
+    if (partialMatchSize == 0) return new ShouldContainSequence(actual, sequence);
+    return new ShouldContainSequence(actual, sequence, partialMatchStart, partialMatchSize);
+  }
+
   private ShouldContainSequence(Object actual, Object sequence) {
     super("expecting:<%s> to contain sequence:<%s>", actual, sequence);
   }
+
+  private ShouldContainSequence(Object actual, Object sequence, int partialMatchStart, int partialMatchSize) {
+    super("expecting:<%s> to contain sequence:<%s> but only its first <%s> value(s) were found, starting at index:<%s>",
+        actual, sequence, partialMatchSize, partialMatchStart);
+  }
 }
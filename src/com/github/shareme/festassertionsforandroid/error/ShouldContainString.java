@@ -15,8 +15,8 @@
 package com.github.shareme.festassertionsforandroid.error;
 
 /**
- * Creates an error message indicating that an assertion that verifies that a {@code String} contains another
- * {@code String} failed.
+ * Creates an error message indicating that an assertion that verifies that a {@code String} or another
+ * {@code CharSequence} contains a sequence of characters failed.
  *
  * @author Alex Ruiz
  */
@@ -28,7 +28,7 @@ public class ShouldContainString extends BasicErrorMessageFactory {
    * @param sequence the sequence of values expected to be in {@code actual}.
    * @return the created {@code ErrorMessageFactory}.
    */
-  public static ErrorMessageFactory shouldContain(String actual, String sequence) {
+  public static ErrorMessageFactory shouldContain(CharSequence actual, CharSequence sequence) {
     return new ShouldContainString("expecting:<%s> to contain:<%s>", actual, sequence);
   }
 
@@ -38,11 +38,22 @@ public class ShouldContainString extends BasicErrorMessageFactory {
    * @param sequence the sequence of values expected to be in {@code actual}.
    * @return the created {@code ErrorMessageFactory}.
    */
-  public static ErrorMessageFactory shouldContainIgnoringCase(String actual, String sequence) {
+  public static ErrorMessageFactory shouldContainIgnoringCase(CharSequence actual, CharSequence sequence) {
     return new ShouldContainString("expecting:<%s> to contain:<%s> (ignoring case)", actual, sequence);
   }
 
-  private ShouldContainString(String format, String actual, String sequence) {
+  /**
+   * Creates a new <code>{@link ShouldContainString}</code> for an assertion that verifies that a {@code String}
+   * contains at least one of a group of {@code String}s.
+   * @param actual the actual value in the failed assertion.
+   * @param sequences the sequences of which at least one was expected to be in {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainAny(String actual, String[] sequences) {
+    return new ShouldContainString("expecting:<%s> to contain any of:<%s>", actual, sequences);
+  }
+
+  private ShouldContainString(String format, CharSequence actual, Object sequence) {
     super(format, actual, sequence);
   }
 }
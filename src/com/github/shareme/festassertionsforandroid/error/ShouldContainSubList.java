@@ -0,0 +1,47 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.error;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a list contains another list as a contiguous
+ * sublist failed.
+ */
+public class ShouldContainSubList extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldContainSubList}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param subList the list expected to be a sublist of {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainSubList(Object actual, Object subList) {
+    return new ShouldContainSubList("expecting:<%s> to contain sublist:<%s>", actual, subList);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldContainSubList}</code> for the assertion that verifies that the actual list is a
+   * contiguous sublist of another one.
+   * @param actual the actual value in the failed assertion.
+   * @param list the list expected to contain {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeSubListOf(Object actual, Object list) {
+    return new ShouldContainSubList("expecting:<%s> to be a sublist of:<%s>", actual, list);
+  }
+
+  private ShouldContainSubList(String format, Object actual, Object other) {
+    super(format, actual, other);
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.error;
+
+/**
+ * Creates an error message indicating that an assertion that verifies a map contains a given set of values failed.
+ */
+public class ShouldContainValues extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldContainValues}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param expected values expected to be in {@code actual}.
+   * @param notFound the values in {@code expected} not found in {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainValues(Object actual, Object expected, Object notFound) {
+    return new ShouldContainValues(actual, expected, notFound);
+  }
+
+  private ShouldContainValues(Object actual, Object expected, Object notFound) {
+    super("expecting:<%s> to contain value(s):<%s> but could not find:<%s>", actual, expected, notFound);
+  }
+}
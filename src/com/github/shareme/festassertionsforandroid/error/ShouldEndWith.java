@@ -29,10 +29,20 @@ public class ShouldEndWith extends BasicErrorMessageFactory {
    * @return the created {@code ErrorMessageFactory}.
    */
   public static ErrorMessageFactory shouldEndWith(Object actual, Object expected) {
-    return new ShouldEndWith(actual, expected);
+    return new ShouldEndWith("expecting:<%s> to end with:<%s>", actual, expected);
   }
 
-  private ShouldEndWith(Object actual, Object expected) {
-    super("expecting:<%s> to end with:<%s>", actual, expected);
+  /**
+   * Creates a new <code>{@link ShouldEndWith}</code> for an assertion that ignores case considerations.
+   * @param actual the actual value in the failed assertion.
+   * @param suffix the suffix that {@code actual} is expected to end with, ignoring case.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldEndWithIgnoringCase(String actual, String suffix) {
+    return new ShouldEndWith("expecting:<%s> to end with:<%s> (ignoring case)", actual, suffix);
+  }
+
+  private ShouldEndWith(String format, Object actual, Object expected) {
+    super(format, actual, expected);
   }
 }
@@ -0,0 +1,46 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.error;
+
+import java.util.List;
+
+import com.github.shareme.festassertionsforandroid.data.Offset;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that the elements of two arrays are equal within
+ * a positive offset failed. Since those arrays are usually large, the message only shows the elements that differ.
+ */
+public class ShouldHaveEqualElementsWithinOffset extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveEqualElementsWithinOffset}</code>.
+   * @param <T> guarantees that the values used in this factory have the same type.
+   * @param indices the indices of the elements that differ, in ascending order.
+   * @param actualValues the elements of the actual array at those indices.
+   * @param expectedValues the elements of the expected array at those indices.
+   * @param offset the given positive offset.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static <T extends Number> ErrorMessageFactory shouldHaveEqualElements(List<Integer> indices,
+      List<T> actualValues, List<T> expectedValues, Offset<T> offset) {
+    return new ShouldHaveEqualElementsWithinOffset(indices, actualValues, expectedValues, offset);
+  }
+
+  private ShouldHaveEqualElementsWithinOffset(List<Integer> indices, List<?> actualValues, List<?> expectedValues,
+      Offset<?> offset) {
+    super("expected elements at index(es):<%s> to be:<%s> but were:<%s> within offset:<%s>", indices, expectedValues,
+        actualValues, offset.value);
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.error;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the number of lines of a text failed.
+ */
+public class ShouldHaveLineCount extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveLineCount}</code>.
+   * @param actual the actual value in the failed assertion, or an excerpt of it.
+   * @param actualLineCount the number of lines of {@code actual}.
+   * @param expectedLineCount the expected number of lines.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveLineCount(Object actual, int actualLineCount, int expectedLineCount) {
+    return new ShouldHaveLineCount(actual, actualLineCount, expectedLineCount);
+  }
+
+  private ShouldHaveLineCount(Object actual, int actualLineCount, int expectedLineCount) {
+    super("expected line count:<%s> but was:<%s> in:<%s>", expectedLineCount, actualLineCount, actual);
+  }
+}
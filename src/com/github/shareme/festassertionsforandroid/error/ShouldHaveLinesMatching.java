@@ -0,0 +1,55 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.error;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all the lines, or any line, of a text
+ * match a pattern failed.
+ */
+public class ShouldHaveLinesMatching extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveLinesMatching}</code> for an assertion that verifies that all the lines of a
+   * text match a pattern. The text itself is not reported, only the lines that do not match.
+   * @param lineCount the number of lines of the actual text.
+   * @param pattern a regular expression pattern.
+   * @param mismatchCount the number of lines of the actual text that do not match the pattern.
+   * @param mismatches the first lines that do not match the pattern, or an excerpt of them, keyed by their number
+   * (starting at 1.)
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveAllLinesMatching(int lineCount, String pattern, int mismatchCount,
+      Object mismatches) {
+    return new ShouldHaveLinesMatching("expecting all the <%s> line(s) to match the pattern:<%s> but <%s> did not, "
+        + "starting with:<%s>", lineCount, pattern, mismatchCount, mismatches);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveLinesMatching}</code> for an assertion that verifies that at least one line of
+   * a text matches a pattern.
+   * @param actual the actual value in the failed assertion, or an excerpt of it.
+   * @param lineCount the number of lines of {@code actual}.
+   * @param pattern a regular expression pattern.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveAnyLineMatching(Object actual, int lineCount, String pattern) {
+    return new ShouldHaveLinesMatching("expecting any of the <%s> line(s) of:<%s> to match the pattern:<%s>",
+        lineCount, actual, pattern);
+  }
+
+  private ShouldHaveLinesMatching(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
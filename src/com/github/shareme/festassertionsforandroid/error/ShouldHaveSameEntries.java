@@ -0,0 +1,53 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.error;
+
+import java.util.List;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that two maps are equal failed. Since those maps
+ * can be large, the message does not show them: it shows their sizes and some of the differences between them.
+ */
+public class ShouldHaveSameEntries extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameEntries}</code>.
+   * @param sizeOfActual the number of entries in the actual map.
+   * @param sizeOfExpected the number of entries in the expected map.
+   * @param differenceCount the number of differences between the maps: the keys missing from the actual map, the keys
+   * the expected map does not have, and the keys mapped to different values.
+   * @param missingKeys some of the keys of the expected map that are missing from the actual one.
+   * @param unexpectedKeys some of the keys of the actual map that are not in the expected one.
+   * @param keysWithDifferentValues some of the keys that are mapped to different values.
+   * @param actualValues the values the actual map maps those keys to.
+   * @param expectedValues the values the expected map maps those keys to.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameEntries(int sizeOfActual, int sizeOfExpected, int differenceCount,
+      List<?> missingKeys, List<?> unexpectedKeys, List<?> keysWithDifferentValues, List<?> actualValues,
+      List<?> expectedValues) {
+    return new ShouldHaveSameEntries(sizeOfActual, sizeOfExpected, differenceCount, missingKeys, unexpectedKeys,
+        keysWithDifferentValues, actualValues, expectedValues);
+  }
+
+  private ShouldHaveSameEntries(int sizeOfActual, int sizeOfExpected, int differenceCount, List<?> missingKeys,
+      List<?> unexpectedKeys, List<?> keysWithDifferentValues, List<?> actualValues, List<?> expectedValues) {
+    super("expecting map of size:<%s> to be equal to map of size:<%s> but found <%s> difference(s), of which <%s> "
+        + "are shown: missing key(s):<%s>, unexpected key(s):<%s>, key(s):<%s> expected to map to:<%s> but mapped "
+        + "to:<%s>", sizeOfActual, sizeOfExpected, differenceCount,
+        missingKeys.size() + unexpectedKeys.size() + keysWithDifferentValues.size(), missingKeys, unexpectedKeys,
+        keysWithDifferentValues, expectedValues, actualValues);
+  }
+}
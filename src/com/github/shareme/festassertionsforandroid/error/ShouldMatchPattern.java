@@ -27,11 +27,11 @@ public class ShouldMatchPattern extends BasicErrorMessageFactory {
    * @param pattern a regular expression pattern.
    * @return the created {@code ErrorMessageFactory}.
    */
-  public static ErrorMessageFactory shouldMatch(String actual, String pattern) {
+  public static ErrorMessageFactory shouldMatch(CharSequence actual, String pattern) {
     return new ShouldMatchPattern(actual, pattern);
   }
 
-  private ShouldMatchPattern(String actual, String pattern) {
+  private ShouldMatchPattern(CharSequence actual, String pattern) {
     super("%s does not match the pattern %s", actual, pattern);
   }
 }
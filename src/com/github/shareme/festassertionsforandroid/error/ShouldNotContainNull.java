@@ -31,7 +31,24 @@ public class ShouldNotContainNull extends BasicErrorMessageFactory {
     return new ShouldNotContainNull(actual);
   }
 
+  /**
+   * Creates a new </code>{@link ShouldNotContainNull}</code> that also reports where the {@code null} element was
+   * found, for groups of elements that can only be read once.
+   * @param actual the actual value in the failed assertion.
+   * @param index the index of the {@code null} element.
+   * @param elementsBefore some of the elements right before the {@code null} one.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldNotContainNull(Object actual, int index, Object elementsBefore) {
+    return new ShouldNotContainNull(actual, index, elementsBefore);
+  }
+
   private ShouldNotContainNull(Object actual) {
     super("expecting:<%s> not to contain <null> elements", actual);
   }
+
+  private ShouldNotContainNull(Object actual, int index, Object elementsBefore) {
+    super("expecting:<%s> not to contain <null> elements but found one at index:<%s>, after:<%s>", actual, index,
+        elementsBefore);
+  }
 }
@@ -15,8 +15,8 @@
 package com.github.shareme.festassertionsforandroid.error;
 
 /**
- * Creates an error message indicating that an assertion that verifies that a {@code String} does not contain another
- * {@code String} failed.
+ * Creates an error message indicating that an assertion that verifies that a {@code String} or another
+ * {@code CharSequence} does not contain a sequence of characters failed.
  *
  * @author Alex Ruiz
  */
@@ -28,11 +28,11 @@ public class ShouldNotContainString extends BasicErrorMessageFactory {
    * @param sequence the sequence of values expected not to be in {@code actual}.
    * @return the created {@code ErrorMessageFactory}.
    */
-  public static ErrorMessageFactory shouldNotContain(String actual, String sequence) {
+  public static ErrorMessageFactory shouldNotContain(CharSequence actual, CharSequence sequence) {
     return new ShouldNotContainString(actual, sequence);
   }
 
-  private ShouldNotContainString(String actual, String sequence) {
+  private ShouldNotContainString(CharSequence actual, CharSequence sequence) {
     super("expecting:<%s> not to contain:<%s>", actual, sequence);
   }
 }
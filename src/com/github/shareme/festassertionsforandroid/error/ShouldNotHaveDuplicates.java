@@ -32,7 +32,25 @@ public class ShouldNotHaveDuplicates extends BasicErrorMessageFactory {
     return new ShouldNotHaveDuplicates(actual, duplicates);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldNotHaveDuplicates}</code> that reports the first duplicate found and where it was
+   * found, for groups of elements that can only be read once.
+   * @param actual the actual value in the failed assertion.
+   * @param duplicate the first value found twice in {@code actual}.
+   * @param index the index where the value was found the second time.
+   * @param elementsBefore some of the elements right before the duplicate.
+   * @return an instance of {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldNotHaveDuplicates(Object actual, Object duplicate, int index,
+      Object elementsBefore) {
+    return new ShouldNotHaveDuplicates(actual, duplicate, index, elementsBefore);
+  }
+
   private ShouldNotHaveDuplicates(Object actual, Object duplicates) {
     super("found duplicate(s):<%s> in:<%s>", duplicates, actual);
   }
+
+  private ShouldNotHaveDuplicates(Object actual, Object duplicate, int index, Object elementsBefore) {
+    super("found duplicate:<%s> at index:<%s> in:<%s>, after:<%s>", duplicate, index, actual, elementsBefore);
+  }
 }
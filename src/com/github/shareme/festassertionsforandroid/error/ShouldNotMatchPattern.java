@@ -28,11 +28,11 @@ public class ShouldNotMatchPattern extends BasicErrorMessageFactory {
    * @param pattern a regular expression pattern.
    * @return the created {@code ErrorMessageFactory}.
    */
-  public static ErrorMessageFactory shouldNotMatch(String actual, String pattern) {
+  public static ErrorMessageFactory shouldNotMatch(CharSequence actual, String pattern) {
     return new ShouldNotMatchPattern(actual, pattern);
   }
 
-  private ShouldNotMatchPattern(String actual, String pattern) {
+  private ShouldNotMatchPattern(CharSequence actual, String pattern) {
     super("%s matches the pattern %s", actual, pattern);
   }
 }
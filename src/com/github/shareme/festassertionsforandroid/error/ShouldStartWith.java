@@ -29,10 +29,32 @@ public class ShouldStartWith extends BasicErrorMessageFactory {
    * @return the created {@code ErrorMessageFactory}.
    */
   public static ErrorMessageFactory shouldStartWith(Object actual, Object expected) {
-    return new ShouldStartWith(actual, expected);
+    return new ShouldStartWith("expecting:<%s> to start with:<%s>", actual, expected);
   }
 
-  private ShouldStartWith(Object actual, Object expected) {
-    super("expecting:<%s> to start with:<%s>", actual, expected);
+  /**
+   * Creates a new <code>{@link ShouldStartWith}</code> that also reports the first values of {@code actual}, for groups
+   * of elements that can only be read once.
+   * @param actual the actual value in the failed assertion.
+   * @param expected the sequence of values that {@code actual} is expected to start with.
+   * @param first the first values of {@code actual}, up to the first one that differs from the expected sequence.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldStartWith(Object actual, Object expected, Object first) {
+    return new ShouldStartWith("expecting:<%s> to start with:<%s> but it started with:<%s>", actual, expected, first);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldStartWith}</code> for an assertion that ignores case considerations.
+   * @param actual the actual value in the failed assertion.
+   * @param prefix the prefix that {@code actual} is expected to start with, ignoring case.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldStartWithIgnoringCase(String actual, String prefix) {
+    return new ShouldStartWith("expecting:<%s> to start with:<%s> (ignoring case)", actual, prefix);
+  }
+
+  private ShouldStartWith(String format, Object... arguments) {
+    super(format, arguments);
   }
 }
@@ -18,6 +18,7 @@ import static com.github.shareme.festassertionsforandroid.error.ShouldBeEmpty.sh
 import static com.github.shareme.festassertionsforandroid.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
 import static com.github.shareme.festassertionsforandroid.error.ShouldContain.shouldContain;
 import static com.github.shareme.festassertionsforandroid.error.ShouldContainAtIndex.shouldContainAtIndex;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainExactlyInAnyOrder.shouldContainExactlyInAnyOrder;
 import static com.github.shareme.festassertionsforandroid.error.ShouldContainNull.shouldContainNull;
 import static com.github.shareme.festassertionsforandroid.error.ShouldContainOnly.shouldContainOnly;
 import static com.github.shareme.festassertionsforandroid.error.ShouldContainSequence.shouldContainSequence;
@@ -31,6 +32,8 @@ import static com.github.shareme.festassertionsforandroid.error.ShouldNotHaveDup
 import static com.github.shareme.festassertionsforandroid.error.ShouldStartWith.shouldStartWith;
 import static com.github.shareme.festassertionsforandroid.internal.CommonErrors.*;
 import static com.github.shareme.festassertionsforandroid.internal.CommonValidations.checkIndexValueIsValid;
+import static com.github.shareme.festassertionsforandroid.internal.Lookups.shouldIndex;
+import static com.github.shareme.festassertionsforandroid.internal.Mismatches.collect;
 import static com.github.shareme.festassertionsforandroid.util.ArrayWrapperList.wrap;
 import static com.github.shareme.festutilitiesandroid.Collections.duplicatesFrom;
 import static com.github.shareme.festutilitiesandroid.Objects.areEqual;
@@ -43,7 +46,12 @@ import com.github.shareme.festassertionsforandroid.data.Index;
 import com.github.shareme.festassertionsforandroid.util.ArrayWrapperList;
 
 /**
- * Assertions for object and primitive arrays. It trades off performance for DRY.
+ * Assertions for arrays of objects. It trades off performance for DRY.
+ * <p>
+ * Arrays of primitives are verified by type-specific classes (e.g. <code>{@link IntArrays}</code>,) which read their
+ * elements directly instead of using reflection and boxing. Elements are read through the views returned by
+ * <code>{@link ArrayWrapperList#wrap(Object)}</code>, which do not use reflection either.
+ * </p>
  *
  * @author Alex Ruiz
  */
@@ -78,13 +86,8 @@ class Arrays {
   void assertContains(AssertionInfo info, Failures failures, Object array, Object values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
-    Set<Object> notFound = new LinkedHashSet<Object>();
-    int valueCount = sizeOf(values);
-    for (int i = 0; i < valueCount; i++) {
-      Object value = Array.get(values, i);
-      if (!arrayContains(array, value)) notFound.add(value);
-    }
-    if (notFound.isEmpty()) return;
+    Set<Object> notFound = lookUp(array, values, false);
+    if (notFound == null) return;
     throw failures.failure(info, shouldContain(array, values, notFound));
   }
 
@@ -122,6 +125,15 @@ class Arrays {
     throw failures.failure(info, shouldContainOnly(array, values, notFound, notExpected));
   }
 
+  void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object array, Object values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    assertNotNull(info, array);
+    CountDifference difference = CountDifference.compute(wrap(array), wrap(values));
+    if (difference == null) return;
+    throw failures.failure(info,
+        shouldContainExactlyInAnyOrder(array, values, difference.missing, difference.notExpected));
+  }
+
   private Set<Object> containsOnly(Set<Object> actual, Object values) {
     Set<Object> notFound = new LinkedHashSet<Object>();
     for (Object o : asSet(values)) {
@@ -132,61 +144,57 @@ class Arrays {
   }
 
   private Set<Object> asSet(Object array) {
-    Set<Object> set = new LinkedHashSet<Object>();
-    int size = sizeOf(array);
-    for (int i = 0; i < size; i++) {
-      Object element = Array.get(array, i);
-      set.add(element);
-    }
-    return set;
+    return new LinkedHashSet<Object>(wrap(array));
   }
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object array, Object sequence) {
     checkIsNotNullAndNotEmpty(sequence);
     assertNotNull(info, array);
-    boolean firstAlreadyFound = false;
-    int i = 0;
-    int sequenceSize = sizeOf(sequence);
-    int sizeOfActual = sizeOf(array);
-    for (int j = 0; j < sizeOfActual; j++) {
-      Object o = Array.get(array, j);
-      if (i >= sequenceSize) break;
-      if (!firstAlreadyFound) {
-        if (!areEqual(o, Array.get(sequence, i))) continue;
-        firstAlreadyFound = true;
-        i++;
-        continue;
-      }
-      if (areEqual(o, Array.get(sequence, i++))) continue;
-      throw arrayDoesNotContainSequence(info, failures, array, sequence);
-    }
-    if (!firstAlreadyFound || i < sequenceSize) throw arrayDoesNotContainSequence(info, failures, array, sequence);
-  }
-
-  private AssertionError arrayDoesNotContainSequence(AssertionInfo info, Failures failures, Object array,
-      Object sequence) {
-    return failures.failure(info, shouldContainSequence(array, sequence));
+    SequenceMatch match = SequenceMatch.find(wrap(array), wrap(sequence));
+    if (match.found) return;
+    throw failures.failure(info, shouldContainSequence(array, sequence, match.start, match.size));
   }
 
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
-    Set<Object> found = new LinkedHashSet<Object>();
-    int valueCount = sizeOf(values);
+    Set<Object> found = lookUp(array, values, true);
+    if (found == null) return;
+    throw failures.failure(info, shouldNotContain(array, values, found));
+  }
+
+  /**
+   * Returns the given values that are (or are not) in the given array, in the order they were given. The array is
+   * scanned once per value, unless there are enough values to make a single pass that indexes the array in a
+   * {@code HashSet} cheaper. Values that are arrays are always looked up by scanning, since they are compared by
+   * content instead of using {@code equals}. Returns {@code null} instead of an empty set, so that a lookup that finds
+   * nothing to report does not allocate anything unless it indexes the array.
+   */
+  private Set<Object> lookUp(Object array, Object values, boolean found) {
+    Set<Object> result = null;
+    ArrayWrapperList elements = wrap(array), valueList = wrap(values);
+    int valueCount = valueList.size();
+    Set<Object> index = shouldIndex(elements.size(), valueCount) ? new HashSet<Object>(elements) : null;
     for (int i = 0; i < valueCount; i++) {
-      Object value = Array.get(values, i);
-      if (arrayContains(array, value)) found.add(value);
+      Object value = valueList.get(i);
+      boolean contained = index != null && !isArray(value) ? index.contains(value) : contains(elements, value);
+      if (contained == found) result = collect(result, value);
     }
-    if (found.isEmpty()) return;
-    throw failures.failure(info, shouldNotContain(array, values, found));
+    return result;
+  }
+
+  private static boolean isArray(Object o) {
+    return o != null && o.getClass().isArray();
   }
 
   private boolean arrayContains(Object array, Object value) {
-    int size = sizeOf(array);
-    for (int i = 0; i < size; i++) {
-      Object element = Array.get(array, i);
-      if (areEqual(element, value)) return true;
-    }
+    return contains(wrap(array), value);
+  }
+
+  private static boolean contains(ArrayWrapperList elements, Object value) {
+    int size = elements.size();
+    for (int i = 0; i < size; i++)
+      if (areEqual(elements.get(i), value)) return true;
     return false;
   }
 
@@ -201,11 +209,12 @@ class Arrays {
   void assertStartsWith(AssertionInfo info, Failures failures, Object array, Object sequence) {
     checkIsNotNullAndNotEmpty(sequence);
     assertNotNull(info, array);
-    int sequenceSize = sizeOf(sequence);
-    int arraySize = sizeOf(array);
+    ArrayWrapperList sequenceList = wrap(sequence), arrayList = wrap(array);
+    int sequenceSize = sequenceList.size();
+    int arraySize = arrayList.size();
     if (arraySize < sequenceSize) throw arrayDoesNotStartWithSequence(info, failures, array, sequence);
     for (int i = 0; i < sequenceSize; i++) {
-      if (areEqual(Array.get(sequence, i), Array.get(array, i))) continue;
+      if (areEqual(sequenceList.get(i), arrayList.get(i))) continue;
       throw arrayDoesNotStartWithSequence(info, failures, array, sequence);
     }
   }
@@ -218,13 +227,14 @@ class Arrays {
   void assertEndsWith(AssertionInfo info, Failures failures, Object array, Object sequence) {
     checkIsNotNullAndNotEmpty(sequence);
     assertNotNull(info, array);
-    int sequenceSize = sizeOf(sequence);
-    int arraySize = sizeOf(array);
+    ArrayWrapperList sequenceList = wrap(sequence), arrayList = wrap(array);
+    int sequenceSize = sequenceList.size();
+    int arraySize = arrayList.size();
     if (arraySize < sequenceSize) throw arrayDoesNotEndWithSequence(info, failures, array, sequence);
     for (int i = 0; i < sequenceSize; i++) {
       int sequenceIndex = sequenceSize - (i + 1);
       int arrayIndex = arraySize - (i + 1);
-      if (areEqual(Array.get(sequence, sequenceIndex), Array.get(array, arrayIndex))) continue;
+      if (areEqual(sequenceList.get(sequenceIndex), arrayList.get(arrayIndex))) continue;
       throw arrayDoesNotEndWithSequence(info, failures, array, sequence);
     }
   }
@@ -14,6 +14,29 @@
  */
 package com.github.shareme.festassertionsforandroid.internal;
 
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeEmpty.shouldBeEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeSorted.*;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContain.shouldContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainAtIndex.shouldContainAtIndex;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainExactlyInAnyOrder.shouldContainExactlyInAnyOrder;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainOnly.shouldContainOnly;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainSequence.shouldContainSequence;
+import static com.github.shareme.festassertionsforandroid.error.ShouldEndWith.shouldEndWith;
+import static com.github.shareme.festassertionsforandroid.error.ShouldHaveSize.shouldHaveSize;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContain.shouldNotContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContainAtIndex.shouldNotContainAtIndex;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotHaveDuplicates.shouldNotHaveDuplicates;
+import static com.github.shareme.festassertionsforandroid.error.ShouldStartWith.shouldStartWith;
+import static com.github.shareme.festassertionsforandroid.internal.CommonErrors.*;
+import static com.github.shareme.festassertionsforandroid.internal.CommonValidations.checkIndexValueIsValid;
+import static com.github.shareme.festassertionsforandroid.internal.Lookups.shouldIndex;
+import static com.github.shareme.festassertionsforandroid.internal.Mismatches.collect;
+import static com.github.shareme.festassertionsforandroid.internal.SequenceMatch.MAXIMUM_NAIVE_SEARCH_SIZE;
+
+import java.util.*;
+
 import com.github.shareme.festassertionsforandroid.core.AssertionInfo;
 import com.github.shareme.festassertionsforandroid.data.Index;
 import com.github.shareme.festutilitiesandroid.VisibleForTesting;
@@ -35,8 +58,6 @@ public class BooleanArrays {
     return INSTANCE;
   }
 
-  private final Arrays arrays = Arrays.instance();
-
   @VisibleForTesting Failures failures = Failures.instance();
 
   @VisibleForTesting BooleanArrays() {}
@@ -48,7 +69,8 @@ public class BooleanArrays {
    * @throws AssertionError if the given array is not {@code null} *and* contains one or more elements.
    */
   public void assertNullOrEmpty(AssertionInfo info, boolean[] actual) {
-    arrays.assertNullOrEmpty(info, failures, actual);
+    if (actual == null || actual.length == 0) return;
+    throw failures.failure(info, shouldBeNullOrEmpty(actual));
   }
 
   /**
@@ -59,7 +81,9 @@ public class BooleanArrays {
    * @throws AssertionError if the given array is not empty.
    */
   public void assertEmpty(AssertionInfo info, boolean[] actual) {
-    arrays.assertEmpty(info, failures, actual);
+    assertNotNull(info, actual);
+    if (actual.length == 0) return;
+    throw failures.failure(info, shouldBeEmpty(actual));
   }
 
   /**
@@ -70,7 +94,9 @@ public class BooleanArrays {
    * @throws AssertionError if the given array is empty.
    */
   public void assertNotEmpty(AssertionInfo info, boolean[] actual) {
-    arrays.assertNotEmpty(info, failures, actual);
+    assertNotNull(info, actual);
+    if (actual.length != 0) return;
+    throw failures.failure(info, shouldNotBeEmpty());
   }
 
   /**
@@ -82,7 +108,10 @@ public class BooleanArrays {
    * @throws AssertionError if the number of elements in the given array is different than the expected one.
    */
   public void assertHasSize(AssertionInfo info, boolean[] actual, int expectedSize) {
-    arrays.assertHasSize(info, failures, actual, expectedSize);
+    assertNotNull(info, actual);
+    int sizeOfActual = actual.length;
+    if (sizeOfActual == expectedSize) return;
+    throw failures.failure(info, shouldHaveSize(actual, sizeOfActual, expectedSize));
   }
 
   /**
@@ -96,7 +125,11 @@ public class BooleanArrays {
    * @throws AssertionError if the given array does not contain the given values.
    */
   public void assertContains(AssertionInfo info, boolean[] actual, boolean[] values) {
-    arrays.assertContains(info, failures, actual, values);
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    Set<Boolean> notFound = lookUp(actual, values, false);
+    if (notFound == null) return;
+    throw failures.failure(info, shouldContain(actual, values, notFound));
   }
 
   /**
@@ -112,7 +145,11 @@ public class BooleanArrays {
    * @throws AssertionError if the given array does not contain the given value at the given index.
    */
   public void assertContains(AssertionInfo info, boolean[] actual, boolean value, Index index) {
-    arrays.assertContains(info, failures, actual, value, index);
+    assertNotEmpty(info, actual);
+    checkIndexValueIsValid(index, actual.length - 1);
+    boolean actualElement = actual[index.value];
+    if (actualElement == value) return;
+    throw failures.failure(info, shouldContainAtIndex(actual, value, index, actualElement));
   }
 
   /**
@@ -126,7 +163,12 @@ public class BooleanArrays {
    * @throws AssertionError if the given array contains the given value at the given index.
    */
   public void assertDoesNotContain(AssertionInfo info, boolean[] actual, boolean value, Index index) {
-    arrays.assertDoesNotContain(info, failures, actual, value, index);
+    assertNotNull(info, actual);
+    checkIndexValueIsValid(index, Integer.MAX_VALUE);
+    int indexValue = index.value;
+    if (indexValue >= actual.length) return;
+    if (actual[indexValue] != value) return;
+    throw failures.failure(info, shouldNotContainAtIndex(actual, value, index));
   }
 
   /**
@@ -141,7 +183,59 @@ public class BooleanArrays {
    * array contains values that are not in the given array.
    */
   public void assertContainsOnly(AssertionInfo info, boolean[] actual, boolean[] values) {
-    arrays.assertContainsOnly(info, failures, actual, values);
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    boolean sameElements = arrayContains(actual, true) == arrayContains(values, true)
+        && arrayContains(actual, false) == arrayContains(values, false);
+    if (sameElements) return;
+    Set<Boolean> notFound = elementsNotIn(values, actual);
+    Set<Boolean> notExpected = elementsNotIn(actual, values);
+    throw failures.failure(info, shouldContainOnly(actual, values, notFound, notExpected));
+  }
+
+  private static Set<Boolean> elementsNotIn(boolean[] elements, boolean[] others) {
+    boolean othersContainTrue = arrayContains(others, true);
+    boolean othersContainFalse = arrayContains(others, false);
+    Set<Boolean> notIn = new LinkedHashSet<Boolean>();
+    for (boolean element : elements) if (!(element ? othersContainTrue : othersContainFalse)) notIn.add(element);
+    return notIn;
+  }
+
+  /**
+   * Asserts that the given array contains exactly the given values, in any order: each value appears in the array as
+   * many times as it was given, and the array has no other elements.
+   * Only the number of {@code true} and {@code false} elements in the array are compared.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param values the values that are expected to be the elements of the given array.
+   * @throws NullPointerException if the array of values is {@code null}.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the given array does not contain exactly the given values, each of them as many times as
+   * it was given.
+   */
+  public void assertContainsExactlyInAnyOrder(AssertionInfo info, boolean[] actual, boolean[] values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    assertNotNull(info, actual);
+    int missingTrues = countOfTrue(values) - countOfTrue(actual);
+    int missingFalses = values.length - actual.length - missingTrues;
+    if (missingTrues == 0 && missingFalses == 0) return;
+    Map<Boolean, Integer> missing = new LinkedHashMap<Boolean, Integer>();
+    Map<Boolean, Integer> notExpected = new LinkedHashMap<Boolean, Integer>();
+    reportDifference(true, missingTrues, missing, notExpected);
+    reportDifference(false, missingFalses, missing, notExpected);
+    throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, missing, notExpected));
+  }
+
+  private static int countOfTrue(boolean[] array) {
+    int count = 0;
+    for (boolean element : array) if (element) count++;
+    return count;
+  }
+
+  private static void reportDifference(boolean value, int missingCount, Map<Boolean, Integer> missing,
+      Map<Boolean, Integer> notExpected) {
+    if (missingCount > 0) missing.put(value, missingCount);
+    else if (missingCount < 0) notExpected.put(value, -missingCount);
   }
 
   /**
@@ -155,7 +249,64 @@ public class BooleanArrays {
    * @throws AssertionError if the given array does not contain the given sequence of values.
    */
   public void assertContainsSequence(AssertionInfo info, boolean[] actual, boolean[] sequence) {
-    arrays.assertContainsSequence(info, failures, actual, sequence);
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    if (sequence.length <= MAXIMUM_NAIVE_SEARCH_SIZE) {
+      int start = startOfLongestMatch(actual, sequence);
+      int size = matchSize(actual, start, sequence);
+      if (size == sequence.length) return;
+      throw failures.failure(info, shouldContainSequence(actual, sequence, start, size));
+    }
+    int[] failure = failureFunction(sequence);
+    int matched = 0, longestMatchStart = 0, longestMatchSize = 0;
+    for (int i = 0; i < actual.length; i++) {
+      while (matched > 0 && actual[i] != sequence[matched]) matched = failure[matched - 1];
+      if (actual[i] != sequence[matched]) continue;
+      if (++matched == sequence.length) return;
+      if (matched <= longestMatchSize) continue;
+      longestMatchSize = matched;
+      longestMatchStart = i - matched + 1;
+    }
+    throw failures.failure(info, shouldContainSequence(actual, sequence, longestMatchStart, longestMatchSize));
+  }
+
+  /**
+   * Compares the given sequence with the elements starting at each index of the given array in turn, and returns the
+   * index where the longest match starts (the first one, if there are several.) It does not allocate anything, which
+   * makes it cheaper than the Knuth-Morris-Pratt search for short sequences.
+   */
+  private static int startOfLongestMatch(boolean[] array, boolean[] sequence) {
+    int longestMatchStart = 0, longestMatchSize = 0;
+    for (int start = 0; start < array.length && longestMatchSize < sequence.length; start++) {
+      int size = matchSize(array, start, sequence);
+      if (size <= longestMatchSize) continue;
+      longestMatchSize = size;
+      longestMatchStart = start;
+    }
+    return longestMatchStart;
+  }
+
+  /** Returns the number of values of the given sequence that match the elements starting at the given index. */
+  private static int matchSize(boolean[] array, int start, boolean[] sequence) {
+    int size = 0;
+    int maximumSize = Math.min(sequence.length, array.length - start);
+    while (size < maximumSize && array[start + size] == sequence[size]) size++;
+    return size;
+  }
+
+  /**
+   * Computes the Knuth-Morris-Pratt failure function of the given sequence: for each index {@code i}, the size of the
+   * longest proper prefix of {@code sequence[0..i]} that is also a suffix of it. It lets a search continue after a
+   * mismatch without going back in the searched array. The assertions on buffers use it too.
+   */
+  static int[] failureFunction(boolean[] sequence) {
+    int[] failure = new int[sequence.length];
+    for (int i = 1, matched = 0; i < sequence.length; i++) {
+      while (matched > 0 && sequence[i] != sequence[matched]) matched = failure[matched - 1];
+      if (sequence[i] == sequence[matched]) matched++;
+      failure[i] = matched;
+    }
+    return failure;
   }
 
   /**
@@ -169,7 +320,34 @@ public class BooleanArrays {
    * @throws AssertionError if the given array contains any of given values.
    */
   public void assertDoesNotContain(AssertionInfo info, boolean[] actual, boolean[] values) {
-    arrays.assertDoesNotContain(info, failures, actual, values);
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    Set<Boolean> found = lookUp(actual, values, true);
+    if (found == null) return;
+    throw failures.failure(info, shouldNotContain(actual, values, found));
+  }
+
+  /**
+   * Returns the given values that are (or are not) in the given array, in the order they were given. The array is
+   * scanned once per value, unless there are enough values to make a single pass that indexes the array cheaper.
+   * Returns {@code null} instead of an empty set, so that a lookup that finds nothing to report does not allocate
+   * anything unless it indexes the array.
+   */
+  private static Set<Boolean> lookUp(boolean[] array, boolean[] values, boolean found) {
+    Set<Boolean> result = null;
+    if (!shouldIndex(array.length, values.length)) {
+      for (boolean value : values) if (arrayContains(array, value) == found) result = collect(result, value);
+      return result;
+    }
+    boolean containsTrue = arrayContains(array, true);
+    boolean containsFalse = arrayContains(array, false);
+    for (boolean value : values) if ((value ? containsTrue : containsFalse) == found) result = collect(result, value);
+    return result;
+  }
+
+  private static boolean arrayContains(boolean[] array, boolean value) {
+    for (boolean element : array) if (element == value) return true;
+    return false;
   }
 
   /**
@@ -182,7 +360,25 @@ public class BooleanArrays {
    * @throws AssertionError if the given array contains duplicate values.
    */
   public void assertDoesNotHaveDuplicates(AssertionInfo info, boolean[] actual) {
-    arrays.assertDoesNotHaveDuplicates(info, failures, actual);
+    assertNotNull(info, actual);
+    Set<Boolean> duplicates = duplicatesIn(actual);
+    if (duplicates == null) return;
+    throw failures.failure(info, shouldNotHaveDuplicates(actual, duplicates));
+  }
+
+  /**
+   * Returns the values that appear more than once in the given array, in the order of their second appearance, or
+   * {@code null} if there are none.
+   */
+  private static Set<Boolean> duplicatesIn(boolean[] array) {
+    Set<Boolean> duplicates = null;
+    boolean trueSeen = false, falseSeen = false;
+    for (boolean element : array) {
+      if (element ? trueSeen : falseSeen) duplicates = collect(duplicates, element);
+      else if (element) trueSeen = true;
+      else falseSeen = true;
+    }
+    return duplicates;
   }
 
   /**
@@ -198,7 +394,14 @@ public class BooleanArrays {
    * @throws AssertionError if the given array does not start with the given sequence of values.
    */
   public void assertStartsWith(AssertionInfo info, boolean[] actual, boolean[] sequence) {
-    arrays.assertStartsWith(info, failures, actual, sequence);
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    int sequenceSize = sequence.length;
+    if (actual.length < sequenceSize) throw failures.failure(info, shouldStartWith(actual, sequence));
+    for (int i = 0; i < sequenceSize; i++) {
+      if (sequence[i] == actual[i]) continue;
+      throw failures.failure(info, shouldStartWith(actual, sequence));
+    }
   }
 
   /**
@@ -214,6 +417,57 @@ public class BooleanArrays {
    * @throws AssertionError if the given array does not end with the given sequence of values.
    */
   public void assertEndsWith(AssertionInfo info, boolean[] actual, boolean[] sequence) {
-    arrays.assertEndsWith(info, failures, actual, sequence);
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    int sequenceSize = sequence.length;
+    int offset = actual.length - sequenceSize;
+    if (offset < 0) throw failures.failure(info, shouldEndWith(actual, sequence));
+    for (int i = 0; i < sequenceSize; i++) {
+      if (sequence[i] == actual[offset + i]) continue;
+      throw failures.failure(info, shouldEndWith(actual, sequence));
+    }
+  }
+
+  /**
+   * Verifies that the given array is sorted in ascending order.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the given array is not sorted in ascending order.
+   */
+  public void assertIsSorted(AssertionInfo info, boolean[] actual) {
+    assertNotNull(info, actual);
+    for (int i = 1; i < actual.length; i++) {
+      if (!actual[i - 1] || actual[i]) continue;
+      throw failures.failure(info, shouldBeSorted(i - 1, actual));
+    }
+  }
+
+  /**
+   * Verifies that the given array is sorted according to the given comparator.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param comparator the {@code Comparator} used to compare the elements of the array.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the given array is not sorted according to the given comparator.
+   */
+  public void assertIsSortedAccordingToComparator(AssertionInfo info, boolean[] actual,
+      Comparator<? super Boolean> comparator) {
+    if (comparator == null) throw new NullPointerException("The given comparator should not be null");
+    assertNotNull(info, actual);
+    for (int i = 1; i < actual.length; i++) {
+      if (comparator.compare(actual[i - 1], actual[i]) <= 0) continue;
+      throw failures.failure(info, shouldBeSortedAccordingToGivenComparator(i - 1, actual, comparator));
+    }
+  }
+
+  private static void checkIsNotNullAndNotEmpty(boolean[] values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    if (values.length == 0) throw arrayOfValuesToLookForIsEmpty();
+  }
+
+  private void assertNotNull(AssertionInfo info, boolean[] actual) {
+    Objects.instance().assertNotNull(info, actual);
   }
 }
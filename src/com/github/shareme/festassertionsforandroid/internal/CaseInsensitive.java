@@ -0,0 +1,137 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+/**
+ * Compares character sequences ignoring case considerations, in place and without allocating lower-case copies. Two
+ * code points are considered equal if they are the same, if their upper-case forms are the same, or if the lower-case
+ * forms of their upper-case forms are the same: the rule used by <code>{@link String#equalsIgnoreCase(String)}</code>,
+ * applied to code points instead of {@code char}s, and independent of the default locale. Pairs of ASCII characters are
+ * compared without looking up the Unicode case tables.
+ */
+final class CaseInsensitive {
+
+  private static final int ASCII_LIMIT = 0x80;
+
+  /**
+   * Indicates whether the given sequences are equal, ignoring case considerations.
+   * @param actual the first sequence, not {@code null}.
+   * @param other the second sequence, not {@code null}.
+   * @return {@code true} if the sequences are equal ignoring case, {@code false} otherwise.
+   */
+  static boolean areEqual(CharSequence actual, CharSequence other) {
+    return actual.length() == other.length() && regionMatches(actual, 0, other);
+  }
+
+  /**
+   * Indicates whether the given sequence starts with the given prefix, ignoring case considerations.
+   * @param actual the sequence, not {@code null}.
+   * @param prefix the prefix, not {@code null}.
+   * @return {@code true} if the sequence starts with the prefix ignoring case, {@code false} otherwise.
+   */
+  static boolean startsWith(CharSequence actual, CharSequence prefix) {
+    return actual.length() >= prefix.length() && regionMatches(actual, 0, prefix);
+  }
+
+  /**
+   * Indicates whether the given sequence ends with the given suffix, ignoring case considerations.
+   * @param actual the sequence, not {@code null}.
+   * @param suffix the suffix, not {@code null}.
+   * @return {@code true} if the sequence ends with the suffix ignoring case, {@code false} otherwise.
+   */
+  static boolean endsWith(CharSequence actual, CharSequence suffix) {
+    int offset = actual.length() - suffix.length();
+    return offset >= 0 && regionMatches(actual, offset, suffix);
+  }
+
+  /**
+   * Returns the index of the first occurrence of the given sequence in the given one, ignoring case considerations.
+   * @param actual the sequence to search in, not {@code null}.
+   * @param sequence the sequence to search for, not {@code null}.
+   * @return the index of the first occurrence, or -1 if there is none.
+   */
+  static int indexOf(CharSequence actual, CharSequence sequence) {
+    int last = actual.length() - sequence.length();
+    if (last < 0) return -1;
+    if (sequence.length() == 0) return 0;
+    char first = sequence.charAt(0);
+    if (first >= ASCII_LIMIT) {
+      for (int i = 0; i <= last; i++)
+        if (regionMatches(actual, i, sequence)) return i;
+      return -1;
+    }
+    char lowerFirst = Character.toLowerCase(first);
+    char upperFirst = Character.toUpperCase(first);
+    for (int i = 0; i <= last; i++) {
+      char c = actual.charAt(i);
+      // a non-ASCII character may still match an ASCII one: the Kelvin sign matches 'k', for example.
+      if (c < ASCII_LIMIT && c != lowerFirst && c != upperFirst) continue;
+      if (regionMatches(actual, i, sequence)) return i;
+    }
+    return -1;
+  }
+
+  /**
+   * Indicates whether the given sequence appears in {@code actual} at the given offset, ignoring case considerations.
+   * The caller makes sure that {@code actual} has at least {@code other.length()} characters after {@code offset}.
+   */
+  private static boolean regionMatches(CharSequence actual, int offset, CharSequence other) {
+    int length = other.length();
+    int i = 0;
+    while (i < length) {
+      char c1 = actual.charAt(offset + i);
+      char c2 = other.charAt(i);
+      if (c1 < ASCII_LIMIT && c2 < ASCII_LIMIT) {
+        if (c1 != c2 && foldAscii(c1) != foldAscii(c2)) return false;
+        i++;
+        continue;
+      }
+      // the low surrogates of two code points may differ in case only, so pairs are compared as a whole.
+      if (c1 == c2 && !Character.isHighSurrogate(c1)) {
+        i++;
+        continue;
+      }
+      int cp1 = codePointAt(actual, offset + i, offset + length);
+      int cp2 = codePointAt(other, i, length);
+      int size = Character.charCount(cp1);
+      if (size != Character.charCount(cp2) || !codePointsMatch(cp1, cp2)) return false;
+      i += size;
+    }
+    return true;
+  }
+
+  private static int codePointAt(CharSequence sequence, int index, int limit) {
+    char high = sequence.charAt(index);
+    if (Character.isHighSurrogate(high) && index + 1 < limit) {
+      char low = sequence.charAt(index + 1);
+      if (Character.isLowSurrogate(low)) return Character.toCodePoint(high, low);
+    }
+    return high;
+  }
+
+  private static boolean codePointsMatch(int cp1, int cp2) {
+    if (cp1 == cp2) return true;
+    int upper1 = Character.toUpperCase(cp1);
+    int upper2 = Character.toUpperCase(cp2);
+    if (upper1 == upper2) return true;
+    return Character.toLowerCase(upper1) == Character.toLowerCase(upper2);
+  }
+
+  private static int foldAscii(char c) {
+    return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+  }
+
+  private CaseInsensitive() {}
+}
@@ -14,8 +14,36 @@
  */
 package com.github.shareme.festassertionsforandroid.internal;
 
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeEmpty.shouldBeEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeSorted.*;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContain.shouldContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainAtIndex.shouldContainAtIndex;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainExactlyInAnyOrder.shouldContainExactlyInAnyOrder;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainOnly.shouldContainOnly;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainSequence.shouldContainSequence;
+import static com.github.shareme.festassertionsforandroid.error.ShouldEndWith.shouldEndWith;
+import static com.github.shareme.festassertionsforandroid.error.ShouldHaveSize.shouldHaveSize;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContain.shouldNotContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContainAtIndex.shouldNotContainAtIndex;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotHaveDuplicates.shouldNotHaveDuplicates;
+import static com.github.shareme.festassertionsforandroid.error.ShouldStartWith.shouldStartWith;
+import static com.github.shareme.festassertionsforandroid.internal.CommonErrors.*;
+import static com.github.shareme.festassertionsforandroid.internal.CommonValidations.checkIndexValueIsValid;
+import static com.github.shareme.festassertionsforandroid.internal.Lookups.shouldIndex;
+import static com.github.shareme.festassertionsforandroid.internal.Mismatches.collect;
+import static com.github.shareme.festassertionsforandroid.internal.ParallelScan.*;
+import static com.github.shareme.festassertionsforandroid.internal.SequenceMatch.MAXIMUM_NAIVE_SEARCH_SIZE;
+import static java.util.Arrays.binarySearch;
+import static java.util.Arrays.sort;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
 import com.github.shareme.festassertionsforandroid.core.AssertionInfo;
 import com.github.shareme.festassertionsforandroid.data.Index;
+import com.github.shareme.festassertionsforandroid.data.Parallelism;
 import com.github.shareme.festutilitiesandroid.VisibleForTesting;
 
 /**
@@ -35,11 +63,56 @@ public class CharArrays {
     return INSTANCE;
   }
 
-  private final Arrays arrays = Arrays.instance();
+  private static final int DISTINCT_VALUE_COUNT = 1 << Character.SIZE;
 
   @VisibleForTesting Failures failures = Failures.instance();
 
-  @VisibleForTesting CharArrays() {}
+  private final Parallelism parallelism;
+  private final boolean sortedSearch;
+
+  @VisibleForTesting CharArrays() {
+    this(null, false);
+  }
+
+  private CharArrays(Parallelism parallelism, boolean sortedSearch) {
+    this.parallelism = parallelism;
+    this.sortedSearch = sortedSearch;
+  }
+
+  /**
+   * Returns a copy of this object that verifies large arrays in parallel. The assertions that visit every element
+   * ({@code assertContains}, {@code assertDoesNotContain} and {@code assertContainsOnly}) split the work between
+   * threads when the array has at least <code>{@link Parallelism#threshold}</code> elements. Failure messages are the
+   * same as when verifying the array in the calling thread.
+   * @param parallelism how to split the work between threads.
+   * @return the created copy.
+   * @throws NullPointerException if the given {@code Parallelism} is {@code null}.
+   */
+  public CharArrays inParallel(Parallelism parallelism) {
+    if (parallelism == null) throw new NullPointerException("The parallelism to use should not be null");
+    CharArrays copy = new CharArrays(parallelism, sortedSearch);
+    copy.failures = failures;
+    return copy;
+  }
+
+  /**
+   * Returns a copy of this object that expects the arrays it verifies to be sorted in ascending order, and uses a
+   * binary search to look for values in them. {@code assertContains} then takes O(m log n) time instead of O(n m), for
+   * n elements and m values, and {@code assertDoesNotContain} takes O(n + m log n) time. Neither allocates anything
+   * when it passes.
+   * <p>
+   * A value that a binary search finds is always in the array, so {@code assertContains} never fails because the
+   * array was not sorted: it checks again by scanning before reporting a failure. A binary search may miss values that
+   * are in an array that is not sorted, though, so {@code assertDoesNotContain} first verifies that the array is
+   * sorted, and fails like <code>{@link #assertIsSorted(AssertionInfo, char[])}</code> if it is not.
+   * </p>
+   * @return the created copy.
+   */
+  public CharArrays usingSortedSearch() {
+    CharArrays copy = new CharArrays(parallelism, true);
+    copy.failures = failures;
+    return copy;
+  }
 
   /**
    * Asserts that the given array is {@code null} or empty.
@@ -48,7 +121,8 @@ public class CharArrays {
    * @throws AssertionError if the given array is not {@code null} *and* contains one or more elements.
    */
   public void assertNullOrEmpty(AssertionInfo info, char[] actual) {
-    arrays.assertNullOrEmpty(info, failures, actual);
+    if (actual == null || actual.length == 0) return;
+    throw failures.failure(info, shouldBeNullOrEmpty(actual));
   }
 
   /**
@@ -59,7 +133,9 @@ public class CharArrays {
    * @throws AssertionError if the given array is not empty.
    */
   public void assertEmpty(AssertionInfo info, char[] actual) {
-    arrays.assertEmpty(info, failures, actual);
+    assertNotNull(info, actual);
+    if (actual.length == 0) return;
+    throw failures.failure(info, shouldBeEmpty(actual));
   }
 
   /**
@@ -70,7 +146,9 @@ public class CharArrays {
    * @throws AssertionError if the given array is empty.
    */
   public void assertNotEmpty(AssertionInfo info, char[] actual) {
-    arrays.assertNotEmpty(info, failures, actual);
+    assertNotNull(info, actual);
+    if (actual.length != 0) return;
+    throw failures.failure(info, shouldNotBeEmpty());
   }
 
   /**
@@ -82,7 +160,10 @@ public class CharArrays {
    * @throws AssertionError if the number of elements in the given array is different than the expected one.
    */
   public void assertHasSize(AssertionInfo info, char[] actual, int expectedSize) {
-    arrays.assertHasSize(info, failures, actual, expectedSize);
+    assertNotNull(info, actual);
+    int sizeOfActual = actual.length;
+    if (sizeOfActual == expectedSize) return;
+    throw failures.failure(info, shouldHaveSize(actual, sizeOfActual, expectedSize));
   }
 
   /**
@@ -96,7 +177,13 @@ public class CharArrays {
    * @throws AssertionError if the given array does not contain the given values.
    */
   public void assertContains(AssertionInfo info, char[] actual, char[] values) {
-    arrays.assertContains(info, failures, actual, values);
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    if (sortedSearch && lookUpInSorted(actual, values, false) == null) return;
+    Set<Character> notFound = shouldRunInParallel(parallelism, actual.length) ? lookUpInParallel(actual, values, false)
+        : lookUp(actual, values, false);
+    if (notFound == null) return;
+    throw failures.failure(info, shouldContain(actual, values, notFound));
   }
 
   /**
@@ -112,7 +199,11 @@ public class CharArrays {
    * @throws AssertionError if the given array does not contain the given value at the given index.
    */
   public void assertContains(AssertionInfo info, char[] actual, char value, Index index) {
-    arrays.assertContains(info, failures, actual, value, index);
+    assertNotEmpty(info, actual);
+    checkIndexValueIsValid(index, actual.length - 1);
+    char actualElement = actual[index.value];
+    if (actualElement == value) return;
+    throw failures.failure(info, shouldContainAtIndex(actual, value, index, actualElement));
   }
 
   /**
@@ -126,7 +217,12 @@ public class CharArrays {
    * @throws AssertionError if the given array contains the given value at the given index.
    */
   public void assertDoesNotContain(AssertionInfo info, char[] actual, char value, Index index) {
-    arrays.assertDoesNotContain(info, failures, actual, value, index);
+    assertNotNull(info, actual);
+    checkIndexValueIsValid(index, Integer.MAX_VALUE);
+    int indexValue = index.value;
+    if (indexValue >= actual.length) return;
+    if (actual[indexValue] != value) return;
+    throw failures.failure(info, shouldNotContainAtIndex(actual, value, index));
   }
 
   /**
@@ -141,7 +237,104 @@ public class CharArrays {
    * array contains values that are not in the given array.
    */
   public void assertContainsOnly(AssertionInfo info, char[] actual, char[] values) {
-    arrays.assertContainsOnly(info, failures, actual, values);
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    if (shouldRunInParallel(parallelism, actual.length)) {
+      assertContainsOnlyInParallel(info, actual, values);
+      return;
+    }
+    if (!shouldIndex(actual.length, values.length) && haveSameElements(actual, values)) return;
+    char[] sortedActual = sortedCopyOf(actual);
+    char[] sortedValues = sortedCopyOf(values);
+    if (haveSameDistinctElements(sortedActual, sortedValues)) return;
+    Set<Character> notFound = elementsNotIn(values, sortedActual);
+    Set<Character> notExpected = elementsNotIn(actual, sortedValues);
+    throw failures.failure(info, shouldContainOnly(actual, values, notFound, notExpected));
+  }
+
+  /** Scans each array once per element of the other one, which is cheaper than sorting them when both are small. */
+  private static boolean haveSameElements(char[] array, char[] other) {
+    for (char element : array) if (!arrayContains(other, element)) return false;
+    for (char element : other) if (!arrayContains(array, element)) return false;
+    return true;
+  }
+
+  private static char[] sortedCopyOf(char[] array) {
+    char[] copy = array.clone();
+    sort(copy);
+    return copy;
+  }
+
+  private static char[] distinctSortedCopyOf(char[] array) {
+    char[] sorted = sortedCopyOf(array);
+    int distinctCount = 0;
+    for (char element : sorted) {
+      if (distinctCount > 0 && element == sorted[distinctCount - 1]) continue;
+      sorted[distinctCount++] = element;
+    }
+    if (distinctCount == sorted.length) return sorted;
+    char[] distinct = new char[distinctCount];
+    System.arraycopy(sorted, 0, distinct, 0, distinctCount);
+    return distinct;
+  }
+
+  /**
+   * Walks both sorted arrays at the same time, skipping repeated values, to find out whether they contain the same
+   * distinct values.
+   */
+  private static boolean haveSameDistinctElements(char[] sorted, char[] otherSorted) {
+    int i = 0, j = 0;
+    while (i < sorted.length && j < otherSorted.length) {
+      char value = sorted[i];
+      if (value != otherSorted[j]) return false;
+      while (i < sorted.length && sorted[i] == value) i++;
+      while (j < otherSorted.length && otherSorted[j] == value) j++;
+    }
+    return i == sorted.length && j == otherSorted.length;
+  }
+
+  /**
+   * Returns the distinct elements that are not in the given sorted array, in the order they appear in the given
+   * elements. It is only used to report a failure, which is when boxing the elements is needed anyway.
+   */
+  private static Set<Character> elementsNotIn(char[] elements, char[] sortedOthers) {
+    Set<Character> notIn = new LinkedHashSet<Character>();
+    for (char element : elements) if (binarySearch(sortedOthers, element) < 0) notIn.add(element);
+    return notIn;
+  }
+
+  /**
+   * Asserts that the given array contains exactly the given values, in any order: each value appears in the array as
+   * many times as it was given, and the array has no other elements.
+   * The number of times each value appears is counted in a hash table of primitive values, in O(n + m) time.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param values the values that are expected to be the elements of the given array.
+   * @throws NullPointerException if the array of values is {@code null}.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the given array does not contain exactly the given values, each of them as many times as
+   * it was given.
+   */
+  public void assertContainsExactlyInAnyOrder(AssertionInfo info, char[] actual, char[] values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    assertNotNull(info, actual);
+    IntCounts counts = new IntCounts(values.length);
+    for (char value : values) counts.add(value, 1);
+    for (char element : actual) counts.add(element, -1);
+    if (counts.allZero()) return;
+    Map<Character, Integer> missing = new LinkedHashMap<Character, Integer>();
+    Map<Character, Integer> notExpected = new LinkedHashMap<Character, Integer>();
+    for (char element : actual)
+      reportDifference(element, counts.take(element), missing, notExpected);
+    for (char value : values)
+      reportDifference(value, counts.take(value), missing, notExpected);
+    throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, missing, notExpected));
+  }
+
+  private static void reportDifference(char value, int missingCount, Map<Character, Integer> missing,
+      Map<Character, Integer> notExpected) {
+    if (missingCount > 0) missing.put(value, missingCount);
+    else if (missingCount < 0) notExpected.put(value, -missingCount);
   }
 
   /**
@@ -155,7 +348,64 @@ public class CharArrays {
    * @throws AssertionError if the given array does not contain the given sequence of values.
    */
   public void assertContainsSequence(AssertionInfo info, char[] actual, char[] sequence) {
-    arrays.assertContainsSequence(info, failures, actual, sequence);
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    if (sequence.length <= MAXIMUM_NAIVE_SEARCH_SIZE) {
+      int start = startOfLongestMatch(actual, sequence);
+      int size = matchSize(actual, start, sequence);
+      if (size == sequence.length) return;
+      throw failures.failure(info, shouldContainSequence(actual, sequence, start, size));
+    }
+    int[] failure = failureFunction(sequence);
+    int matched = 0, longestMatchStart = 0, longestMatchSize = 0;
+    for (int i = 0; i < actual.length; i++) {
+      while (matched > 0 && actual[i] != sequence[matched]) matched = failure[matched - 1];
+      if (actual[i] != sequence[matched]) continue;
+      if (++matched == sequence.length) return;
+      if (matched <= longestMatchSize) continue;
+      longestMatchSize = matched;
+      longestMatchStart = i - matched + 1;
+    }
+    throw failures.failure(info, shouldContainSequence(actual, sequence, longestMatchStart, longestMatchSize));
+  }
+
+  /**
+   * Compares the given sequence with the elements starting at each index of the given array in turn, and returns the
+   * index where the longest match starts (the first one, if there are several.) It does not allocate anything, which
+   * makes it cheaper than the Knuth-Morris-Pratt search for short sequences.
+   */
+  private static int startOfLongestMatch(char[] array, char[] sequence) {
+    int longestMatchStart = 0, longestMatchSize = 0;
+    for (int start = 0; start < array.length && longestMatchSize < sequence.length; start++) {
+      int size = matchSize(array, start, sequence);
+      if (size <= longestMatchSize) continue;
+      longestMatchSize = size;
+      longestMatchStart = start;
+    }
+    return longestMatchStart;
+  }
+
+  /** Returns the number of values of the given sequence that match the elements starting at the given index. */
+  private static int matchSize(char[] array, int start, char[] sequence) {
+    int size = 0;
+    int maximumSize = Math.min(sequence.length, array.length - start);
+    while (size < maximumSize && array[start + size] == sequence[size]) size++;
+    return size;
+  }
+
+  /**
+   * Computes the Knuth-Morris-Pratt failure function of the given sequence: for each index {@code i}, the size of the
+   * longest proper prefix of {@code sequence[0..i]} that is also a suffix of it. It lets a search continue after a
+   * mismatch without going back in the searched array. The assertions on buffers use it too.
+   */
+  static int[] failureFunction(char[] sequence) {
+    int[] failure = new int[sequence.length];
+    for (int i = 1, matched = 0; i < sequence.length; i++) {
+      while (matched > 0 && sequence[i] != sequence[matched]) matched = failure[matched - 1];
+      if (sequence[i] == sequence[matched]) matched++;
+      failure[i] = matched;
+    }
+    return failure;
   }
 
   /**
@@ -169,7 +419,53 @@ public class CharArrays {
    * @throws AssertionError if the given array contains any of given values.
    */
   public void assertDoesNotContain(AssertionInfo info, char[] actual, char[] values) {
-    arrays.assertDoesNotContain(info, failures, actual, values);
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    Set<Character> found;
+    if (sortedSearch) {
+      // A binary search could miss values that are in an array that is not sorted.
+      assertIsSorted(info, actual);
+      found = lookUpInSorted(actual, values, true);
+    } else {
+      found = shouldRunInParallel(parallelism, actual.length) ? lookUpInParallel(actual, values, true)
+          : lookUp(actual, values, true);
+    }
+    if (found == null) return;
+    throw failures.failure(info, shouldNotContain(actual, values, found));
+  }
+
+  /**
+   * Returns the given values that are (or are not) in the given array, in the order they were given. The array is
+   * scanned once per value, unless there are enough values to make a single pass that indexes the array cheaper.
+   * Returns {@code null} instead of an empty set, so that a lookup that finds nothing to report does not allocate
+   * anything unless it indexes the array.
+   */
+  private static Set<Character> lookUp(char[] array, char[] values, boolean found) {
+    Set<Character> result = null;
+    if (!shouldIndex(array.length, values.length)) {
+      for (char value : values) if (arrayContains(array, value) == found) result = collect(result, value);
+      return result;
+    }
+    BitSet index = new BitSet(DISTINCT_VALUE_COUNT);
+    for (char element : array) index.set(bitFor(element));
+    for (char value : values) if (index.get(bitFor(value)) == found) result = collect(result, value);
+    return result;
+  }
+
+  private static boolean arrayContains(char[] array, char value) {
+    for (char element : array) if (element == value) return true;
+    return false;
+  }
+
+  /** Returns the index of the first element equal to the given value among the first {@code end} ones, or -1. */
+  private static int indexOf(char[] array, char value, int end) {
+    for (int i = 0; i < end; i++) if (array[i] == value) return i;
+    return -1;
+  }
+
+  /** Maps each {@code char} value to a different bit in [0, {@code DISTINCT_VALUE_COUNT}). */
+  private static int bitFor(char value) {
+    return value;
   }
 
   /**
@@ -182,7 +478,31 @@ public class CharArrays {
    * @throws AssertionError if the given array contains duplicate values.
    */
   public void assertDoesNotHaveDuplicates(AssertionInfo info, char[] actual) {
-    arrays.assertDoesNotHaveDuplicates(info, failures, actual);
+    assertNotNull(info, actual);
+    Set<Character> duplicates = duplicatesIn(actual);
+    if (duplicates == null) return;
+    throw failures.failure(info, shouldNotHaveDuplicates(actual, duplicates));
+  }
+
+  /**
+   * Returns the values that appear more than once in the given array, in the order of their second appearance, or
+   * {@code null} if there are none.
+   */
+  private static Set<Character> duplicatesIn(char[] array) {
+    Set<Character> duplicates = null;
+    if (!shouldIndex(array.length, array.length)) {
+      // Comparing each element with the ones before it is cheap for small arrays, and does not allocate anything.
+      for (int i = 1; i < array.length; i++)
+        if (indexOf(array, array[i], i) >= 0) duplicates = collect(duplicates, array[i]);
+      return duplicates;
+    }
+    BitSet seen = new BitSet(DISTINCT_VALUE_COUNT);
+    for (char element : array) {
+      int bit = bitFor(element);
+      if (seen.get(bit)) duplicates = collect(duplicates, element);
+      else seen.set(bit);
+    }
+    return duplicates;
   }
 
   /**
@@ -198,7 +518,14 @@ public class CharArrays {
    * @throws AssertionError if the given array does not start with the given sequence of values.
    */
   public void assertStartsWith(AssertionInfo info, char[] actual, char[] sequence) {
-    arrays.assertStartsWith(info, failures, actual, sequence);
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    int sequenceSize = sequence.length;
+    if (actual.length < sequenceSize) throw failures.failure(info, shouldStartWith(actual, sequence));
+    for (int i = 0; i < sequenceSize; i++) {
+      if (sequence[i] == actual[i]) continue;
+      throw failures.failure(info, shouldStartWith(actual, sequence));
+    }
   }
 
   /**
@@ -214,6 +541,129 @@ public class CharArrays {
    * @throws AssertionError if the given array does not end with the given sequence of values.
    */
   public void assertEndsWith(AssertionInfo info, char[] actual, char[] sequence) {
-    arrays.assertEndsWith(info, failures, actual, sequence);
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    int sequenceSize = sequence.length;
+    int offset = actual.length - sequenceSize;
+    if (offset < 0) throw failures.failure(info, shouldEndWith(actual, sequence));
+    for (int i = 0; i < sequenceSize; i++) {
+      if (sequence[i] == actual[offset + i]) continue;
+      throw failures.failure(info, shouldEndWith(actual, sequence));
+    }
+  }
+
+  /**
+   * Verifies that the given array is sorted in ascending order.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the given array is not sorted in ascending order.
+   */
+  public void assertIsSorted(AssertionInfo info, char[] actual) {
+    assertNotNull(info, actual);
+    for (int i = 1; i < actual.length; i++) {
+      if (actual[i - 1] <= actual[i]) continue;
+      throw failures.failure(info, shouldBeSorted(i - 1, actual));
+    }
+  }
+
+  /**
+   * Verifies that the given array is sorted according to the given comparator.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param comparator the {@code Comparator} used to compare the elements of the array.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the given array is not sorted according to the given comparator.
+   */
+  public void assertIsSortedAccordingToComparator(AssertionInfo info, char[] actual,
+      Comparator<? super Character> comparator) {
+    if (comparator == null) throw new NullPointerException("The given comparator should not be null");
+    assertNotNull(info, actual);
+    for (int i = 1; i < actual.length; i++) {
+      if (comparator.compare(actual[i - 1], actual[i]) <= 0) continue;
+      throw failures.failure(info, shouldBeSortedAccordingToGivenComparator(i - 1, actual, comparator));
+    }
+  }
+
+  /**
+   * Same as <code>{@link #lookUp(char[], char[], boolean)}</code>, but uses a binary search in the given array,
+   * which should be sorted in ascending order.
+   */
+  private static Set<Character> lookUpInSorted(char[] sortedArray, char[] values, boolean found) {
+    Set<Character> result = null;
+    for (char value : values)
+      if ((binarySearch(sortedArray, value) >= 0) == found) result = collect(result, value);
+    return result;
+  }
+
+  /**
+   * Same as <code>{@link #lookUp(char[], char[], boolean)}</code>, but splits the scan of the array between
+   * threads. The scan stops as soon as all the values are found; otherwise it visits every element, which also tells
+   * which values were found.
+   */
+  private Set<Character> lookUpInParallel(final char[] array, char[] values, boolean found) {
+    final char[] distinctValues = distinctSortedCopyOf(values);
+    final AtomicIntegerArray marks = new AtomicIntegerArray(distinctValues.length);
+    final AtomicInteger notFoundCount = new AtomicInteger(distinctValues.length);
+    anyMatch(parallelism, array.length, new RangeCheck() {
+      public boolean matches(int part, int from, int to) {
+        for (int i = from; i < to; i++) {
+          int position = binarySearch(distinctValues, array[i]);
+          if (position < 0 || marks.get(position) != 0 || !marks.compareAndSet(position, 0, 1)) continue;
+          if (notFoundCount.decrementAndGet() == 0) return true;
+        }
+        return false;
+      }
+    });
+    return valuesMarked(values, distinctValues, marks, found);
+  }
+
+  /**
+   * Splits the scan of the array between threads. Each part marks the values it finds and keeps the indices of the
+   * elements that are not expected, so a failure reports the same values, in the same order, as the sequential check.
+   */
+  private void assertContainsOnlyInParallel(AssertionInfo info, final char[] actual, char[] values) {
+    final char[] distinctValues = distinctSortedCopyOf(values);
+    final AtomicIntegerArray marks = new AtomicIntegerArray(distinctValues.length);
+    final Indices unexpected = new Indices(parallelism.partCount);
+    anyMatch(parallelism, actual.length, new RangeCheck() {
+      public boolean matches(int part, int from, int to) {
+        for (int i = from; i < to; i++) {
+          int position = binarySearch(distinctValues, actual[i]);
+          if (position < 0) unexpected.add(part, i);
+          else if (marks.get(position) == 0) marks.set(position, 1);
+        }
+        return false;
+      }
+    });
+    Set<Character> notFound = valuesMarked(values, distinctValues, marks, false);
+    int[] unexpectedIndices = unexpected.sorted();
+    if (notFound == null && unexpectedIndices == null) return;
+    if (notFound == null) notFound = new LinkedHashSet<Character>();
+    Set<Character> notExpected = new LinkedHashSet<Character>();
+    if (unexpectedIndices != null) for (int index : unexpectedIndices) notExpected.add(actual[index]);
+    throw failures.failure(info, shouldContainOnly(actual, values, notFound, notExpected));
+  }
+
+  /**
+   * Returns the given values that are (or are not) marked, in the order they were given, or {@code null} if there are
+   * none. The marks are those of the given distinct sorted values.
+   */
+  private static Set<Character> valuesMarked(char[] values, char[] distinctValues, AtomicIntegerArray marks,
+      boolean marked) {
+    Set<Character> result = null;
+    for (char value : values)
+      if ((marks.get(binarySearch(distinctValues, value)) != 0) == marked) result = collect(result, value);
+    return result;
+  }
+
+  private static void checkIsNotNullAndNotEmpty(char[] values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    if (values.length == 0) throw arrayOfValuesToLookForIsEmpty();
+  }
+
+  private void assertNotNull(AssertionInfo info, char[] actual) {
+    Objects.instance().assertNotNull(info, actual);
   }
 }
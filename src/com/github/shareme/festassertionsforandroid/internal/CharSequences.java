@@ -0,0 +1,473 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeEmpty.shouldBeEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeEqual.shouldBeEqual;
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainLine.*;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainString.shouldContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainString.shouldContainIgnoringCase;
+import static com.github.shareme.festassertionsforandroid.error.ShouldEndWith.shouldEndWith;
+import static com.github.shareme.festassertionsforandroid.error.ShouldHaveLineCount.shouldHaveLineCount;
+import static com.github.shareme.festassertionsforandroid.error.ShouldHaveLinesMatching.*;
+import static com.github.shareme.festassertionsforandroid.error.ShouldHaveSize.shouldHaveSize;
+import static com.github.shareme.festassertionsforandroid.error.ShouldMatchPattern.shouldMatch;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotBeEqual.shouldNotBeEqual;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContainString.shouldNotContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotMatchPattern.shouldNotMatch;
+import static com.github.shareme.festassertionsforandroid.error.ShouldStartWith.shouldStartWith;
+
+import java.util.*;
+import java.util.regex.*;
+
+import com.github.shareme.festassertionsforandroid.core.AssertionInfo;
+import com.github.shareme.festutilitiesandroid.VisibleForTesting;
+
+/**
+ * Reusable assertions for <code>{@link CharSequence}</code>s. The assertions read the characters of a sequence in
+ * place, through <code>{@link CharSequence#charAt(int)}</code>, and never copy it into a {@code String}: a
+ * {@code StringBuilder} or a {@code CharBuffer} is verified as it is, however large it is. Failure messages show an
+ * excerpt of a long sequence (see <code>{@link Excerpt#ofCharacters(CharSequence)}</code>) instead of all of it.
+ */
+public class CharSequences {
+
+  /** The number of lines reported by the assertions that verify the lines of a {@code CharSequence}. */
+  public static final int LINES_TO_REPORT = 10;
+
+  private static final CharSequences INSTANCE = new CharSequences();
+
+  /**
+   * Returns the singleton instance of this class.
+   * @return the singleton instance of this class.
+   */
+  public static CharSequences instance() {
+    return INSTANCE;
+  }
+
+  @VisibleForTesting Failures failures = Failures.instance();
+  @VisibleForTesting Patterns patterns = Patterns.instance();
+
+  @VisibleForTesting CharSequences() {}
+
+  /**
+   * Asserts that the given {@code CharSequence} is {@code null} or empty.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @throws AssertionError if the given {@code CharSequence} is not {@code null} *and* it is not empty.
+   */
+  public void assertNullOrEmpty(AssertionInfo info, CharSequence actual) {
+    if (actual == null || actual.length() == 0) return;
+    throw failures.failure(info, shouldBeNullOrEmpty(Excerpt.ofCharacters(actual)));
+  }
+
+  /**
+   * Asserts that the given {@code CharSequence} is empty.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is not empty.
+   */
+  public void assertEmpty(AssertionInfo info, CharSequence actual) {
+    assertNotNull(info, actual);
+    if (actual.length() == 0) return;
+    throw failures.failure(info, shouldBeEmpty(Excerpt.ofCharacters(actual)));
+  }
+
+  /**
+   * Asserts that the given {@code CharSequence} is not empty.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is empty.
+   */
+  public void assertNotEmpty(AssertionInfo info, CharSequence actual) {
+    assertNotNull(info, actual);
+    if (actual.length() > 0) return;
+    throw failures.failure(info, shouldNotBeEmpty());
+  }
+
+  /**
+   * Asserts that the number of characters in the given {@code CharSequence} is equal to the expected one.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param expectedSize the expected size of {@code actual}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the size of the given {@code CharSequence} is different than the expected one.
+   */
+  public void assertHasSize(AssertionInfo info, CharSequence actual, int expectedSize) {
+    assertNotNull(info, actual);
+    int sizeOfActual = actual.length();
+    if (sizeOfActual == expectedSize) return;
+    throw failures.failure(info, shouldHaveSize(Excerpt.ofCharacters(actual), sizeOfActual, expectedSize));
+  }
+
+  /**
+   * Asserts that the given {@code CharSequence} has the same characters as the expected one, regardless of their
+   * types: a {@code StringBuilder} is equal to a {@code String} with the same characters.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code CharSequence}.
+   * @param expected the expected {@code CharSequence}.
+   * @throws AssertionError if the given {@code CharSequence}s do not have the same characters.
+   */
+  public void assertEqual(AssertionInfo info, CharSequence actual, CharSequence expected) {
+    if (haveSameCharacters(actual, expected)) return;
+    throw failures.failure(info, shouldBeEqual(Excerpt.ofCharacters(actual), Excerpt.ofCharacters(expected)));
+  }
+
+  /**
+   * Asserts that the given {@code CharSequence} does not have the same characters as the other one.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code CharSequence}.
+   * @param other the {@code CharSequence} to compare {@code actual} to.
+   * @throws AssertionError if the given {@code CharSequence}s have the same characters.
+   */
+  public void assertNotEqual(AssertionInfo info, CharSequence actual, CharSequence other) {
+    if (!haveSameCharacters(actual, other)) return;
+    throw failures.failure(info, shouldNotBeEqual(Excerpt.ofCharacters(actual), Excerpt.ofCharacters(other)));
+  }
+
+  private static boolean haveSameCharacters(CharSequence actual, CharSequence other) {
+    if (actual == other) return true;
+    if (actual == null || other == null) return false;
+    if (actual instanceof String && other instanceof String) return actual.equals(other);
+    int length = actual.length();
+    if (length != other.length()) return false;
+    for (int i = 0; i < length; i++)
+      if (actual.charAt(i) != other.charAt(i)) return false;
+    return true;
+  }
+
+  /**
+   * Verifies that the given {@code CharSequence} contains the given sequence.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code CharSequence}.
+   * @param sequence the sequence to search for.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not contain the given sequence.
+   */
+  public void assertContains(AssertionInfo info, CharSequence actual, CharSequence sequence) {
+    checkSequenceIsNotNull(sequence);
+    assertNotNull(info, actual);
+    if (indexOf(actual, sequence) >= 0) return;
+    throw failures.failure(info, shouldContain(Excerpt.ofCharacters(actual), sequence));
+  }
+
+  /**
+   * Verifies that the given {@code CharSequence} contains the given sequence, ignoring case considerations.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code CharSequence}.
+   * @param sequence the sequence to search for.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not contain the given sequence.
+   */
+  public void assertContainsIgnoringCase(AssertionInfo info, CharSequence actual, CharSequence sequence) {
+    checkSequenceIsNotNull(sequence);
+    assertNotNull(info, actual);
+    if (CaseInsensitive.indexOf(actual, sequence) >= 0) return;
+    throw failures.failure(info, shouldContainIgnoringCase(Excerpt.ofCharacters(actual), sequence));
+  }
+
+  /**
+   * Verifies that the given {@code CharSequence} does not contain the given sequence.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code CharSequence}.
+   * @param sequence the sequence to search for.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} contains the given sequence.
+   */
+  public void assertDoesNotContain(AssertionInfo info, CharSequence actual, CharSequence sequence) {
+    checkSequenceIsNotNull(sequence);
+    assertNotNull(info, actual);
+    if (indexOf(actual, sequence) < 0) return;
+    throw failures.failure(info, shouldNotContain(Excerpt.ofCharacters(actual), sequence));
+  }
+
+  private void checkSequenceIsNotNull(CharSequence sequence) {
+    if (sequence == null) throw new NullPointerException("The sequence to look for should not be null");
+  }
+
+  /**
+   * Returns the index of the first occurrence of the given sequence in the given one, reading both in place.
+   */
+  @VisibleForTesting static int indexOf(CharSequence actual, CharSequence sequence) {
+    if (actual instanceof String && sequence instanceof String) return ((String) actual).indexOf((String) sequence);
+    int length = sequence.length();
+    int last = actual.length() - length;
+    if (length == 0) return last >= 0 ? 0 : -1;
+    char first = sequence.charAt(0);
+    for (int i = 0; i <= last; i++) {
+      if (actual.charAt(i) != first) continue;
+      if (regionMatches(actual, i, sequence)) return i;
+    }
+    return -1;
+  }
+
+  private static boolean regionMatches(CharSequence actual, int offset, CharSequence other) {
+    for (int i = 0, length = other.length(); i < length; i++)
+      if (actual.charAt(offset + i) != other.charAt(i)) return false;
+    return true;
+  }
+
+  /**
+   * Verifies that the given {@code CharSequence} starts with the given prefix.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code CharSequence}.
+   * @param prefix the given prefix.
+   * @throws NullPointerException if the given prefix is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not start with the given prefix.
+   */
+  public void assertStartsWith(AssertionInfo info, CharSequence actual, CharSequence prefix) {
+    if (prefix == null) throw new NullPointerException("The given prefix should not be null");
+    assertNotNull(info, actual);
+    if (actual.length() >= prefix.length() && regionMatches(actual, 0, prefix)) return;
+    throw failures.failure(info, shouldStartWith(Excerpt.ofCharacters(actual), prefix));
+  }
+
+  /**
+   * Verifies that the given {@code CharSequence} ends with the given suffix.
+   * @param info contains information about the assertion.
+   * @param actual the actual {@code CharSequence}.
+   * @param suffix the given suffix.
+   * @throws NullPointerException if the given suffix is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not end with the given suffix.
+   */
+  public void assertEndsWith(AssertionInfo info, CharSequence actual, CharSequence suffix) {
+    if (suffix == null) throw new NullPointerException("The given suffix should not be null");
+    assertNotNull(info, actual);
+    int offset = actual.length() - suffix.length();
+    if (offset >= 0 && regionMatches(actual, offset, suffix)) return;
+    throw failures.failure(info, shouldEndWith(Excerpt.ofCharacters(actual), suffix));
+  }
+
+  /**
+   * Verifies that the given {@code CharSequence} matches the given regular expression. The compiled regular
+   * expression is cached by <code>{@link Patterns}</code>.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param regex the regular expression to which the actual {@code CharSequence} is to be matched.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} does not match the given regular expression.
+   */
+  public void assertMatches(AssertionInfo info, CharSequence actual, String regex) {
+    if (regex == null) throw patternToMatchIsNull();
+    assertMatches(info, actual, patterns.compile(regex));
+  }
+
+  /**
+   * Verifies that the given {@code CharSequence} does not match the given regular expression. The compiled regular
+   * expression is cached by <code>{@link Patterns}</code>.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param regex the regular expression to which the actual {@code CharSequence} is to be matched.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the actual {@code CharSequence} matches the given regular expression.
+   */
+  public void assertDoesNotMatch(AssertionInfo info, CharSequence actual, String regex) {
+    if (regex == null) throw patternToMatchIsNull();
+    assertDoesNotMatch(info, actual, patterns.compile(regex));
+  }
+
+  /**
+   * Verifies that the given {@code CharSequence} matches the given regular expression.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param pattern the regular expression to which the actual {@code CharSequence} is to be matched.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} does not match the given regular expression.
+   */
+  public void assertMatches(AssertionInfo info, CharSequence actual, Pattern pattern) {
+    if (pattern == null) throw patternToMatchIsNull();
+    assertNotNull(info, actual);
+    if (pattern.matcher(actual).matches()) return;
+    throw failures.failure(info, shouldMatch(Excerpt.ofCharacters(actual), pattern.pattern()));
+  }
+
+  /**
+   * Verifies that the given {@code CharSequence} does not match the given regular expression.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param pattern the regular expression to which the actual {@code CharSequence} is to be matched.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} matches the given regular expression.
+   */
+  public void assertDoesNotMatch(AssertionInfo info, CharSequence actual, Pattern pattern) {
+    if (pattern == null) throw patternToMatchIsNull();
+    if (actual == null || !pattern.matcher(actual).matches()) return;
+    throw failures.failure(info, shouldNotMatch(Excerpt.ofCharacters(actual), pattern.pattern()));
+  }
+
+  /**
+   * Asserts that the given {@code CharSequence} has the expected number of lines. Lines end with {@code "\n"},
+   * {@code "\r"} or {@code "\r\n"}; an empty sequence has no lines, and a line terminator at its end does not start
+   * another line. The lines are counted in a single pass, without splitting the sequence.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param expectedLineCount the expected number of lines of {@code actual}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the number of lines of the given {@code CharSequence} is different than the expected one.
+   */
+  public void assertHasLineCount(AssertionInfo info, CharSequence actual, int expectedLineCount) {
+    assertNotNull(info, actual);
+    Lines lines = new Lines(actual);
+    int lineCount = 0;
+    while (lines.next())
+      lineCount++;
+    if (lineCount == expectedLineCount) return;
+    throw failures.failure(info, shouldHaveLineCount(Excerpt.ofCharacters(actual), lineCount, expectedLineCount));
+  }
+
+  /**
+   * Asserts that the given {@code CharSequence} has a line equal to the given one, reading its lines in place.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param line the line to look for, without line terminator.
+   * @throws NullPointerException if the given line is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} does not have a line equal to the given one.
+   */
+  public void assertContainsLine(AssertionInfo info, CharSequence actual, CharSequence line) {
+    checkLineIsNotNull(line);
+    assertNotNull(info, actual);
+    Lines lines = new Lines(actual);
+    while (lines.next())
+      if (lines.isEqualTo(line)) return;
+    Object excerpt = Excerpt.ofCharacters(actual);
+    throw failures.failure(info, shouldContainLine(excerpt, lines.number(), Excerpt.ofCharacters(line)));
+  }
+
+  /**
+   * Asserts that the given {@code CharSequence} has no line equal to the given one, reading its lines in place. The
+   * failure reports the numbers of the first <code>{@link #LINES_TO_REPORT}</code> lines equal to the given one.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param line the line to look for, without line terminator.
+   * @throws NullPointerException if the given line is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} has a line equal to the given one.
+   */
+  public void assertDoesNotContainLine(AssertionInfo info, CharSequence actual, CharSequence line) {
+    checkLineIsNotNull(line);
+    assertNotNull(info, actual);
+    List<Integer> found = new ArrayList<Integer>();
+    Lines lines = new Lines(actual);
+    while (found.size() < LINES_TO_REPORT && lines.next())
+      if (lines.isEqualTo(line)) found.add(lines.number());
+    if (found.isEmpty()) return;
+    throw failures.failure(info, shouldNotContainLine(Excerpt.ofCharacters(actual), Excerpt.ofCharacters(line), found));
+  }
+
+  private void checkLineIsNotNull(CharSequence line) {
+    if (line == null) throw new NullPointerException("The line to look for should not be null");
+  }
+
+  /**
+   * Asserts that every line of the given {@code CharSequence} matches the given regular expression, compiled through
+   * the <code>{@link Patterns}</code> cache.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param regex the regular expression to which every line is to be matched.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if a line of the given {@code CharSequence} does not match the given regular expression.
+   */
+  public void assertAllLinesMatch(AssertionInfo info, CharSequence actual, String regex) {
+    if (regex == null) throw patternToMatchIsNull();
+    assertAllLinesMatch(info, actual, patterns.compile(regex));
+  }
+
+  /**
+   * Asserts that every line of the given {@code CharSequence} matches the given regular expression. The lines are read
+   * in place and matched with a single <code>{@link Matcher}</code>. The failure reports how many lines do not match,
+   * and the numbers and an excerpt of the first <code>{@link #LINES_TO_REPORT}</code> of them.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param pattern the regular expression to which every line is to be matched.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if a line of the given {@code CharSequence} does not match the given regular expression.
+   */
+  public void assertAllLinesMatch(AssertionInfo info, CharSequence actual, Pattern pattern) {
+    if (pattern == null) throw patternToMatchIsNull();
+    assertNotNull(info, actual);
+    Map<Integer, CharSequence> mismatches = new LinkedHashMap<Integer, CharSequence>();
+    int mismatchCount = 0;
+    Lines lines = new Lines(actual);
+    Matcher matcher = pattern.matcher(lines);
+    while (lines.next()) {
+      if (matcher.reset(lines).matches()) continue;
+      if (mismatchCount++ < LINES_TO_REPORT) mismatches.put(lines.number(), Excerpt.copyOfCharacters(lines));
+    }
+    if (mismatchCount == 0) return;
+    int lineCount = lines.number();
+    throw failures.failure(info, shouldHaveAllLinesMatching(lineCount, pattern.pattern(), mismatchCount, mismatches));
+  }
+
+  /**
+   * Asserts that at least one line of the given {@code CharSequence} matches the given regular expression, compiled
+   * through the <code>{@link Patterns}</code> cache.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param regex the regular expression to which the lines are to be matched.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if no line of the given {@code CharSequence} matches the given regular expression.
+   */
+  public void assertAnyLineMatches(AssertionInfo info, CharSequence actual, String regex) {
+    if (regex == null) throw patternToMatchIsNull();
+    assertAnyLineMatches(info, actual, patterns.compile(regex));
+  }
+
+  /**
+   * Asserts that at least one line of the given {@code CharSequence} matches the given regular expression. The lines
+   * are read in place and matched with a single <code>{@link Matcher}</code>, until one of them matches.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code CharSequence}.
+   * @param pattern the regular expression to which the lines are to be matched.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError if no line of the given {@code CharSequence} matches the given regular expression.
+   */
+  public void assertAnyLineMatches(AssertionInfo info, CharSequence actual, Pattern pattern) {
+    if (pattern == null) throw patternToMatchIsNull();
+    assertNotNull(info, actual);
+    Lines lines = new Lines(actual);
+    Matcher matcher = pattern.matcher(lines);
+    while (lines.next())
+      if (matcher.reset(lines).matches()) return;
+    Object excerpt = Excerpt.ofCharacters(actual);
+    throw failures.failure(info, shouldHaveAnyLineMatching(excerpt, lines.number(), pattern.pattern()));
+  }
+
+  private NullPointerException patternToMatchIsNull() {
+    return new NullPointerException("The regular expression pattern to match should not be null");
+  }
+
+  private void assertNotNull(AssertionInfo info, CharSequence actual) {
+    Objects.instance().assertNotNull(info, actual);
+  }
+}
@@ -17,6 +17,7 @@ package com.github.shareme.festassertionsforandroid.internal;
 import static com.github.shareme.festassertionsforandroid.error.ShouldBeEmpty.shouldBeEmpty;
 import static com.github.shareme.festassertionsforandroid.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
 import static com.github.shareme.festassertionsforandroid.error.ShouldContain.shouldContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainExactlyInAnyOrder.shouldContainExactlyInAnyOrder;
 import static com.github.shareme.festassertionsforandroid.error.ShouldContainNull.shouldContainNull;
 import static com.github.shareme.festassertionsforandroid.error.ShouldContainOnly.shouldContainOnly;
 import static com.github.shareme.festassertionsforandroid.error.ShouldContainSequence.shouldContainSequence;
@@ -28,6 +29,9 @@ import static com.github.shareme.festassertionsforandroid.error.ShouldNotContain
 import static com.github.shareme.festassertionsforandroid.error.ShouldNotHaveDuplicates.shouldNotHaveDuplicates;
 import static com.github.shareme.festassertionsforandroid.error.ShouldStartWith.shouldStartWith;
 import static com.github.shareme.festassertionsforandroid.internal.CommonErrors.*;
+import static com.github.shareme.festassertionsforandroid.internal.Lookups.shouldIndex;
+import static com.github.shareme.festassertionsforandroid.internal.Mismatches.collect;
+import static com.github.shareme.festassertionsforandroid.util.ArrayWrapperList.wrap;
 import static com.github.shareme.festutilitiesandroid.Collections.*;
 import static com.github.shareme.festutilitiesandroid.Objects.areEqual;
 
@@ -124,9 +128,10 @@ public class Collections {
   public void assertContains(AssertionInfo info, Collection<?> actual, Object[] values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, actual);
-    Set<Object> notFound = new LinkedHashSet<Object>();
-    for (Object value : values) if (!actual.contains(value)) notFound.add(value);
-    if (notFound.isEmpty()) return;
+    Set<Object> notFound = null;
+    Collection<?> index = lookUpIndex(actual, values.length);
+    for (Object value : values) if (!index.contains(value)) notFound = collect(notFound, value);
+    if (notFound == null) return;
     throw failures.failure(info, shouldContain(actual, values, notFound));
   }
 
@@ -150,6 +155,27 @@ public class Collections {
     throw failures.failure(info, shouldContainOnly(actual, values, notFound, notExpected));
   }
 
+  /**
+   * Asserts that the given {@code Collection} contains exactly the given values, in any order: each value appears in
+   * the {@code Collection} as many times as it was given, and the {@code Collection} has no other elements. The number
+   * of times each value appears is counted in a {@code HashMap}, in O(n + m) time.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Collection}.
+   * @param values the values that are expected to be the elements of the given {@code Collection}.
+   * @throws NullPointerException if the array of values is {@code null}.
+   * @throws AssertionError if the given {@code Collection} is {@code null}.
+   * @throws AssertionError if the given {@code Collection} does not contain exactly the given values, each of them as
+   * many times as it was given.
+   */
+  public void assertContainsExactlyInAnyOrder(AssertionInfo info, Collection<?> actual, Object[] values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    assertNotNull(info, actual);
+    CountDifference difference = CountDifference.compute(actual, java.util.Arrays.asList(values));
+    if (difference == null) return;
+    throw failures.failure(info,
+        shouldContainExactlyInAnyOrder(actual, values, difference.missing, difference.notExpected));
+  }
+
   private static Set<Object> containsOnly(Set<Object> actual, Object[] values) {
     Set<Object> notFound = new LinkedHashSet<Object>();
     for (Object o : set(values)) {
@@ -173,25 +199,29 @@ public class Collections {
   public void assertContainsSequence(AssertionInfo info, Collection<?> actual, Object[] sequence) {
     checkIsNotNullAndNotEmpty(sequence);
     assertNotNull(info, actual);
-    boolean firstAlreadyFound = false;
-    int i = 0;
-    int sequenceSize = sequence.length;
-    for (Object o : actual) {
-      if (i >= sequenceSize) break;
-      if (!firstAlreadyFound) {
-        if (!areEqual(o, sequence[i])) continue;
-        firstAlreadyFound = true;
-        i++;
-        continue;
-      }
-      if (areEqual(o, sequence[i++])) continue;
-      throw actualDoesNotContainSequence(info, actual, sequence);
-    }
-    if (!firstAlreadyFound || i < sequenceSize) throw actualDoesNotContainSequence(info, actual, sequence);
+    if (actual instanceof SortedSet && sortedSetContainsSequence((SortedSet<?>) actual, sequence)) return;
+    SequenceMatch match = SequenceMatch.find(actual, wrap(sequence));
+    if (match.found) return;
+    throw failures.failure(info, shouldContainSequence(actual, sequence, match.start, match.size));
   }
 
-  private AssertionError actualDoesNotContainSequence(AssertionInfo info, Collection<?> actual, Object[] sequence) {
-    return failures.failure(info, shouldContainSequence(actual, sequence));
+  /**
+   * Looks for the given sequence in a {@code SortedSet} by jumping to the first value of the sequence, instead of
+   * walking the set from its first element. It can only prove that the sequence is there: when it is not, the set is
+   * scanned to find the longest partial match to report.
+   */
+  @SuppressWarnings("unchecked")
+  private static boolean sortedSetContainsSequence(SortedSet<?> actual, Object[] sequence) {
+    Iterator<?> elements;
+    try {
+      elements = ((SortedSet<Object>) actual).tailSet(sequence[0]).iterator();
+    } catch (RuntimeException e) {
+      // the value cannot be compared to the elements of the set, or is out of the range of a subset
+      return false;
+    }
+    for (Object value : sequence)
+      if (!elements.hasNext() || !areEqual(elements.next(), value)) return false;
+    return true;
   }
 
   /**
@@ -207,12 +237,23 @@ public class Collections {
   public void assertDoesNotContain(AssertionInfo info, Collection<?> actual, Object[] values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, actual);
-    Set<Object> found = new LinkedHashSet<Object>();
-    for (Object o: values) if (actual.contains(o)) found.add(o);
-    if (found.isEmpty()) return;
+    Set<Object> found = null;
+    Collection<?> index = lookUpIndex(actual, values.length);
+    for (Object o: values) if (index.contains(o)) found = collect(found, o);
+    if (found == null) return;
     throw failures.failure(info, shouldNotContain(actual, values, found));
   }
 
+  /**
+   * Returns the collection to look up the given number of values in. {@code Set}s answer lookups themselves. Other
+   * collections are scanned once per value, unless there are enough values to make indexing them in a {@code HashSet}
+   * first cheaper.
+   */
+  private static Collection<?> lookUpIndex(Collection<?> actual, int valueCount) {
+    if (actual instanceof Set || !shouldIndex(actual.size(), valueCount)) return actual;
+    return new HashSet<Object>(actual);
+  }
+
   /**
    * Asserts that the given {@code Collection} does not have duplicate values.
    * @param info contains information about the assertion.
@@ -275,14 +316,67 @@ public class Collections {
     assertNotNull(info, actual);
     int sequenceSize = sequence.length;
     int sizeOfActual = actual.size();
-    if (sizeOfActual < sequenceSize) throw actualDoesNotEndWithSequence(info, actual, sequence);
-    int start = actual.size() - sequenceSize;
-    int sequenceIndex = 0, indexOfActual = 0;
+    if (sizeOfActual < sequenceSize || !endsWith(actual, sizeOfActual, sequence))
+      throw actualDoesNotEndWithSequence(info, actual, sequence);
+  }
+
+  /**
+   * Compares the last elements of the given collection to the given sequence, starting from the last one when the
+   * collection can be walked backwards (a {@code RandomAccess} list, a {@code Deque} or a {@code SortedSet}.) Other
+   * collections are walked from their first element.
+   */
+  private static boolean endsWith(Collection<?> actual, int sizeOfActual, Object[] sequence) {
+    int sequenceIndex = sequence.length;
+    if (actual instanceof List && actual instanceof RandomAccess) {
+      List<?> list = (List<?>) actual;
+      int indexOfActual = sizeOfActual;
+      while (sequenceIndex > 0)
+        if (!areEqual(list.get(--indexOfActual), sequence[--sequenceIndex])) return false;
+      return true;
+    }
+    Iterator<?> fromLast = descendingIterator(actual);
+    if (fromLast != null) {
+      while (sequenceIndex > 0)
+        if (!areEqual(fromLast.next(), sequence[--sequenceIndex])) return false;
+      return true;
+    }
+    int start = sizeOfActual - sequence.length;
+    int indexOfActual = 0;
+    sequenceIndex = 0;
     for (Object o: actual) {
       if (indexOfActual++ < start) continue;
-      if (areEqual(o, sequence[sequenceIndex++])) continue;
-      throw actualDoesNotEndWithSequence(info, actual, sequence);
+      if (!areEqual(o, sequence[sequenceIndex++])) return false;
     }
+    return true;
+  }
+
+  private static Iterator<?> descendingIterator(Collection<?> actual) {
+    if (actual instanceof Deque) return ((Deque<?>) actual).descendingIterator();
+    if (actual instanceof NavigableSet) return ((NavigableSet<?>) actual).descendingIterator();
+    if (actual instanceof SortedSet) return descendingIterator((SortedSet<?>) actual);
+    return null;
+  }
+
+  /** Walks a {@code SortedSet} backwards by asking for the last element of a smaller head set each time. */
+  private static Iterator<?> descendingIterator(final SortedSet<?> set) {
+    return new Iterator<Object>() {
+      @SuppressWarnings("unchecked")
+      private SortedSet<Object> remaining = (SortedSet<Object>) set;
+
+      public boolean hasNext() {
+        return !remaining.isEmpty();
+      }
+
+      public Object next() {
+        Object last = remaining.last();
+        remaining = remaining.headSet(last);
+        return last;
+      }
+
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
   }
 
   /**
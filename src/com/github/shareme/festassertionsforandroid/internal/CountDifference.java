@@ -0,0 +1,121 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+import static com.github.shareme.festassertionsforandroid.util.ArrayWrapperList.wrap;
+import static com.github.shareme.festutilitiesandroid.Objects.HASH_CODE_PRIME;
+import static com.github.shareme.festutilitiesandroid.Objects.areEqual;
+import static com.github.shareme.festutilitiesandroid.Objects.hashCodeFor;
+
+import java.util.*;
+
+/**
+ * The difference between the elements of a group and a group of expected values, taking into account how many times
+ * each of them appears. It is computed in O(n + m) time by counting, in a {@code HashMap}, how many times each value is
+ * expected and subtracting how many times it is found. Elements that are arrays are compared by content.
+ */
+final class CountDifference {
+
+  /**
+   * Computes the difference between the given elements and the given expected values.
+   * @param elements the elements to verify.
+   * @param values the expected values.
+   * @return the difference, or {@code null} if each value appears in the elements exactly as many times as it is
+   * expected.
+   */
+  static CountDifference compute(Iterable<?> elements, Iterable<?> values) {
+    Map<Object, Count> counts = new HashMap<Object, Count>();
+    for (Object value : values) countOf(counts, value).value++;
+    for (Object element : elements) countOf(counts, element).value--;
+    if (allBalanced(counts)) return null;
+    CountDifference difference = new CountDifference();
+    for (Object element : elements) difference.report(counts, element);
+    for (Object value : values) difference.report(counts, value);
+    return difference;
+  }
+
+  private static Count countOf(Map<Object, Count> counts, Object value) {
+    Object key = keyOf(value);
+    Count count = counts.get(key);
+    if (count == null) {
+      count = new Count(value);
+      counts.put(key, count);
+    }
+    return count;
+  }
+
+  private static boolean allBalanced(Map<Object, Count> counts) {
+    for (Count count : counts.values())
+      if (count.value != 0) return false;
+    return true;
+  }
+
+  private static Object keyOf(Object value) {
+    return value != null && value.getClass().isArray() ? new ArrayKey(value) : value;
+  }
+
+  /** The values expected more times than they were found, mapped to the number of times they are missing. */
+  final Map<Object, Integer> missing = new LinkedHashMap<Object, Integer>();
+
+  /** The elements found more times than they were expected, mapped to the number of times they were not expected. */
+  final Map<Object, Integer> notExpected = new LinkedHashMap<Object, Integer>();
+
+  private CountDifference() {}
+
+  private void report(Map<Object, Count> counts, Object value) {
+    Count count = counts.get(keyOf(value));
+    if (count.value > 0) missing.put(count.first, count.value);
+    else if (count.value < 0) notExpected.put(count.first, -count.value);
+    count.value = 0;
+  }
+
+  /** How many more times a value is expected than found, and the first occurrence of the value. */
+  private static final class Count {
+    final Object first;
+    int value;
+
+    Count(Object first) {
+      this.first = first;
+    }
+  }
+
+  /**
+   * Wraps an array so that it is equal to the arrays with the same content, as defined by
+   * {@code Objects.areEqual}, which also compares the content of nested arrays.
+   */
+  private static final class ArrayKey {
+    final Object array;
+
+    ArrayKey(Object array) {
+      this.array = array;
+    }
+
+    @Override public boolean equals(Object obj) {
+      return obj instanceof ArrayKey && areEqual(array, ((ArrayKey) obj).array);
+    }
+
+    @Override public int hashCode() {
+      return deepHashCode(array);
+    }
+
+    private static int deepHashCode(Object value) {
+      if (value == null || !value.getClass().isArray()) return hashCodeFor(value);
+      List<Object> elements = wrap(value);
+      int result = 1;
+      for (int i = 0; i < elements.size(); i++) result = HASH_CODE_PRIME * result + deepHashCode(elements.get(i));
+      return result;
+    }
+  }
+}
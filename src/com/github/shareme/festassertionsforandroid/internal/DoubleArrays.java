@@ -14,8 +14,39 @@
  */
 package com.github.shareme.festassertionsforandroid.internal;
 
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeEmpty.shouldBeEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeSorted.*;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContain.shouldContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainAtIndex.shouldContainAtIndex;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainExactlyInAnyOrder.shouldContainExactlyInAnyOrder;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainOnly.shouldContainOnly;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainSequence.shouldContainSequence;
+import static com.github.shareme.festassertionsforandroid.error.ShouldEndWith.shouldEndWith;
+import static com.github.shareme.festassertionsforandroid.error.ShouldHaveEqualElementsWithinOffset.shouldHaveEqualElements;
+import static com.github.shareme.festassertionsforandroid.error.ShouldHaveSize.shouldHaveSize;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContain.shouldNotContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContainAtIndex.shouldNotContainAtIndex;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotHaveDuplicates.shouldNotHaveDuplicates;
+import static com.github.shareme.festassertionsforandroid.error.ShouldStartWith.shouldStartWith;
+import static com.github.shareme.festassertionsforandroid.internal.CommonErrors.*;
+import static com.github.shareme.festassertionsforandroid.internal.CommonValidations.*;
+import static com.github.shareme.festassertionsforandroid.internal.Lookups.shouldIndex;
+import static com.github.shareme.festassertionsforandroid.internal.Mismatches.collect;
+import static com.github.shareme.festassertionsforandroid.internal.ParallelScan.*;
+import static com.github.shareme.festassertionsforandroid.internal.SequenceMatch.MAXIMUM_NAIVE_SEARCH_SIZE;
+import static java.util.Arrays.binarySearch;
+import static java.util.Arrays.sort;
+
+import java.nio.DoubleBuffer;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
 import com.github.shareme.festassertionsforandroid.core.AssertionInfo;
 import com.github.shareme.festassertionsforandroid.data.Index;
+import com.github.shareme.festassertionsforandroid.data.Offset;
+import com.github.shareme.festassertionsforandroid.data.Parallelism;
 import com.github.shareme.festutilitiesandroid.VisibleForTesting;
 
 /**
@@ -35,11 +66,55 @@ public class DoubleArrays {
     return INSTANCE;
   }
 
-  private final Arrays arrays = Arrays.instance();
-
   @VisibleForTesting Failures failures = Failures.instance();
 
-  @VisibleForTesting DoubleArrays() {}
+  private final Parallelism parallelism;
+  private final boolean sortedSearch;
+
+  @VisibleForTesting DoubleArrays() {
+    this(null, false);
+  }
+
+  private DoubleArrays(Parallelism parallelism, boolean sortedSearch) {
+    this.parallelism = parallelism;
+    this.sortedSearch = sortedSearch;
+  }
+
+  /**
+   * Returns a copy of this object that verifies large arrays in parallel. The assertions that visit every element
+   * ({@code assertContains}, {@code assertDoesNotContain}, {@code assertContainsOnly} and
+   * {@code assertDoesNotHaveDuplicates}) split the work between threads when the array has at least
+   * <code>{@link Parallelism#threshold}</code> elements. Failure messages are the same as when verifying the array
+   * in the calling thread.
+   * @param parallelism how to split the work between threads.
+   * @return the created copy.
+   * @throws NullPointerException if the given {@code Parallelism} is {@code null}.
+   */
+  public DoubleArrays inParallel(Parallelism parallelism) {
+    if (parallelism == null) throw new NullPointerException("The parallelism to use should not be null");
+    DoubleArrays copy = new DoubleArrays(parallelism, sortedSearch);
+    copy.failures = failures;
+    return copy;
+  }
+
+  /**
+   * Returns a copy of this object that expects the arrays it verifies to be sorted in ascending order, and uses a
+   * binary search to look for values in them. {@code assertContains} then takes O(m log n) time instead of O(n m), for
+   * n elements and m values, and {@code assertDoesNotContain} takes O(n + m log n) time. Neither allocates anything
+   * when it passes.
+   * <p>
+   * A value that a binary search finds is always in the array, so {@code assertContains} never fails because the
+   * array was not sorted: it checks again by scanning before reporting a failure. A binary search may miss values that
+   * are in an array that is not sorted, though, so {@code assertDoesNotContain} first verifies that the array is
+   * sorted, and fails like <code>{@link #assertIsSorted(AssertionInfo, double[])}</code> if it is not.
+   * </p>
+   * @return the created copy.
+   */
+  public DoubleArrays usingSortedSearch() {
+    DoubleArrays copy = new DoubleArrays(parallelism, true);
+    copy.failures = failures;
+    return copy;
+  }
 
   /**
    * Asserts that the given array is {@code null} or empty.
@@ -48,7 +123,8 @@ public class DoubleArrays {
    * @throws AssertionError if the given array is not {@code null} *and* contains one or more elements.
    */
   public void assertNullOrEmpty(AssertionInfo info, double[] actual) {
-    arrays.assertNullOrEmpty(info, failures, actual);
+    if (actual == null || actual.length == 0) return;
+    throw failures.failure(info, shouldBeNullOrEmpty(actual));
   }
 
   /**
@@ -59,7 +135,9 @@ public class DoubleArrays {
    * @throws AssertionError if the given array is not empty.
    */
   public void assertEmpty(AssertionInfo info, double[] actual) {
-    arrays.assertEmpty(info, failures, actual);
+    assertNotNull(info, actual);
+    if (actual.length == 0) return;
+    throw failures.failure(info, shouldBeEmpty(actual));
   }
 
   /**
@@ -70,7 +148,9 @@ public class DoubleArrays {
    * @throws AssertionError if the given array is empty.
    */
   public void assertNotEmpty(AssertionInfo info, double[] actual) {
-    arrays.assertNotEmpty(info, failures, actual);
+    assertNotNull(info, actual);
+    if (actual.length != 0) return;
+    throw failures.failure(info, shouldNotBeEmpty());
   }
 
   /**
@@ -82,7 +162,70 @@ public class DoubleArrays {
    * @throws AssertionError if the number of elements in the given array is different than the expected one.
    */
   public void assertHasSize(AssertionInfo info, double[] actual, int expectedSize) {
-    arrays.assertHasSize(info, failures, actual, expectedSize);
+    assertNotNull(info, actual);
+    int sizeOfActual = actual.length;
+    if (sizeOfActual == expectedSize) return;
+    throw failures.failure(info, shouldHaveSize(actual, sizeOfActual, expectedSize));
+  }
+
+  /**
+   * Verifies that the elements of two arrays are equal within a positive offset. It stops at the first element that is
+   * not.
+   * @param info contains information about the assertion.
+   * @param actual the actual array.
+   * @param expected the array to compare {@code actual} to.
+   * @param offset the given positive offset.
+   * @throws NullPointerException if the given offset is {@code null}.
+   * @throws NullPointerException if the array to compare to is {@code null}.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the arrays do not have the same size.
+   * @throws AssertionError if any element of the actual array is not equal to the element of the expected array at the
+   * same index, within the given offset.
+   */
+  public void assertEqual(AssertionInfo info, double[] actual, double[] expected, Offset<Double> offset) {
+    assertEqual(info, actual, expected, offset, 1);
+  }
+
+  /**
+   * Verifies that the elements of two arrays are equal within a positive offset. When they are not, it keeps looking
+   * until it finds the given number of elements that differ, and reports all of them.
+   * @param info contains information about the assertion.
+   * @param actual the actual array.
+   * @param expected the array to compare {@code actual} to.
+   * @param offset the given positive offset.
+   * @param mismatchesToReport the maximum number of elements that differ to report.
+   * @throws NullPointerException if the given offset is {@code null}.
+   * @throws NullPointerException if the array to compare to is {@code null}.
+   * @throws IllegalArgumentException if the number of elements to report is not greater than zero.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the arrays do not have the same size.
+   * @throws AssertionError if any element of the actual array is not equal to the element of the expected array at the
+   * same index, within the given offset.
+   */
+  public void assertEqual(AssertionInfo info, double[] actual, double[] expected, Offset<Double> offset,
+      int mismatchesToReport) {
+    checkOffsetIsNotNull(offset);
+    if (expected == null) throw new NullPointerException("The array to compare to should not be null");
+    if (mismatchesToReport <= 0)
+      throw new IllegalArgumentException("The number of mismatches to report should be greater than zero");
+    assertNotNull(info, actual);
+    int sizeOfActual = actual.length;
+    if (sizeOfActual != expected.length)
+      throw failures.failure(info, shouldHaveSize(actual, sizeOfActual, expected.length));
+    double tolerance = offset.value.doubleValue();
+    DoubleBuffer elements = DoubleBuffer.wrap(actual);
+    int index = DoubleBuffers.indexOfMismatch(elements, expected, tolerance, 0);
+    if (index < 0) return;
+    List<Integer> indices = new ArrayList<Integer>();
+    List<Double> actualValues = new ArrayList<Double>();
+    List<Double> expectedValues = new ArrayList<Double>();
+    while (index >= 0 && indices.size() < mismatchesToReport) {
+      indices.add(index);
+      actualValues.add(actual[index]);
+      expectedValues.add(expected[index]);
+      index = DoubleBuffers.indexOfMismatch(elements, expected, tolerance, index + 1);
+    }
+    throw failures.failure(info, shouldHaveEqualElements(indices, actualValues, expectedValues, offset));
   }
 
   /**
@@ -96,7 +239,13 @@ public class DoubleArrays {
    * @throws AssertionError if the given array does not contain the given values.
    */
   public void assertContains(AssertionInfo info, double[] actual, double[] values) {
-    arrays.assertContains(info, failures, actual, values);
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    if (sortedSearch && lookUpInSorted(actual, values, false) == null) return;
+    Set<Double> notFound = shouldRunInParallel(parallelism, actual.length) ? lookUpInParallel(actual, values, false)
+        : lookUp(actual, values, false);
+    if (notFound == null) return;
+    throw failures.failure(info, shouldContain(actual, values, notFound));
   }
 
   /**
@@ -112,7 +261,11 @@ public class DoubleArrays {
    * @throws AssertionError if the given array does not contain the given value at the given index.
    */
   public void assertContains(AssertionInfo info, double[] actual, double value, Index index) {
-    arrays.assertContains(info, failures, actual, value, index);
+    assertNotEmpty(info, actual);
+    checkIndexValueIsValid(index, actual.length - 1);
+    double actualElement = actual[index.value];
+    if (areEqual(actualElement, value)) return;
+    throw failures.failure(info, shouldContainAtIndex(actual, value, index, actualElement));
   }
 
   /**
@@ -126,7 +279,12 @@ public class DoubleArrays {
    * @throws AssertionError if the given array contains the given value at the given index.
    */
   public void assertDoesNotContain(AssertionInfo info, double[] actual, double value, Index index) {
-    arrays.assertDoesNotContain(info, failures, actual, value, index);
+    assertNotNull(info, actual);
+    checkIndexValueIsValid(index, Integer.MAX_VALUE);
+    int indexValue = index.value;
+    if (indexValue >= actual.length) return;
+    if (!areEqual(actual[indexValue], value)) return;
+    throw failures.failure(info, shouldNotContainAtIndex(actual, value, index));
   }
 
   /**
@@ -141,7 +299,104 @@ public class DoubleArrays {
    * array contains values that are not in the given array.
    */
   public void assertContainsOnly(AssertionInfo info, double[] actual, double[] values) {
-    arrays.assertContainsOnly(info, failures, actual, values);
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    if (shouldRunInParallel(parallelism, actual.length)) {
+      assertContainsOnlyInParallel(info, actual, values);
+      return;
+    }
+    if (!shouldIndex(actual.length, values.length) && haveSameElements(actual, values)) return;
+    double[] sortedActual = sortedCopyOf(actual);
+    double[] sortedValues = sortedCopyOf(values);
+    if (haveSameDistinctElements(sortedActual, sortedValues)) return;
+    Set<Double> notFound = elementsNotIn(values, sortedActual);
+    Set<Double> notExpected = elementsNotIn(actual, sortedValues);
+    throw failures.failure(info, shouldContainOnly(actual, values, notFound, notExpected));
+  }
+
+  /** Scans each array once per element of the other one, which is cheaper than sorting them when both are small. */
+  private static boolean haveSameElements(double[] array, double[] other) {
+    for (double element : array) if (!arrayContains(other, element)) return false;
+    for (double element : other) if (!arrayContains(array, element)) return false;
+    return true;
+  }
+
+  private static double[] sortedCopyOf(double[] array) {
+    double[] copy = array.clone();
+    sort(copy);
+    return copy;
+  }
+
+  private static double[] distinctSortedCopyOf(double[] array) {
+    double[] sorted = sortedCopyOf(array);
+    int distinctCount = 0;
+    for (double element : sorted) {
+      if (distinctCount > 0 && areEqual(element, sorted[distinctCount - 1])) continue;
+      sorted[distinctCount++] = element;
+    }
+    if (distinctCount == sorted.length) return sorted;
+    double[] distinct = new double[distinctCount];
+    System.arraycopy(sorted, 0, distinct, 0, distinctCount);
+    return distinct;
+  }
+
+  /**
+   * Walks both sorted arrays at the same time, skipping repeated values, to find out whether they contain the same
+   * distinct values.
+   */
+  private static boolean haveSameDistinctElements(double[] sorted, double[] otherSorted) {
+    int i = 0, j = 0;
+    while (i < sorted.length && j < otherSorted.length) {
+      double value = sorted[i];
+      if (!areEqual(value, otherSorted[j])) return false;
+      while (i < sorted.length && areEqual(sorted[i], value)) i++;
+      while (j < otherSorted.length && areEqual(otherSorted[j], value)) j++;
+    }
+    return i == sorted.length && j == otherSorted.length;
+  }
+
+  /**
+   * Returns the distinct elements that are not in the given sorted array, in the order they appear in the given
+   * elements. It is only used to report a failure, which is when boxing the elements is needed anyway.
+   */
+  private static Set<Double> elementsNotIn(double[] elements, double[] sortedOthers) {
+    Set<Double> notIn = new LinkedHashSet<Double>();
+    for (double element : elements) if (binarySearch(sortedOthers, element) < 0) notIn.add(element);
+    return notIn;
+  }
+
+  /**
+   * Asserts that the given array contains exactly the given values, in any order: each value appears in the array as
+   * many times as it was given, and the array has no other elements.
+   * The number of times each value appears is counted in a hash table of primitive values, in O(n + m) time.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param values the values that are expected to be the elements of the given array.
+   * @throws NullPointerException if the array of values is {@code null}.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the given array does not contain exactly the given values, each of them as many times as
+   * it was given.
+   */
+  public void assertContainsExactlyInAnyOrder(AssertionInfo info, double[] actual, double[] values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    assertNotNull(info, actual);
+    LongCounts counts = new LongCounts(values.length);
+    for (double value : values) counts.add(Double.doubleToLongBits(value), 1);
+    for (double element : actual) counts.add(Double.doubleToLongBits(element), -1);
+    if (counts.allZero()) return;
+    Map<Double, Integer> missing = new LinkedHashMap<Double, Integer>();
+    Map<Double, Integer> notExpected = new LinkedHashMap<Double, Integer>();
+    for (double element : actual)
+      reportDifference(element, counts.take(Double.doubleToLongBits(element)), missing, notExpected);
+    for (double value : values)
+      reportDifference(value, counts.take(Double.doubleToLongBits(value)), missing, notExpected);
+    throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, missing, notExpected));
+  }
+
+  private static void reportDifference(double value, int missingCount, Map<Double, Integer> missing,
+      Map<Double, Integer> notExpected) {
+    if (missingCount > 0) missing.put(value, missingCount);
+    else if (missingCount < 0) notExpected.put(value, -missingCount);
   }
 
   /**
@@ -155,7 +410,64 @@ public class DoubleArrays {
    * @throws AssertionError if the given array does not contain the given sequence of values.
    */
   public void assertContainsSequence(AssertionInfo info, double[] actual, double[] sequence) {
-    arrays.assertContainsSequence(info, failures, actual, sequence);
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    if (sequence.length <= MAXIMUM_NAIVE_SEARCH_SIZE) {
+      int start = startOfLongestMatch(actual, sequence);
+      int size = matchSize(actual, start, sequence);
+      if (size == sequence.length) return;
+      throw failures.failure(info, shouldContainSequence(actual, sequence, start, size));
+    }
+    int[] failure = failureFunction(sequence);
+    int matched = 0, longestMatchStart = 0, longestMatchSize = 0;
+    for (int i = 0; i < actual.length; i++) {
+      while (matched > 0 && !areEqual(actual[i], sequence[matched])) matched = failure[matched - 1];
+      if (!areEqual(actual[i], sequence[matched])) continue;
+      if (++matched == sequence.length) return;
+      if (matched <= longestMatchSize) continue;
+      longestMatchSize = matched;
+      longestMatchStart = i - matched + 1;
+    }
+    throw failures.failure(info, shouldContainSequence(actual, sequence, longestMatchStart, longestMatchSize));
+  }
+
+  /**
+   * Compares the given sequence with the elements starting at each index of the given array in turn, and returns the
+   * index where the longest match starts (the first one, if there are several.) It does not allocate anything, which
+   * makes it cheaper than the Knuth-Morris-Pratt search for short sequences.
+   */
+  private static int startOfLongestMatch(double[] array, double[] sequence) {
+    int longestMatchStart = 0, longestMatchSize = 0;
+    for (int start = 0; start < array.length && longestMatchSize < sequence.length; start++) {
+      int size = matchSize(array, start, sequence);
+      if (size <= longestMatchSize) continue;
+      longestMatchSize = size;
+      longestMatchStart = start;
+    }
+    return longestMatchStart;
+  }
+
+  /** Returns the number of values of the given sequence that match the elements starting at the given index. */
+  private static int matchSize(double[] array, int start, double[] sequence) {
+    int size = 0;
+    int maximumSize = Math.min(sequence.length, array.length - start);
+    while (size < maximumSize && areEqual(array[start + size], sequence[size])) size++;
+    return size;
+  }
+
+  /**
+   * Computes the Knuth-Morris-Pratt failure function of the given sequence: for each index {@code i}, the size of the
+   * longest proper prefix of {@code sequence[0..i]} that is also a suffix of it. It lets a search continue after a
+   * mismatch without going back in the searched array. The assertions on buffers use it too.
+   */
+  static int[] failureFunction(double[] sequence) {
+    int[] failure = new int[sequence.length];
+    for (int i = 1, matched = 0; i < sequence.length; i++) {
+      while (matched > 0 && !areEqual(sequence[i], sequence[matched])) matched = failure[matched - 1];
+      if (areEqual(sequence[i], sequence[matched])) matched++;
+      failure[i] = matched;
+    }
+    return failure;
   }
 
   /**
@@ -169,7 +481,49 @@ public class DoubleArrays {
    * @throws AssertionError if the given array contains any of given values.
    */
   public void assertDoesNotContain(AssertionInfo info, double[] actual, double[] values) {
-    arrays.assertDoesNotContain(info, failures, actual, values);
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    Set<Double> found;
+    if (sortedSearch) {
+      // A binary search could miss values that are in an array that is not sorted.
+      assertIsSorted(info, actual);
+      found = lookUpInSorted(actual, values, true);
+    } else {
+      found = shouldRunInParallel(parallelism, actual.length) ? lookUpInParallel(actual, values, true)
+          : lookUp(actual, values, true);
+    }
+    if (found == null) return;
+    throw failures.failure(info, shouldNotContain(actual, values, found));
+  }
+
+  /**
+   * Returns the given values that are (or are not) in the given array, in the order they were given. The array is
+   * scanned once per value, unless there are enough values to make a single pass that indexes the array cheaper.
+   * Returns {@code null} instead of an empty set, so that a lookup that finds nothing to report does not allocate
+   * anything unless it indexes the array.
+   */
+  private static Set<Double> lookUp(double[] array, double[] values, boolean found) {
+    Set<Double> result = null;
+    if (!shouldIndex(array.length, values.length)) {
+      for (double value : values) if (arrayContains(array, value) == found) result = collect(result, value);
+      return result;
+    }
+    LongHashSet index = new LongHashSet(array.length);
+    for (double element : array) index.add(Double.doubleToLongBits(element));
+    for (double value : values)
+      if (index.contains(Double.doubleToLongBits(value)) == found) result = collect(result, value);
+    return result;
+  }
+
+  private static boolean arrayContains(double[] array, double value) {
+    for (double element : array) if (areEqual(element, value)) return true;
+    return false;
+  }
+
+  /** Returns the index of the first element equal to the given value among the first {@code end} ones, or -1. */
+  private static int indexOf(double[] array, double value, int end) {
+    for (int i = 0; i < end; i++) if (areEqual(array[i], value)) return i;
+    return -1;
   }
 
   /**
@@ -182,7 +536,29 @@ public class DoubleArrays {
    * @throws AssertionError if the given array contains duplicate values.
    */
   public void assertDoesNotHaveDuplicates(AssertionInfo info, double[] actual) {
-    arrays.assertDoesNotHaveDuplicates(info, failures, actual);
+    assertNotNull(info, actual);
+    Set<Double> duplicates = shouldRunInParallel(parallelism, actual.length) ? duplicatesInParallel(actual)
+        : duplicatesIn(actual);
+    if (duplicates == null) return;
+    throw failures.failure(info, shouldNotHaveDuplicates(actual, duplicates));
+  }
+
+  /**
+   * Returns the values that appear more than once in the given array, in the order of their second appearance, or
+   * {@code null} if there are none.
+   */
+  private static Set<Double> duplicatesIn(double[] array) {
+    Set<Double> duplicates = null;
+    if (!shouldIndex(array.length, array.length)) {
+      // Comparing each element with the ones before it is cheap for small arrays, and does not allocate anything.
+      for (int i = 1; i < array.length; i++)
+        if (indexOf(array, array[i], i) >= 0) duplicates = collect(duplicates, array[i]);
+      return duplicates;
+    }
+    LongHashSet seen = new LongHashSet(array.length);
+    for (double element : array)
+      if (!seen.add(Double.doubleToLongBits(element))) duplicates = collect(duplicates, element);
+    return duplicates;
   }
 
   /**
@@ -198,7 +574,14 @@ public class DoubleArrays {
    * @throws AssertionError if the given array does not start with the given sequence of values.
    */
   public void assertStartsWith(AssertionInfo info, double[] actual, double[] sequence) {
-    arrays.assertStartsWith(info, failures, actual, sequence);
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    int sequenceSize = sequence.length;
+    if (actual.length < sequenceSize) throw failures.failure(info, shouldStartWith(actual, sequence));
+    for (int i = 0; i < sequenceSize; i++) {
+      if (areEqual(sequence[i], actual[i])) continue;
+      throw failures.failure(info, shouldStartWith(actual, sequence));
+    }
   }
 
   /**
@@ -214,6 +597,168 @@ public class DoubleArrays {
    * @throws AssertionError if the given array does not end with the given sequence of values.
    */
   public void assertEndsWith(AssertionInfo info, double[] actual, double[] sequence) {
-    arrays.assertEndsWith(info, failures, actual, sequence);
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    int sequenceSize = sequence.length;
+    int offset = actual.length - sequenceSize;
+    if (offset < 0) throw failures.failure(info, shouldEndWith(actual, sequence));
+    for (int i = 0; i < sequenceSize; i++) {
+      if (areEqual(sequence[i], actual[offset + i])) continue;
+      throw failures.failure(info, shouldEndWith(actual, sequence));
+    }
+  }
+
+  /**
+   * Verifies that the given array is sorted in ascending order.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the given array is not sorted in ascending order.
+   */
+  public void assertIsSorted(AssertionInfo info, double[] actual) {
+    assertNotNull(info, actual);
+    for (int i = 1; i < actual.length; i++) {
+      if (Double.compare(actual[i - 1], actual[i]) <= 0) continue;
+      throw failures.failure(info, shouldBeSorted(i - 1, actual));
+    }
+  }
+
+  /**
+   * Verifies that the given array is sorted according to the given comparator.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param comparator the {@code Comparator} used to compare the elements of the array.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the given array is not sorted according to the given comparator.
+   */
+  public void assertIsSortedAccordingToComparator(AssertionInfo info, double[] actual,
+      Comparator<? super Double> comparator) {
+    if (comparator == null) throw new NullPointerException("The given comparator should not be null");
+    assertNotNull(info, actual);
+    for (int i = 1; i < actual.length; i++) {
+      if (comparator.compare(actual[i - 1], actual[i]) <= 0) continue;
+      throw failures.failure(info, shouldBeSortedAccordingToGivenComparator(i - 1, actual, comparator));
+    }
+  }
+
+  /**
+   * Same as <code>{@link #lookUp(double[], double[], boolean)}</code>, but uses a binary search in the given array,
+   * which should be sorted in ascending order.
+   */
+  private static Set<Double> lookUpInSorted(double[] sortedArray, double[] values, boolean found) {
+    Set<Double> result = null;
+    for (double value : values)
+      if ((binarySearch(sortedArray, value) >= 0) == found) result = collect(result, value);
+    return result;
+  }
+
+  /**
+   * Same as <code>{@link #lookUp(double[], double[], boolean)}</code>, but splits the scan of the array between
+   * threads. The scan stops as soon as all the values are found; otherwise it visits every element, which also tells
+   * which values were found.
+   */
+  private Set<Double> lookUpInParallel(final double[] array, double[] values, boolean found) {
+    final double[] distinctValues = distinctSortedCopyOf(values);
+    final AtomicIntegerArray marks = new AtomicIntegerArray(distinctValues.length);
+    final AtomicInteger notFoundCount = new AtomicInteger(distinctValues.length);
+    anyMatch(parallelism, array.length, new RangeCheck() {
+      public boolean matches(int part, int from, int to) {
+        for (int i = from; i < to; i++) {
+          int position = binarySearch(distinctValues, array[i]);
+          if (position < 0 || marks.get(position) != 0 || !marks.compareAndSet(position, 0, 1)) continue;
+          if (notFoundCount.decrementAndGet() == 0) return true;
+        }
+        return false;
+      }
+    });
+    return valuesMarked(values, distinctValues, marks, found);
+  }
+
+  /**
+   * Splits the scan of the array between threads. Each part marks the values it finds and keeps the indices of the
+   * elements that are not expected, so a failure reports the same values, in the same order, as the sequential check.
+   */
+  private void assertContainsOnlyInParallel(AssertionInfo info, final double[] actual, double[] values) {
+    final double[] distinctValues = distinctSortedCopyOf(values);
+    final AtomicIntegerArray marks = new AtomicIntegerArray(distinctValues.length);
+    final Indices unexpected = new Indices(parallelism.partCount);
+    anyMatch(parallelism, actual.length, new RangeCheck() {
+      public boolean matches(int part, int from, int to) {
+        for (int i = from; i < to; i++) {
+          int position = binarySearch(distinctValues, actual[i]);
+          if (position < 0) unexpected.add(part, i);
+          else if (marks.get(position) == 0) marks.set(position, 1);
+        }
+        return false;
+      }
+    });
+    Set<Double> notFound = valuesMarked(values, distinctValues, marks, false);
+    int[] unexpectedIndices = unexpected.sorted();
+    if (notFound == null && unexpectedIndices == null) return;
+    if (notFound == null) notFound = new LinkedHashSet<Double>();
+    Set<Double> notExpected = new LinkedHashSet<Double>();
+    if (unexpectedIndices != null) for (int index : unexpectedIndices) notExpected.add(actual[index]);
+    throw failures.failure(info, shouldContainOnly(actual, values, notFound, notExpected));
+  }
+
+  /**
+   * Returns the given values that are (or are not) marked, in the order they were given, or {@code null} if there are
+   * none. The marks are those of the given distinct sorted values.
+   */
+  private static Set<Double> valuesMarked(double[] values, double[] distinctValues, AtomicIntegerArray marks,
+      boolean marked) {
+    Set<Double> result = null;
+    for (double value : values)
+      if ((marks.get(binarySearch(distinctValues, value)) != 0) == marked) result = collect(result, value);
+    return result;
+  }
+
+  /**
+   * Same as <code>{@link #duplicatesIn(double[])}</code>, but splits the work between threads. The elements are first
+   * grouped by hash, so that equal elements always end up in the same group, and then each part looks for duplicates
+   * in one group. The parts keep the index of the second appearance of each duplicate, so the duplicates can be
+   * reported in the same order as the sequential check does.
+   */
+  private Set<Double> duplicatesInParallel(final double[] actual) {
+    final Groups groups = groupByHash(parallelism, actual.length, new IndexHash() {
+      public int hashAt(int index) {
+        long key = Double.doubleToLongBits(actual[index]);
+        return (int) (key ^ (key >>> 32));
+      }
+    });
+    final Indices secondAppearances = new Indices(parallelism.partCount);
+    anyPartMatches(parallelism, new PartCheck() {
+      public boolean matches(int part, int partCount, AtomicBoolean stopped) {
+        int from = groups.starts[part], to = groups.starts[part + 1];
+        LongHashSet seen = new LongHashSet(to - from);
+        LongHashSet reported = null;
+        for (int i = from; i < to; i++) {
+          int index = groups.indices[i];
+          if (seen.add(Double.doubleToLongBits(actual[index]))) continue;
+          if (reported == null) reported = new LongHashSet(1);
+          if (reported.add(Double.doubleToLongBits(actual[index]))) secondAppearances.add(part, index);
+        }
+        return false;
+      }
+    });
+    int[] indices = secondAppearances.sorted();
+    if (indices == null) return null;
+    Set<Double> duplicates = null;
+    for (int index : indices) duplicates = collect(duplicates, actual[index]);
+    return duplicates;
+  }
+
+  private static void checkIsNotNullAndNotEmpty(double[] values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    if (values.length == 0) throw arrayOfValuesToLookForIsEmpty();
+  }
+
+  private static boolean areEqual(double actual, double other) {
+    return Double.doubleToLongBits(actual) == Double.doubleToLongBits(other);
+  }
+
+  private void assertNotNull(AssertionInfo info, double[] actual) {
+    Objects.instance().assertNotNull(info, actual);
   }
 }
@@ -0,0 +1,344 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeEmpty.shouldBeEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContain.shouldContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainSequence.shouldContainSequence;
+import static com.github.shareme.festassertionsforandroid.error.ShouldEndWith.shouldEndWith;
+import static com.github.shareme.festassertionsforandroid.error.ShouldHaveEqualElementsWithinOffset.shouldHaveEqualElements;
+import static com.github.shareme.festassertionsforandroid.error.ShouldHaveSize.shouldHaveSize;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContain.shouldNotContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldStartWith.shouldStartWith;
+import static com.github.shareme.festassertionsforandroid.internal.CommonErrors.*;
+import static com.github.shareme.festassertionsforandroid.internal.CommonValidations.checkOffsetIsNotNull;
+import static com.github.shareme.festassertionsforandroid.internal.Lookups.shouldIndex;
+import static com.github.shareme.festassertionsforandroid.internal.Mismatches.collect;
+import static java.lang.Math.abs;
+
+import java.nio.DoubleBuffer;
+import java.util.*;
+
+import com.github.shareme.festassertionsforandroid.core.AssertionInfo;
+import com.github.shareme.festassertionsforandroid.data.Offset;
+import com.github.shareme.festutilitiesandroid.VisibleForTesting;
+
+/**
+ * Reusable assertions for <code>{@link DoubleBuffer}</code>s. The elements of a buffer are the ones between its
+ * position and its limit. They are read in place, using absolute {@code get}s, so direct and memory-mapped buffers
+ * are not copied and the position of a buffer is never changed. Failure messages show those elements too, bounded
+ * to a few of them from each end of the buffer.
+ */
+public class DoubleBuffers {
+
+  private static final DoubleBuffers INSTANCE = new DoubleBuffers();
+
+  /**
+   * Returns the singleton instance of this class.
+   * @return the singleton instance of this class.
+   */
+  public static DoubleBuffers instance() {
+    return INSTANCE;
+  }
+
+  @VisibleForTesting Failures failures = Failures.instance();
+
+  @VisibleForTesting DoubleBuffers() {}
+
+  /**
+   * Asserts that the given buffer is {@code null} or has no elements left between its position and its limit.
+   * @param info contains information about the assertion.
+   * @param actual the given buffer.
+   * @throws AssertionError if the given buffer is not {@code null} *and* contains one or more elements.
+   */
+  public void assertNullOrEmpty(AssertionInfo info, DoubleBuffer actual) {
+    if (actual == null || !actual.hasRemaining()) return;
+    throw failures.failure(info, shouldBeNullOrEmpty(remainingOf(actual)));
+  }
+
+  /**
+   * Asserts that the given buffer has no elements left between its position and its limit.
+   * @param info contains information about the assertion.
+   * @param actual the given buffer.
+   * @throws AssertionError if the given buffer is {@code null}.
+   * @throws AssertionError if the given buffer is not empty.
+   */
+  public void assertEmpty(AssertionInfo info, DoubleBuffer actual) {
+    assertNotNull(info, actual);
+    if (!actual.hasRemaining()) return;
+    throw failures.failure(info, shouldBeEmpty(remainingOf(actual)));
+  }
+
+  /**
+   * Asserts that the given buffer has elements left between its position and its limit.
+   * @param info contains information about the assertion.
+   * @param actual the given buffer.
+   * @throws AssertionError if the given buffer is {@code null}.
+   * @throws AssertionError if the given buffer is empty.
+   */
+  public void assertNotEmpty(AssertionInfo info, DoubleBuffer actual) {
+    assertNotNull(info, actual);
+    if (actual.hasRemaining()) return;
+    throw failures.failure(info, shouldNotBeEmpty());
+  }
+
+  /**
+   * Asserts that the number of elements between the position and the limit of the given buffer is equal to the
+   * expected one.
+   * @param info contains information about the assertion.
+   * @param actual the given buffer.
+   * @param expectedSize the expected size of {@code actual}.
+   * @throws AssertionError if the given buffer is {@code null}.
+   * @throws AssertionError if the number of elements in the given buffer is different than the expected one.
+   */
+  public void assertHasSize(AssertionInfo info, DoubleBuffer actual, int expectedSize) {
+    assertNotNull(info, actual);
+    int sizeOfActual = actual.remaining();
+    if (sizeOfActual == expectedSize) return;
+    throw failures.failure(info, shouldHaveSize(remainingOf(actual), sizeOfActual, expectedSize));
+  }
+
+  /**
+   * Asserts that the given buffer contains the given values, in any order.
+   * @param info contains information about the assertion.
+   * @param actual the given buffer.
+   * @param values the values that are expected to be in the given buffer.
+   * @throws NullPointerException if the array of values is {@code null}.
+   * @throws IllegalArgumentException if the array of values is empty.
+   * @throws AssertionError if the given buffer is {@code null}.
+   * @throws AssertionError if the given buffer does not contain the given values.
+   */
+  public void assertContains(AssertionInfo info, DoubleBuffer actual, double[] values) {
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    Set<Double> notFound = lookUp(actual, values, false);
+    if (notFound == null) return;
+    throw failures.failure(info, shouldContain(remainingOf(actual), values, notFound));
+  }
+
+  /**
+   * Asserts that the given buffer does not contain the given values.
+   * @param info contains information about the assertion.
+   * @param actual the given buffer.
+   * @param values the values that are expected not to be in the given buffer.
+   * @throws NullPointerException if the array of values is {@code null}.
+   * @throws IllegalArgumentException if the array of values is empty.
+   * @throws AssertionError if the given buffer is {@code null}.
+   * @throws AssertionError if the given buffer contains any of given values.
+   */
+  public void assertDoesNotContain(AssertionInfo info, DoubleBuffer actual, double[] values) {
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    Set<Double> found = lookUp(actual, values, true);
+    if (found == null) return;
+    throw failures.failure(info, shouldNotContain(remainingOf(actual), values, found));
+  }
+
+  /**
+   * Returns the given values that are (or are not) in the given buffer, in the order they were given. The buffer is
+   * scanned once per value, unless there are enough values to make a single pass that indexes the buffer cheaper.
+   */
+  private static Set<Double> lookUp(DoubleBuffer buffer, double[] values, boolean found) {
+    Set<Double> result = null;
+    int start = buffer.position(), end = buffer.limit();
+    if (!shouldIndex(end - start, values.length)) {
+      for (double value : values)
+        if (bufferContains(buffer, start, end, value) == found) result = collect(result, value);
+      return result;
+    }
+    LongHashSet index = new LongHashSet(end - start);
+    for (int i = start; i < end; i++) {
+      double element = buffer.get(i);
+      index.add(Double.doubleToLongBits(element));
+    }
+    for (double value : values)
+      if (index.contains(Double.doubleToLongBits(value)) == found) result = collect(result, value);
+    return result;
+  }
+
+  private static boolean bufferContains(DoubleBuffer buffer, int start, int end, double value) {
+    for (int i = start; i < end; i++) if (areEqual(buffer.get(i), value)) return true;
+    return false;
+  }
+
+  /**
+   * Verifies that the given buffer contains the given sequence of values, without any other values between them.
+   * @param info contains information about the assertion.
+   * @param actual the given buffer.
+   * @param sequence the sequence of values to look for.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws IllegalArgumentException if the given sequence is empty.
+   * @throws AssertionError if the given buffer is {@code null}.
+   * @throws AssertionError if the given buffer does not contain the given sequence of values.
+   */
+  public void assertContainsSequence(AssertionInfo info, DoubleBuffer actual, double[] sequence) {
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    int[] failure = DoubleArrays.failureFunction(sequence);
+    int start = actual.position(), end = actual.limit();
+    int matched = 0, longestMatchStart = 0, longestMatchSize = 0;
+    for (int i = start; i < end; i++) {
+      double element = actual.get(i);
+      while (matched > 0 && !areEqual(element, sequence[matched])) matched = failure[matched - 1];
+      if (!areEqual(element, sequence[matched])) continue;
+      if (++matched == sequence.length) return;
+      if (matched <= longestMatchSize) continue;
+      longestMatchSize = matched;
+      longestMatchStart = i - start - matched + 1;
+    }
+    Excerpt remaining = remainingOf(actual);
+    throw failures.failure(info, shouldContainSequence(remaining, sequence, longestMatchStart, longestMatchSize));
+  }
+
+  /**
+   * Verifies that the given buffer starts with the given sequence of values, without any other values between them.
+   * @param info contains information about the assertion.
+   * @param actual the given buffer.
+   * @param sequence the sequence of values to look for.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the given buffer is {@code null}.
+   * @throws AssertionError if the given buffer does not start with the given sequence of values.
+   */
+  public void assertStartsWith(AssertionInfo info, DoubleBuffer actual, double[] sequence) {
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    if (!hasSequenceAt(actual, sequence, actual.position()))
+      throw failures.failure(info, shouldStartWith(remainingOf(actual), sequence));
+  }
+
+  /**
+   * Verifies that the given buffer ends with the given sequence of values, without any other values between them.
+   * @param info contains information about the assertion.
+   * @param actual the given buffer.
+   * @param sequence the sequence of values to look for.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the given buffer is {@code null}.
+   * @throws AssertionError if the given buffer does not end with the given sequence of values.
+   */
+  public void assertEndsWith(AssertionInfo info, DoubleBuffer actual, double[] sequence) {
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    if (!hasSequenceAt(actual, sequence, actual.limit() - sequence.length))
+      throw failures.failure(info, shouldEndWith(remainingOf(actual), sequence));
+  }
+
+  private static boolean hasSequenceAt(DoubleBuffer buffer, double[] sequence, int start) {
+    if (start < buffer.position() || start + sequence.length > buffer.limit()) return false;
+    for (int i = 0; i < sequence.length; i++)
+      if (!areEqual(buffer.get(start + i), sequence[i])) return false;
+    return true;
+  }
+
+  /**
+   * Verifies that the elements of the given buffer are equal to the ones of the given array, within a positive offset.
+   * It stops at the first element that is not.
+   * @param info contains information about the assertion.
+   * @param actual the given buffer.
+   * @param expected the array to compare the elements of {@code actual} to.
+   * @param offset the given positive offset.
+   * @throws NullPointerException if the given offset is {@code null}.
+   * @throws NullPointerException if the array to compare to is {@code null}.
+   * @throws AssertionError if the given buffer is {@code null}.
+   * @throws AssertionError if the given buffer and the array do not have the same size.
+   * @throws AssertionError if any element of the given buffer is not equal to the element of the array at the same
+   * index, within the given offset.
+   */
+  public void assertEqual(AssertionInfo info, DoubleBuffer actual, double[] expected, Offset<Double> offset) {
+    assertEqual(info, actual, expected, offset, 1);
+  }
+
+  /**
+   * Verifies that the elements of the given buffer are equal to the ones of the given array, within a positive offset.
+   * When they are not, it keeps looking until it finds the given number of elements that differ, and reports all of
+   * them.
+   * @param info contains information about the assertion.
+   * @param actual the given buffer.
+   * @param expected the array to compare the elements of {@code actual} to.
+   * @param offset the given positive offset.
+   * @param mismatchesToReport the maximum number of elements that differ to report.
+   * @throws NullPointerException if the given offset is {@code null}.
+   * @throws NullPointerException if the array to compare to is {@code null}.
+   * @throws IllegalArgumentException if the number of elements to report is not greater than zero.
+   * @throws AssertionError if the given buffer is {@code null}.
+   * @throws AssertionError if the given buffer and the array do not have the same size.
+   * @throws AssertionError if any element of the given buffer is not equal to the element of the array at the same
+   * index, within the given offset.
+   */
+  public void assertEqual(AssertionInfo info, DoubleBuffer actual, double[] expected, Offset<Double> offset,
+      int mismatchesToReport) {
+    checkOffsetIsNotNull(offset);
+    if (expected == null) throw new NullPointerException("The array to compare to should not be null");
+    if (mismatchesToReport <= 0)
+      throw new IllegalArgumentException("The number of mismatches to report should be greater than zero");
+    assertNotNull(info, actual);
+    int sizeOfActual = actual.remaining();
+    if (sizeOfActual != expected.length)
+      throw failures.failure(info, shouldHaveSize(remainingOf(actual), sizeOfActual, expected.length));
+    double tolerance = offset.value.doubleValue();
+    int index = indexOfMismatch(actual, expected, tolerance, 0);
+    if (index < 0) return;
+    List<Integer> indices = new ArrayList<Integer>();
+    List<Double> actualValues = new ArrayList<Double>();
+    List<Double> expectedValues = new ArrayList<Double>();
+    while (index >= 0 && indices.size() < mismatchesToReport) {
+      indices.add(index);
+      actualValues.add(actual.get(actual.position() + index));
+      expectedValues.add(expected[index]);
+      index = indexOfMismatch(actual, expected, tolerance, index + 1);
+    }
+    throw failures.failure(info, shouldHaveEqualElements(indices, actualValues, expectedValues, offset));
+  }
+
+  /**
+   * Returns the index, relative to the position of the buffer, of the first element starting at the given one that is
+   * not equal to the expected one within the given tolerance, or -1 if there is none. Elements are compared the same
+   * way <code>{@link Double}s</code> are compared within an offset: elements with the same bits (two {@code NaN}s, for
+   * example) are equal whatever the tolerance. <code>{@link DoubleArrays}</code> uses it too, on a wrapped array.
+   */
+  static int indexOfMismatch(DoubleBuffer actual, double[] expected, double tolerance, int from) {
+    int start = actual.position();
+    for (int i = from; i < expected.length; i++) {
+      double a = actual.get(start + i), e = expected[i];
+      if (Double.doubleToLongBits(a) != Double.doubleToLongBits(e) && !(abs(e - a) <= tolerance)) return i;
+    }
+    return -1;
+  }
+
+  private static void checkIsNotNullAndNotEmpty(double[] values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    if (values.length == 0) throw arrayOfValuesToLookForIsEmpty();
+  }
+
+  private static boolean areEqual(double actual, double other) {
+    return Double.doubleToLongBits(actual) == Double.doubleToLongBits(other);
+  }
+
+  /** Describes the elements between the position and the limit of the given buffer, for a failure message. */
+  private static Excerpt remainingOf(DoubleBuffer buffer) {
+    int start = buffer.position(), size = buffer.remaining();
+    double[] head = new double[Excerpt.headSize(size)], tail = new double[Excerpt.tailSize(size)];
+    for (int i = 0; i < head.length; i++) head[i] = buffer.get(start + i);
+    for (int i = 0; i < tail.length; i++) tail[i] = buffer.get(start + size - tail.length + i);
+    return Excerpt.ofElements(size, head, tail);
+  }
+
+  private void assertNotNull(AssertionInfo info, DoubleBuffer actual) {
+    Objects.instance().assertNotNull(info, actual);
+  }
+}
@@ -0,0 +1,271 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+import static com.github.shareme.festassertionsforandroid.error.ShouldContain.shouldContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainSequence.shouldContainSequence;
+import static com.github.shareme.festassertionsforandroid.error.ShouldHaveSize.shouldHaveSize;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContainNull.shouldNotContainNull;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotHaveDuplicates.shouldNotHaveDuplicates;
+import static com.github.shareme.festassertionsforandroid.error.ShouldStartWith.shouldStartWith;
+import static com.github.shareme.festutilitiesandroid.Objects.areEqual;
+
+import java.util.*;
+
+import com.github.shareme.festassertionsforandroid.data.ElementChecks;
+import com.github.shareme.festassertionsforandroid.data.ElementChecks.Check;
+import com.github.shareme.festassertionsforandroid.data.ElementChecks.Kind;
+import com.github.shareme.festassertionsforandroid.error.ErrorMessageFactory;
+
+/**
+ * A check on a group of elements, which sees each element once, in order, while <code>{@link Iterables}</code>
+ * verifies the elements against an <code>{@link ElementChecks}</code>. A check keeps the state of one verification
+ * only, so it is never shared between verifications.
+ */
+abstract class ElementCheck {
+
+  /**
+   * Creates the checks that verify the elements of a group as described by the given checks. Each verification creates
+   * its own checks, which keep the state it needs, and drops them once it is done.
+   * @param checks the description of the checks to perform.
+   * @return the created checks, in the order they were described.
+   */
+  static List<ElementCheck> startAll(ElementChecks checks) {
+    List<ElementCheck> started = new ArrayList<ElementCheck>(checks.checks.size());
+    for (Check check : checks.checks)
+      started.add(start(check));
+    return started;
+  }
+
+  private static ElementCheck start(Check check) {
+    Kind kind = check.kind;
+    if (kind == Kind.HAS_SIZE) return new HasSize(check.expectedSize);
+    if (kind == Kind.CONTAINS) return new Contains(check.values());
+    if (kind == Kind.STARTS_WITH) return new StartsWith(check.values());
+    if (kind == Kind.CONTAINS_SEQUENCE) return new ContainsSequence(check.values());
+    if (kind == Kind.DOES_NOT_CONTAIN_NULL) return new DoesNotContainNull();
+    return new DoesNotHaveDuplicates();
+  }
+
+  /**
+   * Checks the given element.
+   * @param actual the group of elements, for error messages.
+   * @param element the element to check.
+   * @param index the index of the element.
+   * @param context the elements that were read right before this one, for error messages.
+   * @return a description of the failure, or {@code null} if the check does not fail because of this element.
+   */
+  abstract ErrorMessageFactory check(Object actual, Object element, int index, Context context);
+
+  /**
+   * Indicates whether this check can still change its outcome by seeing more elements.
+   * @return {@code true} if the check needs to see more elements; {@code false} otherwise.
+   */
+  abstract boolean needsMoreElements();
+
+  /**
+   * Completes this check after the last element was seen.
+   * @param actual the group of elements, for error messages.
+   * @param size the number of elements that were seen.
+   * @return a description of the failure, or {@code null} if the check passed.
+   */
+  abstract ErrorMessageFactory checkEnd(Object actual, int size);
+
+  /** The last elements read from a group of elements, kept in a fixed-size ring buffer. */
+  static final class Context {
+
+    private final Object[] elements;
+    private int count;
+
+    Context(int size) {
+      elements = new Object[size];
+    }
+
+    void add(Object element) {
+      elements[count++ % elements.length] = element;
+      if (count == 2 * elements.length) count = elements.length;
+    }
+
+    List<Object> elements() {
+      int size = Math.min(count, elements.length);
+      List<Object> recent = new ArrayList<Object>(size);
+      for (int i = count - size; i < count; i++)
+        recent.add(elements[i % elements.length]);
+      return recent;
+    }
+  }
+
+  private static final class HasSize extends ElementCheck {
+    private final int expectedSize;
+
+    HasSize(int expectedSize) {
+      this.expectedSize = expectedSize;
+    }
+
+    ErrorMessageFactory check(Object actual, Object element, int index, Context context) {
+      return null;
+    }
+
+    boolean needsMoreElements() {
+      return true;
+    }
+
+    ErrorMessageFactory checkEnd(Object actual, int size) {
+      return size == expectedSize ? null : shouldHaveSize(actual, size, expectedSize);
+    }
+  }
+
+  private static final class Contains extends ElementCheck {
+    private final Object[] values;
+    private final Set<Object> notFound;
+    private final List<Object> arraysNotFound;
+
+    Contains(Object[] values) {
+      this.values = values;
+      notFound = new HashSet<Object>();
+      arraysNotFound = new ArrayList<Object>();
+      for (Object value : values) {
+        if (isArray(value)) arraysNotFound.add(value);
+        else notFound.add(value);
+      }
+    }
+
+    ErrorMessageFactory check(Object actual, Object element, int index, Context context) {
+      if (!isArray(element)) {
+        notFound.remove(element);
+        return null;
+      }
+      for (Iterator<Object> i = arraysNotFound.iterator(); i.hasNext();)
+        if (areEqual(i.next(), element)) i.remove();
+      return null;
+    }
+
+    boolean needsMoreElements() {
+      return !notFound.isEmpty() || !arraysNotFound.isEmpty();
+    }
+
+    ErrorMessageFactory checkEnd(Object actual, int size) {
+      if (!needsMoreElements()) return null;
+      Set<Object> missing = new LinkedHashSet<Object>();
+      for (Object value : values)
+        if (isArray(value) ? arraysNotFound.contains(value) : notFound.contains(value)) missing.add(value);
+      return shouldContain(actual, values, missing);
+    }
+  }
+
+  private static final class StartsWith extends ElementCheck {
+    private final Object[] sequence;
+    private final List<Object> first = new ArrayList<Object>();
+
+    StartsWith(Object[] sequence) {
+      this.sequence = sequence;
+    }
+
+    ErrorMessageFactory check(Object actual, Object element, int index, Context context) {
+      if (index >= sequence.length) return null;
+      first.add(element);
+      return areEqual(sequence[index], element) ? null : shouldStartWith(actual, sequence, first);
+    }
+
+    boolean needsMoreElements() {
+      return first.size() < sequence.length;
+    }
+
+    ErrorMessageFactory checkEnd(Object actual, int size) {
+      return size >= sequence.length ? null : shouldStartWith(actual, sequence, first);
+    }
+  }
+
+  /**
+   * Looks for a sequence using the Knuth-Morris-Pratt algorithm, like <code>{@link SequenceMatch}</code> does, but one
+   * element at a time.
+   */
+  private static final class ContainsSequence extends ElementCheck {
+    private final Object[] sequence;
+    private final int[] failure;
+    private int matched, longestMatchStart, longestMatchSize;
+    private boolean found;
+
+    ContainsSequence(Object[] sequence) {
+      this.sequence = sequence;
+      failure = failureFunction(sequence);
+    }
+
+    private static int[] failureFunction(Object[] sequence) {
+      int[] failure = new int[sequence.length];
+      for (int i = 1, matched = 0; i < sequence.length; i++) {
+        while (matched > 0 && !areEqual(sequence[i], sequence[matched])) matched = failure[matched - 1];
+        if (areEqual(sequence[i], sequence[matched])) matched++;
+        failure[i] = matched;
+      }
+      return failure;
+    }
+
+    ErrorMessageFactory check(Object actual, Object element, int index, Context context) {
+      if (found) return null;
+      while (matched > 0 && !areEqual(element, sequence[matched])) matched = failure[matched - 1];
+      if (!areEqual(element, sequence[matched])) return null;
+      if (++matched == sequence.length) found = true;
+      else if (matched > longestMatchSize) {
+        longestMatchSize = matched;
+        longestMatchStart = index - matched + 1;
+      }
+      return null;
+    }
+
+    boolean needsMoreElements() {
+      return !found;
+    }
+
+    ErrorMessageFactory checkEnd(Object actual, int size) {
+      return found ? null : shouldContainSequence(actual, sequence, longestMatchStart, longestMatchSize);
+    }
+  }
+
+  private static final class DoesNotContainNull extends ElementCheck {
+    ErrorMessageFactory check(Object actual, Object element, int index, Context context) {
+      return element != null ? null : shouldNotContainNull(actual, index, context.elements());
+    }
+
+    boolean needsMoreElements() {
+      return true;
+    }
+
+    ErrorMessageFactory checkEnd(Object actual, int size) {
+      return null;
+    }
+  }
+
+  private static final class DoesNotHaveDuplicates extends ElementCheck {
+    private final Set<Object> seen = new HashSet<Object>();
+
+    ErrorMessageFactory check(Object actual, Object element, int index, Context context) {
+      if (seen.add(element)) return null;
+      return shouldNotHaveDuplicates(actual, element, index, context.elements());
+    }
+
+    boolean needsMoreElements() {
+      return true;
+    }
+
+    ErrorMessageFactory checkEnd(Object actual, int size) {
+      return null;
+    }
+  }
+
+  private static boolean isArray(Object o) {
+    return o != null && o.getClass().isArray();
+  }
+}
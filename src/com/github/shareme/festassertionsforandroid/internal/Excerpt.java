@@ -0,0 +1,136 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+import static com.github.shareme.festutilitiesandroid.ToString.toStringOf;
+
+import java.util.List;
+
+import com.github.shareme.festassertionsforandroid.util.ArrayWrapperList;
+
+/**
+ * A bounded description of a value that failure messages show instead of the value itself. Large values are described
+ * by their size and a few of their elements (or characters) from each end, so a failure message never grows with the
+ * size of the value. An excerpt is itself a {@code CharSequence}, made of the text it shows, so that it can be passed
+ * to the error messages that expect one.
+ */
+final class Excerpt implements CharSequence {
+
+  /** The number of elements shown from each end of a group of elements that is too large to be shown whole. */
+  static final int ELEMENTS_AT_EACH_END = 8;
+
+  /** The number of characters shown from each end of a {@code CharSequence} that is too long to be shown whole. */
+  static final int CHARACTERS_AT_EACH_END = 32;
+
+  /**
+   * Returns what a failure message shows instead of the given {@code CharSequence}: the sequence itself if it is short
+   * enough, or its length and its first and last characters otherwise.
+   * @param text the sequence to describe, may be {@code null}.
+   * @return {@code text}, or an excerpt of it.
+   */
+  static CharSequence ofCharacters(CharSequence text) {
+    if (text == null || text.length() <= 2 * CHARACTERS_AT_EACH_END) return text;
+    int length = text.length(), headEnd = CHARACTERS_AT_EACH_END, tailStart = length - CHARACTERS_AT_EACH_END;
+    // Surrogate pairs are not split, so the excerpt never shows half a character.
+    if (Character.isHighSurrogate(text.charAt(headEnd - 1))) headEnd--;
+    if (Character.isLowSurrogate(text.charAt(tailStart))) tailStart++;
+    StringBuilder b = new StringBuilder();
+    b.append(toStringOf(text.subSequence(0, headEnd).toString())).append("...");
+    b.append(toStringOf(text.subSequence(tailStart, length).toString()));
+    return new Excerpt(b.append(" (length: ").append(length).append(')').toString());
+  }
+
+  /**
+   * Returns what a failure message shows instead of the given {@code CharSequence}, like
+   * <code>{@link #ofCharacters(CharSequence)}</code> does, but copies a short sequence instead of returning it. It is
+   * meant for sequences that change after they are described, like the current line of a text read in place.
+   * @param text the sequence to describe.
+   * @return a copy of {@code text}, or an excerpt of it.
+   */
+  static CharSequence copyOfCharacters(CharSequence text) {
+    CharSequence excerpt = ofCharacters(text);
+    return excerpt == text ? text.toString() : excerpt;
+  }
+
+  /**
+   * Returns the number of first elements that an excerpt of a group of elements of the given size shows.
+   * @param size the number of elements in the group.
+   * @return the number of first elements to show.
+   */
+  static int headSize(int size) {
+    return isShownWhole(size) ? size : ELEMENTS_AT_EACH_END;
+  }
+
+  /**
+   * Returns the number of last elements that an excerpt of a group of elements of the given size shows, not counting
+   * the ones returned by <code>{@link #headSize(int)}</code>.
+   * @param size the number of elements in the group.
+   * @return the number of last elements to show.
+   */
+  static int tailSize(int size) {
+    return isShownWhole(size) ? 0 : ELEMENTS_AT_EACH_END;
+  }
+
+  private static boolean isShownWhole(int size) {
+    return size <= 2 * ELEMENTS_AT_EACH_END;
+  }
+
+  /**
+   * Describes a group of elements by its first and last elements.
+   * @param size the number of elements in the group.
+   * @param head an array with the first <code>{@link #headSize(int)}</code> elements of the group.
+   * @param tail an array with the last <code>{@link #tailSize(int)}</code> elements of the group.
+   * @return the created excerpt.
+   */
+  static Excerpt ofElements(int size, Object head, Object tail) {
+    List<Object> first = ArrayWrapperList.wrap(head), last = ArrayWrapperList.wrap(tail);
+    StringBuilder b = new StringBuilder().append('[');
+    appendElements(b, first);
+    if (!last.isEmpty()) {
+      b.append(", ...<").append(size - first.size() - last.size()).append(" more>..., ");
+      appendElements(b, last);
+    }
+    return new Excerpt(b.append(']').toString());
+  }
+
+  private static void appendElements(StringBuilder b, List<Object> elements) {
+    for (int i = 0; i < elements.size(); i++) {
+      if (i > 0) b.append(", ");
+      b.append(toStringOf(elements.get(i)));
+    }
+  }
+
+  private final String text;
+
+  private Excerpt(String text) {
+    this.text = text;
+  }
+
+  public int length() {
+    return text.length();
+  }
+
+  public char charAt(int index) {
+    return text.charAt(index);
+  }
+
+  public CharSequence subSequence(int start, int end) {
+    return text.subSequence(start, end);
+  }
+
+  @Override public String toString() {
+    return text;
+  }
+}
@@ -14,8 +14,36 @@
  */
 package com.github.shareme.festassertionsforandroid.internal;
 
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeEmpty.shouldBeEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeSorted.*;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContain.shouldContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainAtIndex.shouldContainAtIndex;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainExactlyInAnyOrder.shouldContainExactlyInAnyOrder;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainOnly.shouldContainOnly;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainSequence.shouldContainSequence;
+import static com.github.shareme.festassertionsforandroid.error.ShouldEndWith.shouldEndWith;
+import static com.github.shareme.festassertionsforandroid.error.ShouldHaveSize.shouldHaveSize;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContain.shouldNotContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContainAtIndex.shouldNotContainAtIndex;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotHaveDuplicates.shouldNotHaveDuplicates;
+import static com.github.shareme.festassertionsforandroid.error.ShouldStartWith.shouldStartWith;
+import static com.github.shareme.festassertionsforandroid.internal.CommonErrors.*;
+import static com.github.shareme.festassertionsforandroid.internal.CommonValidations.checkIndexValueIsValid;
+import static com.github.shareme.festassertionsforandroid.internal.Lookups.shouldIndex;
+import static com.github.shareme.festassertionsforandroid.internal.Mismatches.collect;
+import static com.github.shareme.festassertionsforandroid.internal.ParallelScan.*;
+import static com.github.shareme.festassertionsforandroid.internal.SequenceMatch.MAXIMUM_NAIVE_SEARCH_SIZE;
+import static java.util.Arrays.binarySearch;
+import static java.util.Arrays.sort;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
 import com.github.shareme.festassertionsforandroid.core.AssertionInfo;
 import com.github.shareme.festassertionsforandroid.data.Index;
+import com.github.shareme.festassertionsforandroid.data.Parallelism;
 import com.github.shareme.festutilitiesandroid.VisibleForTesting;
 
 /**
@@ -35,11 +63,55 @@ public class IntArrays {
     return INSTANCE;
   }
 
-  private final Arrays arrays = Arrays.instance();
-
   @VisibleForTesting Failures failures = Failures.instance();
 
-  @VisibleForTesting IntArrays() {}
+  private final Parallelism parallelism;
+  private final boolean sortedSearch;
+
+  @VisibleForTesting IntArrays() {
+    this(null, false);
+  }
+
+  private IntArrays(Parallelism parallelism, boolean sortedSearch) {
+    this.parallelism = parallelism;
+    this.sortedSearch = sortedSearch;
+  }
+
+  /**
+   * Returns a copy of this object that verifies large arrays in parallel. The assertions that visit every element
+   * ({@code assertContains}, {@code assertDoesNotContain}, {@code assertContainsOnly} and
+   * {@code assertDoesNotHaveDuplicates}) split the work between threads when the array has at least
+   * <code>{@link Parallelism#threshold}</code> elements. Failure messages are the same as when verifying the array
+   * in the calling thread.
+   * @param parallelism how to split the work between threads.
+   * @return the created copy.
+   * @throws NullPointerException if the given {@code Parallelism} is {@code null}.
+   */
+  public IntArrays inParallel(Parallelism parallelism) {
+    if (parallelism == null) throw new NullPointerException("The parallelism to use should not be null");
+    IntArrays copy = new IntArrays(parallelism, sortedSearch);
+    copy.failures = failures;
+    return copy;
+  }
+
+  /**
+   * Returns a copy of this object that expects the arrays it verifies to be sorted in ascending order, and uses a
+   * binary search to look for values in them. {@code assertContains} then takes O(m log n) time instead of O(n m), for
+   * n elements and m values, and {@code assertDoesNotContain} takes O(n + m log n) time. Neither allocates anything
+   * when it passes.
+   * <p>
+   * A value that a binary search finds is always in the array, so {@code assertContains} never fails because the
+   * array was not sorted: it checks again by scanning before reporting a failure. A binary search may miss values that
+   * are in an array that is not sorted, though, so {@code assertDoesNotContain} first verifies that the array is
+   * sorted, and fails like <code>{@link #assertIsSorted(AssertionInfo, int[])}</code> if it is not.
+   * </p>
+   * @return the created copy.
+   */
+  public IntArrays usingSortedSearch() {
+    IntArrays copy = new IntArrays(parallelism, true);
+    copy.failures = failures;
+    return copy;
+  }
 
   /**
    * Asserts that the given array is {@code null} or empty.
@@ -48,7 +120,8 @@ public class IntArrays {
    * @throws AssertionError if the given array is not {@code null} *and* contains one or more elements.
    */
   public void assertNullOrEmpty(AssertionInfo info, int[] actual) {
-    arrays.assertNullOrEmpty(info, failures, actual);
+    if (actual == null || actual.length == 0) return;
+    throw failures.failure(info, shouldBeNullOrEmpty(actual));
   }
 
   /**
@@ -59,7 +132,9 @@ public class IntArrays {
    * @throws AssertionError if the given array is not empty.
    */
   public void assertEmpty(AssertionInfo info, int[] actual) {
-    arrays.assertEmpty(info, failures, actual);
+    assertNotNull(info, actual);
+    if (actual.length == 0) return;
+    throw failures.failure(info, shouldBeEmpty(actual));
   }
 
   /**
@@ -70,7 +145,9 @@ public class IntArrays {
    * @throws AssertionError if the given array is empty.
    */
   public void assertNotEmpty(AssertionInfo info, int[] actual) {
-    arrays.assertNotEmpty(info, failures, actual);
+    assertNotNull(info, actual);
+    if (actual.length != 0) return;
+    throw failures.failure(info, shouldNotBeEmpty());
   }
 
   /**
@@ -82,7 +159,10 @@ public class IntArrays {
    * @throws AssertionError if the number of elements in the given array is different than the expected one.
    */
   public void assertHasSize(AssertionInfo info, int[] actual, int expectedSize) {
-    arrays.assertHasSize(info, failures, actual, expectedSize);
+    assertNotNull(info, actual);
+    int sizeOfActual = actual.length;
+    if (sizeOfActual == expectedSize) return;
+    throw failures.failure(info, shouldHaveSize(actual, sizeOfActual, expectedSize));
   }
 
   /**
@@ -96,7 +176,13 @@ public class IntArrays {
    * @throws AssertionError if the given array does not contain the given values.
    */
   public void assertContains(AssertionInfo info, int[] actual, int[] values) {
-    arrays.assertContains(info, failures, actual, values);
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    if (sortedSearch && lookUpInSorted(actual, values, false) == null) return;
+    Set<Integer> notFound = shouldRunInParallel(parallelism, actual.length) ? lookUpInParallel(actual, values, false)
+        : lookUp(actual, values, false);
+    if (notFound == null) return;
+    throw failures.failure(info, shouldContain(actual, values, notFound));
   }
 
   /**
@@ -112,7 +198,11 @@ public class IntArrays {
    * @throws AssertionError if the given array does not contain the given value at the given index.
    */
   public void assertContains(AssertionInfo info, int[] actual, int value, Index index) {
-    arrays.assertContains(info, failures, actual, value, index);
+    assertNotEmpty(info, actual);
+    checkIndexValueIsValid(index, actual.length - 1);
+    int actualElement = actual[index.value];
+    if (actualElement == value) return;
+    throw failures.failure(info, shouldContainAtIndex(actual, value, index, actualElement));
   }
 
   /**
@@ -126,7 +216,12 @@ public class IntArrays {
    * @throws AssertionError if the given array contains the given value at the given index.
    */
   public void assertDoesNotContain(AssertionInfo info, int[] actual, int value, Index index) {
-    arrays.assertDoesNotContain(info, failures, actual, value, index);
+    assertNotNull(info, actual);
+    checkIndexValueIsValid(index, Integer.MAX_VALUE);
+    int indexValue = index.value;
+    if (indexValue >= actual.length) return;
+    if (actual[indexValue] != value) return;
+    throw failures.failure(info, shouldNotContainAtIndex(actual, value, index));
   }
 
   /**
@@ -141,7 +236,104 @@ public class IntArrays {
    * array contains values that are not in the given array.
    */
   public void assertContainsOnly(AssertionInfo info, int[] actual, int[] values) {
-    arrays.assertContainsOnly(info, failures, actual, values);
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    if (shouldRunInParallel(parallelism, actual.length)) {
+      assertContainsOnlyInParallel(info, actual, values);
+      return;
+    }
+    if (!shouldIndex(actual.length, values.length) && haveSameElements(actual, values)) return;
+    int[] sortedActual = sortedCopyOf(actual);
+    int[] sortedValues = sortedCopyOf(values);
+    if (haveSameDistinctElements(sortedActual, sortedValues)) return;
+    Set<Integer> notFound = elementsNotIn(values, sortedActual);
+    Set<Integer> notExpected = elementsNotIn(actual, sortedValues);
+    throw failures.failure(info, shouldContainOnly(actual, values, notFound, notExpected));
+  }
+
+  /** Scans each array once per element of the other one, which is cheaper than sorting them when both are small. */
+  private static boolean haveSameElements(int[] array, int[] other) {
+    for (int element : array) if (!arrayContains(other, element)) return false;
+    for (int element : other) if (!arrayContains(array, element)) return false;
+    return true;
+  }
+
+  private static int[] sortedCopyOf(int[] array) {
+    int[] copy = array.clone();
+    sort(copy);
+    return copy;
+  }
+
+  private static int[] distinctSortedCopyOf(int[] array) {
+    int[] sorted = sortedCopyOf(array);
+    int distinctCount = 0;
+    for (int element : sorted) {
+      if (distinctCount > 0 && element == sorted[distinctCount - 1]) continue;
+      sorted[distinctCount++] = element;
+    }
+    if (distinctCount == sorted.length) return sorted;
+    int[] distinct = new int[distinctCount];
+    System.arraycopy(sorted, 0, distinct, 0, distinctCount);
+    return distinct;
+  }
+
+  /**
+   * Walks both sorted arrays at the same time, skipping repeated values, to find out whether they contain the same
+   * distinct values.
+   */
+  private static boolean haveSameDistinctElements(int[] sorted, int[] otherSorted) {
+    int i = 0, j = 0;
+    while (i < sorted.length && j < otherSorted.length) {
+      int value = sorted[i];
+      if (value != otherSorted[j]) return false;
+      while (i < sorted.length && sorted[i] == value) i++;
+      while (j < otherSorted.length && otherSorted[j] == value) j++;
+    }
+    return i == sorted.length && j == otherSorted.length;
+  }
+
+  /**
+   * Returns the distinct elements that are not in the given sorted array, in the order they appear in the given
+   * elements. It is only used to report a failure, which is when boxing the elements is needed anyway.
+   */
+  private static Set<Integer> elementsNotIn(int[] elements, int[] sortedOthers) {
+    Set<Integer> notIn = new LinkedHashSet<Integer>();
+    for (int element : elements) if (binarySearch(sortedOthers, element) < 0) notIn.add(element);
+    return notIn;
+  }
+
+  /**
+   * Asserts that the given array contains exactly the given values, in any order: each value appears in the array as
+   * many times as it was given, and the array has no other elements.
+   * The number of times each value appears is counted in a hash table of primitive values, in O(n + m) time.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param values the values that are expected to be the elements of the given array.
+   * @throws NullPointerException if the array of values is {@code null}.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the given array does not contain exactly the given values, each of them as many times as
+   * it was given.
+   */
+  public void assertContainsExactlyInAnyOrder(AssertionInfo info, int[] actual, int[] values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    assertNotNull(info, actual);
+    IntCounts counts = new IntCounts(values.length);
+    for (int value : values) counts.add(value, 1);
+    for (int element : actual) counts.add(element, -1);
+    if (counts.allZero()) return;
+    Map<Integer, Integer> missing = new LinkedHashMap<Integer, Integer>();
+    Map<Integer, Integer> notExpected = new LinkedHashMap<Integer, Integer>();
+    for (int element : actual)
+      reportDifference(element, counts.take(element), missing, notExpected);
+    for (int value : values)
+      reportDifference(value, counts.take(value), missing, notExpected);
+    throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, missing, notExpected));
+  }
+
+  private static void reportDifference(int value, int missingCount, Map<Integer, Integer> missing,
+      Map<Integer, Integer> notExpected) {
+    if (missingCount > 0) missing.put(value, missingCount);
+    else if (missingCount < 0) notExpected.put(value, -missingCount);
   }
 
   /**
@@ -155,7 +347,64 @@ public class IntArrays {
    * @throws AssertionError if the given array does not contain the given sequence of values.
    */
   public void assertContainsSequence(AssertionInfo info, int[] actual, int[] sequence) {
-    arrays.assertContainsSequence(info, failures, actual, sequence);
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    if (sequence.length <= MAXIMUM_NAIVE_SEARCH_SIZE) {
+      int start = startOfLongestMatch(actual, sequence);
+      int size = matchSize(actual, start, sequence);
+      if (size == sequence.length) return;
+      throw failures.failure(info, shouldContainSequence(actual, sequence, start, size));
+    }
+    int[] failure = failureFunction(sequence);
+    int matched = 0, longestMatchStart = 0, longestMatchSize = 0;
+    for (int i = 0; i < actual.length; i++) {
+      while (matched > 0 && actual[i] != sequence[matched]) matched = failure[matched - 1];
+      if (actual[i] != sequence[matched]) continue;
+      if (++matched == sequence.length) return;
+      if (matched <= longestMatchSize) continue;
+      longestMatchSize = matched;
+      longestMatchStart = i - matched + 1;
+    }
+    throw failures.failure(info, shouldContainSequence(actual, sequence, longestMatchStart, longestMatchSize));
+  }
+
+  /**
+   * Compares the given sequence with the elements starting at each index of the given array in turn, and returns the
+   * index where the longest match starts (the first one, if there are several.) It does not allocate anything, which
+   * makes it cheaper than the Knuth-Morris-Pratt search for short sequences.
+   */
+  private static int startOfLongestMatch(int[] array, int[] sequence) {
+    int longestMatchStart = 0, longestMatchSize = 0;
+    for (int start = 0; start < array.length && longestMatchSize < sequence.length; start++) {
+      int size = matchSize(array, start, sequence);
+      if (size <= longestMatchSize) continue;
+      longestMatchSize = size;
+      longestMatchStart = start;
+    }
+    return longestMatchStart;
+  }
+
+  /** Returns the number of values of the given sequence that match the elements starting at the given index. */
+  private static int matchSize(int[] array, int start, int[] sequence) {
+    int size = 0;
+    int maximumSize = Math.min(sequence.length, array.length - start);
+    while (size < maximumSize && array[start + size] == sequence[size]) size++;
+    return size;
+  }
+
+  /**
+   * Computes the Knuth-Morris-Pratt failure function of the given sequence: for each index {@code i}, the size of the
+   * longest proper prefix of {@code sequence[0..i]} that is also a suffix of it. It lets a search continue after a
+   * mismatch without going back in the searched array. The assertions on buffers use it too.
+   */
+  static int[] failureFunction(int[] sequence) {
+    int[] failure = new int[sequence.length];
+    for (int i = 1, matched = 0; i < sequence.length; i++) {
+      while (matched > 0 && sequence[i] != sequence[matched]) matched = failure[matched - 1];
+      if (sequence[i] == sequence[matched]) matched++;
+      failure[i] = matched;
+    }
+    return failure;
   }
 
   /**
@@ -169,7 +418,49 @@ public class IntArrays {
    * @throws AssertionError if the given array contains any of given values.
    */
   public void assertDoesNotContain(AssertionInfo info, int[] actual, int[] values) {
-    arrays.assertDoesNotContain(info, failures, actual, values);
+    checkIsNotNullAndNotEmpty(values);
+    assertNotNull(info, actual);
+    Set<Integer> found;
+    if (sortedSearch) {
+      // A binary search could miss values that are in an array that is not sorted.
+      assertIsSorted(info, actual);
+      found = lookUpInSorted(actual, values, true);
+    } else {
+      found = shouldRunInParallel(parallelism, actual.length) ? lookUpInParallel(actual, values, true)
+          : lookUp(actual, values, true);
+    }
+    if (found == null) return;
+    throw failures.failure(info, shouldNotContain(actual, values, found));
+  }
+
+  /**
+   * Returns the given values that are (or are not) in the given array, in the order they were given. The array is
+   * scanned once per value, unless there are enough values to make a single pass that indexes the array cheaper.
+   * Returns {@code null} instead of an empty set, so that a lookup that finds nothing to report does not allocate
+   * anything unless it indexes the array.
+   */
+  private static Set<Integer> lookUp(int[] array, int[] values, boolean found) {
+    Set<Integer> result = null;
+    if (!shouldIndex(array.length, values.length)) {
+      for (int value : values) if (arrayContains(array, value) == found) result = collect(result, value);
+      return result;
+    }
+    IntHashSet index = new IntHashSet(array.length);
+    for (int element : array) index.add(element);
+    for (int value : values)
+      if (index.contains(value) == found) result = collect(result, value);
+    return result;
+  }
+
+  private static boolean arrayContains(int[] array, int value) {
+    for (int element : array) if (element == value) return true;
+    return false;
+  }
+
+  /** Returns the index of the first element equal to the given value among the first {@code end} ones, or -1. */
+  private static int indexOf(int[] array, int value, int end) {
+    for (int i = 0; i < end; i++) if (array[i] == value) return i;
+    return -1;
   }
 
   /**
@@ -182,7 +473,29 @@ public class IntArrays {
    * @throws AssertionError if the given array contains duplicate values.
    */
   public void assertDoesNotHaveDuplicates(AssertionInfo info, int[] actual) {
-    arrays.assertDoesNotHaveDuplicates(info, failures, actual);
+    assertNotNull(info, actual);
+    Set<Integer> duplicates = shouldRunInParallel(parallelism, actual.length) ? duplicatesInParallel(actual)
+        : duplicatesIn(actual);
+    if (duplicates == null) return;
+    throw failures.failure(info, shouldNotHaveDuplicates(actual, duplicates));
+  }
+
+  /**
+   * Returns the values that appear more than once in the given array, in the order of their second appearance, or
+   * {@code null} if there are none.
+   */
+  private static Set<Integer> duplicatesIn(int[] array) {
+    Set<Integer> duplicates = null;
+    if (!shouldIndex(array.length, array.length)) {
+      // Comparing each element with the ones before it is cheap for small arrays, and does not allocate anything.
+      for (int i = 1; i < array.length; i++)
+        if (indexOf(array, array[i], i) >= 0) duplicates = collect(duplicates, array[i]);
+      return duplicates;
+    }
+    IntHashSet seen = new IntHashSet(array.length);
+    for (int element : array)
+      if (!seen.add(element)) duplicates = collect(duplicates, element);
+    return duplicates;
   }
 
   /**
@@ -198,7 +511,14 @@ public class IntArrays {
    * @throws AssertionError if the given array does not start with the given sequence of values.
    */
   public void assertStartsWith(AssertionInfo info, int[] actual, int[] sequence) {
-    arrays.assertStartsWith(info, failures, actual, sequence);
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    int sequenceSize = sequence.length;
+    if (actual.length < sequenceSize) throw failures.failure(info, shouldStartWith(actual, sequence));
+    for (int i = 0; i < sequenceSize; i++) {
+      if (sequence[i] == actual[i]) continue;
+      throw failures.failure(info, shouldStartWith(actual, sequence));
+    }
   }
 
   /**
@@ -214,6 +534,163 @@ public class IntArrays {
    * @throws AssertionError if the given array does not end with the given sequence of values.
    */
   public void assertEndsWith(AssertionInfo info, int[] actual, int[] sequence) {
-    arrays.assertEndsWith(info, failures, actual, sequence);
+    checkIsNotNullAndNotEmpty(sequence);
+    assertNotNull(info, actual);
+    int sequenceSize = sequence.length;
+    int offset = actual.length - sequenceSize;
+    if (offset < 0) throw failures.failure(info, shouldEndWith(actual, sequence));
+    for (int i = 0; i < sequenceSize; i++) {
+      if (sequence[i] == actual[offset + i]) continue;
+      throw failures.failure(info, shouldEndWith(actual, sequence));
+    }
+  }
+
+  /**
+   * Verifies that the given array is sorted in ascending order.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the given array is not sorted in ascending order.
+   */
+  public void assertIsSorted(AssertionInfo info, int[] actual) {
+    assertNotNull(info, actual);
+    for (int i = 1; i < actual.length; i++) {
+      if (actual[i - 1] <= actual[i]) continue;
+      throw failures.failure(info, shouldBeSorted(i - 1, actual));
+    }
+  }
+
+  /**
+   * Verifies that the given array is sorted according to the given comparator.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param comparator the {@code Comparator} used to compare the elements of the array.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the given array is not sorted according to the given comparator.
+   */
+  public void assertIsSortedAccordingToComparator(AssertionInfo info, int[] actual,
+      Comparator<? super Integer> comparator) {
+    if (comparator == null) throw new NullPointerException("The given comparator should not be null");
+    assertNotNull(info, actual);
+    for (int i = 1; i < actual.length; i++) {
+      if (comparator.compare(actual[i - 1], actual[i]) <= 0) continue;
+      throw failures.failure(info, shouldBeSortedAccordingToGivenComparator(i - 1, actual, comparator));
+    }
+  }
+
+  /**
+   * Same as <code>{@link #lookUp(int[], int[], boolean)}</code>, but uses a binary search in the given array,
+   * which should be sorted in ascending order.
+   */
+  private static Set<Integer> lookUpInSorted(int[] sortedArray, int[] values, boolean found) {
+    Set<Integer> result = null;
+    for (int value : values)
+      if ((binarySearch(sortedArray, value) >= 0) == found) result = collect(result, value);
+    return result;
+  }
+
+  /**
+   * Same as <code>{@link #lookUp(int[], int[], boolean)}</code>, but splits the scan of the array between
+   * threads. The scan stops as soon as all the values are found; otherwise it visits every element, which also tells
+   * which values were found.
+   */
+  private Set<Integer> lookUpInParallel(final int[] array, int[] values, boolean found) {
+    final int[] distinctValues = distinctSortedCopyOf(values);
+    final AtomicIntegerArray marks = new AtomicIntegerArray(distinctValues.length);
+    final AtomicInteger notFoundCount = new AtomicInteger(distinctValues.length);
+    anyMatch(parallelism, array.length, new RangeCheck() {
+      public boolean matches(int part, int from, int to) {
+        for (int i = from; i < to; i++) {
+          int position = binarySearch(distinctValues, array[i]);
+          if (position < 0 || marks.get(position) != 0 || !marks.compareAndSet(position, 0, 1)) continue;
+          if (notFoundCount.decrementAndGet() == 0) return true;
+        }
+        return false;
+      }
+    });
+    return valuesMarked(values, distinctValues, marks, found);
+  }
+
+  /**
+   * Splits the scan of the array between threads. Each part marks the values it finds and keeps the indices of the
+   * elements that are not expected, so a failure reports the same values, in the same order, as the sequential check.
+   */
+  private void assertContainsOnlyInParallel(AssertionInfo info, final int[] actual, int[] values) {
+    final int[] distinctValues = distinctSortedCopyOf(values);
+    final AtomicIntegerArray marks = new AtomicIntegerArray(distinctValues.length);
+    final Indices unexpected = new Indices(parallelism.partCount);
+    anyMatch(parallelism, actual.length, new RangeCheck() {
+      public boolean matches(int part, int from, int to) {
+        for (int i = from; i < to; i++) {
+          int position = binarySearch(distinctValues, actual[i]);
+          if (position < 0) unexpected.add(part, i);
+          else if (marks.get(position) == 0) marks.set(position, 1);
+        }
+        return false;
+      }
+    });
+    Set<Integer> notFound = valuesMarked(values, distinctValues, marks, false);
+    int[] unexpectedIndices = unexpected.sorted();
+    if (notFound == null && unexpectedIndices == null) return;
+    if (notFound == null) notFound = new LinkedHashSet<Integer>();
+    Set<Integer> notExpected = new LinkedHashSet<Integer>();
+    if (unexpectedIndices != null) for (int index : unexpectedIndices) notExpected.add(actual[index]);
+    throw failures.failure(info, shouldContainOnly(actual, values, notFound, notExpected));
+  }
+
+  /**
+   * Returns the given values that are (or are not) marked, in the order they were given, or {@code null} if there are
+   * none. The marks are those of the given distinct sorted values.
+   */
+  private static Set<Integer> valuesMarked(int[] values, int[] distinctValues, AtomicIntegerArray marks,
+      boolean marked) {
+    Set<Integer> result = null;
+    for (int value : values)
+      if ((marks.get(binarySearch(distinctValues, value)) != 0) == marked) result = collect(result, value);
+    return result;
+  }
+
+  /**
+   * Same as <code>{@link #duplicatesIn(int[])}</code>, but splits the work between threads. The elements are first
+   * grouped by hash, so that equal elements always end up in the same group, and then each part looks for duplicates
+   * in one group. The parts keep the index of the second appearance of each duplicate, so the duplicates can be
+   * reported in the same order as the sequential check does.
+   */
+  private Set<Integer> duplicatesInParallel(final int[] actual) {
+    final Groups groups = groupByHash(parallelism, actual.length, new IndexHash() {
+      public int hashAt(int index) {
+        return actual[index];
+      }
+    });
+    final Indices secondAppearances = new Indices(parallelism.partCount);
+    anyPartMatches(parallelism, new PartCheck() {
+      public boolean matches(int part, int partCount, AtomicBoolean stopped) {
+        int from = groups.starts[part], to = groups.starts[part + 1];
+        IntHashSet seen = new IntHashSet(to - from);
+        IntHashSet reported = null;
+        for (int i = from; i < to; i++) {
+          int index = groups.indices[i];
+          if (seen.add(actual[index])) continue;
+          if (reported == null) reported = new IntHashSet(1);
+          if (reported.add(actual[index])) secondAppearances.add(part, index);
+        }
+        return false;
+      }
+    });
+    int[] indices = secondAppearances.sorted();
+    if (indices == null) return null;
+    Set<Integer> duplicates = null;
+    for (int index : indices) duplicates = collect(duplicates, actual[index]);
+    return duplicates;
+  }
+
+  private static void checkIsNotNullAndNotEmpty(int[] values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    if (values.length == 0) throw arrayOfValuesToLookForIsEmpty();
+  }
+
+  private void assertNotNull(AssertionInfo info, int[] actual) {
+    Objects.instance().assertNotNull(info, actual);
   }
 }
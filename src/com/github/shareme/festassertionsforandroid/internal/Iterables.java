@@ -0,0 +1,120 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+import java.util.*;
+
+import com.github.shareme.festassertionsforandroid.core.AssertionInfo;
+import com.github.shareme.festassertionsforandroid.data.ElementChecks;
+import com.github.shareme.festassertionsforandroid.error.ErrorMessageFactory;
+import com.github.shareme.festassertionsforandroid.internal.ElementCheck.Context;
+import com.github.shareme.festutilitiesandroid.VisibleForTesting;
+
+/**
+ * Reusable assertions for <code>{@link Iterable}</code>s and <code>{@link Iterator}</code>s that may be read only once
+ * (e.g. database cursors or paged results.) Elements are read in a single pass and are not kept: all the checks in a
+ * <code>{@link ElementChecks}</code> see each element as it is read, reading stops as soon as no check can change its
+ * outcome, and failure messages include only the few elements read right before the one that caused the failure.
+ */
+public class Iterables {
+
+  /** The number of elements read before the one that caused a failure to include in the failure message. */
+  static final int CONTEXT_SIZE = 5;
+
+  private static final Iterables INSTANCE = new Iterables();
+
+  /**
+   * Returns the singleton instance of this class.
+   * @return the singleton instance of this class.
+   */
+  public static Iterables instance() {
+    return INSTANCE;
+  }
+
+  @VisibleForTesting Failures failures = Failures.instance();
+
+  @VisibleForTesting Iterables() {}
+
+  /**
+   * Asserts that the elements of the given <code>{@link Iterable}</code> pass the given checks. The elements are read
+   * once, using a single iterator.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterable}.
+   * @param checks the checks to perform.
+   * @throws NullPointerException if the given checks are {@code null}.
+   * @throws IllegalArgumentException if the given checks are empty.
+   * @throws AssertionError if the given {@code Iterable} is {@code null}.
+   * @throws AssertionError if any of the given checks fails. Only the first failure is reported: the first one found
+   * while reading elements, or the first check, in the order they were added, that fails once all elements are read.
+   */
+  public void assertSatisfies(AssertionInfo info, Iterable<?> actual, ElementChecks checks) {
+    checkIsNotNullAndNotEmpty(checks);
+    assertNotNull(info, actual);
+    assertSatisfies(info, actual, actual.iterator(), checks);
+  }
+
+  /**
+   * Asserts that the remaining elements of the given <code>{@link Iterator}</code> pass the given checks. The iterator
+   * is not read any further once no check can change its outcome.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterator}.
+   * @param checks the checks to perform.
+   * @throws NullPointerException if the given checks are {@code null}.
+   * @throws IllegalArgumentException if the given checks are empty.
+   * @throws AssertionError if the given {@code Iterator} is {@code null}.
+   * @throws AssertionError if any of the given checks fails. Only the first failure is reported: the first one found
+   * while reading elements, or the first check, in the order they were added, that fails once all elements are read.
+   */
+  public void assertSatisfies(AssertionInfo info, Iterator<?> actual, ElementChecks checks) {
+    checkIsNotNullAndNotEmpty(checks);
+    assertNotNull(info, actual);
+    assertSatisfies(info, actual, actual, checks);
+  }
+
+  private void assertSatisfies(AssertionInfo info, Object actual, Iterator<?> elements, ElementChecks checks) {
+    List<ElementCheck> pending = ElementCheck.startAll(checks);
+    Context context = new Context(CONTEXT_SIZE);
+    int index = 0;
+    while (needMoreElements(pending) && elements.hasNext()) {
+      Object element = elements.next();
+      for (ElementCheck check : pending) {
+        ErrorMessageFactory failure = check.check(actual, element, index, context);
+        if (failure != null) throw failures.failure(info, failure);
+      }
+      context.add(element);
+      index++;
+    }
+    for (ElementCheck check : pending) {
+      ErrorMessageFactory failure = check.checkEnd(actual, index);
+      if (failure != null) throw failures.failure(info, failure);
+    }
+  }
+
+  private static boolean needMoreElements(List<ElementCheck> checks) {
+    for (ElementCheck check : checks)
+      if (check.needsMoreElements()) return true;
+    return false;
+  }
+
+  /** An empty group of checks would let an assertion pass without reading anything, so it is not accepted. */
+  private static void checkIsNotNullAndNotEmpty(ElementChecks checks) {
+    if (checks == null) throw new NullPointerException("The checks to perform should not be null");
+    if (checks.isEmpty()) throw new IllegalArgumentException("The checks to perform should not be empty");
+  }
+
+  private void assertNotNull(AssertionInfo info, Object actual) {
+    Objects.instance().assertNotNull(info, actual);
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+/**
+ * Reads the lines of a text one at a time, in place. A line ends with a line feed ({@code '\n'}), a carriage return
+ * ({@code '\r'}), a carriage return followed by a line feed, or the end of the text, as for
+ * <code>{@link java.io.BufferedReader#readLine()}</code>: an empty text has no lines, and a line terminator at the end
+ * of the text does not start another line.
+ * <p>
+ * This object is itself the current line: it is a view of the text between the start of the line and its terminator,
+ * so no line is ever copied, and the same <code>{@link java.util.regex.Matcher}</code> can be reset to every line.
+ * </p>
+ */
+final class Lines implements CharSequence {
+
+  private final CharSequence text;
+  private final int textLength;
+  private int start;
+  private int end;
+  private int nextStart;
+  private int number;
+
+  Lines(CharSequence text) {
+    this.text = text;
+    textLength = text.length();
+  }
+
+  /**
+   * Moves to the next line.
+   * @return {@code true} if there is a next line, {@code false} if the end of the text was reached.
+   */
+  boolean next() {
+    if (nextStart >= textLength) return false;
+    start = nextStart;
+    int i = start;
+    while (i < textLength) {
+      char c = text.charAt(i);
+      if (c == '\n' || c == '\r') break;
+      i++;
+    }
+    end = i;
+    if (i < textLength) {
+      boolean crlf = text.charAt(i) == '\r' && i + 1 < textLength && text.charAt(i + 1) == '\n';
+      i += crlf ? 2 : 1;
+    }
+    nextStart = i;
+    number++;
+    return true;
+  }
+
+  /** Returns the number of the current line, starting at 1. */
+  int number() {
+    return number;
+  }
+
+  /** Indicates whether the current line has the same characters as the given sequence. */
+  boolean isEqualTo(CharSequence line) {
+    int length = end - start;
+    if (line.length() != length) return false;
+    for (int i = 0; i < length; i++)
+      if (text.charAt(start + i) != line.charAt(i)) return false;
+    return true;
+  }
+
+  public int length() {
+    return end - start;
+  }
+
+  public char charAt(int index) {
+    if (index < 0 || index >= end - start) throw new IndexOutOfBoundsException("Index: " + index);
+    return text.charAt(start + index);
+  }
+
+  public CharSequence subSequence(int from, int to) {
+    if (from < 0 || to > end - start || from > to)
+      throw new IndexOutOfBoundsException("From: " + from + ", to: " + to);
+    return text.subSequence(start + from, start + to);
+  }
+
+  @Override public String toString() {
+    return text.subSequence(start, end).toString();
+  }
+}
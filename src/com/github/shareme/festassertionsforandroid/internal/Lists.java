@@ -16,10 +16,11 @@ package com.github.shareme.festassertionsforandroid.internal;
 
 import static com.github.shareme.festassertionsforandroid.error.ShouldNotContainAtIndex.shouldNotContainAtIndex;
 import static com.github.shareme.festassertionsforandroid.error.ShouldContainAtIndex.shouldContainAtIndex;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainSubList.*;
 import static com.github.shareme.festassertionsforandroid.internal.CommonValidations.checkIndexValueIsValid;
 import static com.github.shareme.festutilitiesandroid.Objects.areEqual;
 
-import java.util.List;
+import java.util.*;
 
 import com.github.shareme.festassertionsforandroid.core.AssertionInfo;
 import com.github.shareme.festassertionsforandroid.data.Index;
@@ -35,6 +36,9 @@ public class Lists {
 
   private static final Lists INSTANCE = new Lists();
 
+  /** The base of the polynomial hash used to look for sublists; arithmetic wraps around modulo 2<sup>64</sup>. */
+  private static final long HASH_BASE = 1000003;
+
   /**
    * Returns the singleton instance of this class.
    * @return the singleton instance of this class.
@@ -88,6 +92,90 @@ public class Lists {
     throw failures.failure(info, shouldNotContainAtIndex(actual, value, index));
   }
 
+  /**
+   * Verifies that the given {@code List} contains the given list as a contiguous sublist, with its elements in the same
+   * order.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code List}.
+   * @param subList the list to look for.
+   * @throws NullPointerException if the given sublist is {@code null}.
+   * @throws IllegalArgumentException if the given sublist is empty.
+   * @throws AssertionError if the given {@code List} is {@code null}.
+   * @throws AssertionError if the given {@code List} does not contain the given sublist.
+   */
+  public void assertContainsSubList(AssertionInfo info, List<?> actual, List<?> subList) {
+    if (subList == null) throw new NullPointerException("The list to look for should not be null");
+    if (subList.isEmpty()) throw new IllegalArgumentException("The list to look for should not be empty");
+    assertNotNull(info, actual);
+    if (indexOfSubList(actual, subList) >= 0) return;
+    throw failures.failure(info, shouldContainSubList(actual, subList));
+  }
+
+  /**
+   * Verifies that the given {@code List} is a contiguous sublist of the given list, with its elements in the same
+   * order. An empty {@code List} is a sublist of any list.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code List}.
+   * @param list the list expected to contain the given one.
+   * @throws NullPointerException if the list expected to contain the given one is {@code null}.
+   * @throws AssertionError if the given {@code List} is {@code null}.
+   * @throws AssertionError if the given {@code List} is not a sublist of the given list.
+   */
+  public void assertIsSubListOf(AssertionInfo info, List<?> actual, List<?> list) {
+    if (list == null) throw new NullPointerException("The list to look in should not be null");
+    assertNotNull(info, actual);
+    if (indexOfSubList(list, actual) >= 0) return;
+    throw failures.failure(info, shouldBeSubListOf(actual, list));
+  }
+
+  /**
+   * Returns the index of the first occurrence of the given sublist in the given list, or -1 if there is none. Uses the
+   * Rabin-Karp algorithm: a hash of the elements in a window as long as the sublist is updated in constant time as the
+   * window slides over the list, and the elements are compared only where the hash of the window is equal to the hash
+   * of the sublist, which takes expected O(n + m) time. Lists that do not support fast random access are copied to an
+   * array first.
+   */
+  @VisibleForTesting static int indexOfSubList(List<?> list, List<?> subList) {
+    List<?> source = randomAccess(list), target = randomAccess(subList);
+    int sourceSize = source.size(), targetSize = target.size();
+    if (targetSize == 0) return 0;
+    if (targetSize > sourceSize) return -1;
+    // hashes of the elements in the window, so that the ones that leave it are not hashed again.
+    int[] window = new int[targetSize];
+    long targetHash = 0, windowHash = 0, highestPower = 1;
+    for (int i = 0; i < targetSize; i++) {
+      if (i > 0) highestPower *= HASH_BASE;
+      targetHash = targetHash * HASH_BASE + hashOf(target.get(i));
+      window[i] = hashOf(source.get(i));
+      windowHash = windowHash * HASH_BASE + window[i];
+    }
+    for (int start = 0;; start++) {
+      if (windowHash == targetHash && matchesAt(source, target, start)) return start;
+      int next = start + targetSize;
+      if (next == sourceSize) return -1;
+      int slot = start % targetSize, hash = hashOf(source.get(next));
+      windowHash = (windowHash - window[slot] * highestPower) * HASH_BASE + hash;
+      window[slot] = hash;
+    }
+  }
+
+  private static List<?> randomAccess(List<?> list) {
+    if (list instanceof RandomAccess) return list;
+    return java.util.Arrays.asList(list.toArray());
+  }
+
+  /** Arrays are compared by content, so they all get the same hash; equal windows are still found. */
+  private static int hashOf(Object o) {
+    return o == null || o.getClass().isArray() ? 0 : o.hashCode();
+  }
+
+  private static boolean matchesAt(List<?> source, List<?> target, int start) {
+    int targetSize = target.size();
+    for (int i = 0; i < targetSize; i++)
+      if (!areEqual(source.get(start + i), target.get(i))) return false;
+    return true;
+  }
+
   private void assertNotNull(AssertionInfo info, List<?> actual) {
     Objects.instance().assertNotNull(info, actual);
   }
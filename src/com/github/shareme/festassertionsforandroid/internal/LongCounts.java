@@ -0,0 +1,121 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+/**
+ * Counts how many times each {@code long} appears, in an open-addressing table, without boxing the values. The table is
+ * sized for the number of distinct values expected, and doubles in size when it becomes half full.
+ */
+final class LongCounts {
+
+  private static final long FREE = 0;
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  private long[] keys;
+  private int[] counts;
+  private int mask;
+  private int countOfFree;
+  private int size;
+
+  LongCounts(int expectedSize) {
+    int capacity = 2;
+    while (capacity < MAXIMUM_CAPACITY && capacity < 2L * expectedSize) capacity <<= 1;
+    keys = new long[capacity];
+    counts = new int[capacity];
+    mask = capacity - 1;
+  }
+
+  /**
+   * Adds the given amount to the count of the given value.
+   * @param value the value to count.
+   * @param amount the amount to add; it can be negative.
+   */
+  void add(long value, int amount) {
+    if (value == FREE) {
+      countOfFree += amount;
+      return;
+    }
+    int i = indexFor(value);
+    while (keys[i] != FREE) {
+      if (keys[i] == value) {
+        counts[i] += amount;
+        return;
+      }
+      i = (i + 1) & mask;
+    }
+    keys[i] = value;
+    counts[i] = amount;
+    if (++size > keys.length / 2) grow();
+  }
+
+  private void grow() {
+    if (keys.length == MAXIMUM_CAPACITY) {
+      if (size < mask) return;
+      throw new IllegalStateException("The table cannot hold more values");
+    }
+    long[] oldKeys = keys;
+    int[] oldCounts = counts;
+    keys = new long[oldKeys.length * 2];
+    counts = new int[keys.length];
+    mask = keys.length - 1;
+    for (int j = 0; j < oldKeys.length; j++) {
+      if (oldKeys[j] == FREE) continue;
+      int i = indexFor(oldKeys[j]);
+      while (keys[i] != FREE) i = (i + 1) & mask;
+      keys[i] = oldKeys[j];
+      counts[i] = oldCounts[j];
+    }
+  }
+
+  /**
+   * Returns the count of the given value, and sets it to zero.
+   * @param value the value to look for.
+   * @return the count of the given value; zero if it was never counted.
+   */
+  int take(long value) {
+    int count;
+    if (value == FREE) {
+      count = countOfFree;
+      countOfFree = 0;
+      return count;
+    }
+    int i = indexFor(value);
+    while (keys[i] != FREE) {
+      if (keys[i] == value) {
+        count = counts[i];
+        counts[i] = 0;
+        return count;
+      }
+      i = (i + 1) & mask;
+    }
+    return 0;
+  }
+
+  /**
+   * Indicates whether the count of every value is zero.
+   * @return {@code true} if the count of every value is zero, {@code false} otherwise.
+   */
+  boolean allZero() {
+    if (countOfFree != 0) return false;
+    for (int i = 0; i < keys.length; i++)
+      if (keys[i] != FREE && counts[i] != 0) return false;
+    return true;
+  }
+
+  private int indexFor(long value) {
+    long hash = value * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+/**
+ * A set of {@code long}s that stores its elements in an open-addressing table, without boxing them. The table is sized
+ * for the number of elements the set is expected to hold, and doubles in size when it becomes half full.
+ */
+final class LongHashSet {
+
+  private static final int FREE = 0;
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  private long[] slots;
+  private int mask;
+  private boolean containsFree;
+  private int size;
+
+  LongHashSet(int expectedSize) {
+    int capacity = 2;
+    while (capacity < MAXIMUM_CAPACITY && capacity < 2L * expectedSize) capacity <<= 1;
+    slots = new long[capacity];
+    mask = capacity - 1;
+  }
+
+  /**
+   * Adds the given value to this set.
+   * @param value the value to add.
+   * @return {@code true} if the value was not already in this set.
+   */
+  boolean add(long value) {
+    if (value == FREE) {
+      if (containsFree) return false;
+      containsFree = true;
+      size++;
+      return true;
+    }
+    int i = indexFor(value);
+    while (slots[i] != FREE) {
+      if (slots[i] == value) return false;
+      i = (i + 1) & mask;
+    }
+    slots[i] = value;
+    if (++size > slots.length / 2) grow();
+    return true;
+  }
+
+  private void grow() {
+    if (slots.length == MAXIMUM_CAPACITY) {
+      if (size < mask) return;
+      throw new IllegalStateException("The set cannot hold more elements");
+    }
+    long[] oldSlots = slots;
+    slots = new long[oldSlots.length * 2];
+    mask = slots.length - 1;
+    for (long value : oldSlots) {
+      if (value == FREE) continue;
+      int i = indexFor(value);
+      while (slots[i] != FREE) i = (i + 1) & mask;
+      slots[i] = value;
+    }
+  }
+
+  /**
+   * Indicates whether this set contains the given value.
+   * @param value the value to look for.
+   * @return {@code true} if this set contains the given value, {@code false} otherwise.
+   */
+  boolean contains(long value) {
+    if (value == FREE) return containsFree;
+    int i = indexFor(value);
+    while (slots[i] != FREE) {
+      if (slots[i] == value) return true;
+      i = (i + 1) & mask;
+    }
+    return false;
+  }
+
+  int size() {
+    return size;
+  }
+
+  private int indexFor(long value) {
+    long hash = value * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+}
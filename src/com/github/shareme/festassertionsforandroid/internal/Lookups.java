@@ -0,0 +1,37 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+/**
+ * Chooses how to look up a group of values in the elements of an array or collection: by scanning the elements once
+ * per value, or by building a hash index of the elements first and querying it once per value.
+ */
+final class Lookups {
+
+  /**
+   * The minimum number of values to look up before building an index of the elements is considered. Below it, scanning
+   * once per value is cheaper than building the index.
+   */
+  static final int MINIMUM_VALUE_COUNT = 4;
+
+  /** The minimum number of comparisons a scan-per-value lookup would need before building an index is worth it. */
+  static final long MINIMUM_SCAN_COST = 1024;
+
+  static boolean shouldIndex(int elementCount, int valueCount) {
+    return valueCount >= MINIMUM_VALUE_COUNT && (long) elementCount * valueCount >= MINIMUM_SCAN_COST;
+  }
+
+  private Lookups() {}
+}
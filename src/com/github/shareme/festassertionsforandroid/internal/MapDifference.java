@@ -0,0 +1,88 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+import static com.github.shareme.festutilitiesandroid.Objects.areEqual;
+
+import java.util.*;
+import java.util.Map.Entry;
+
+/**
+ * The differences between two maps: the keys missing from the actual map, the keys the expected map does not have,
+ * and the keys that are mapped to different values. All differences are counted, in a single pass over the expected
+ * map that queries the actual one, but only up to a given number of them are kept to be reported. The actual map is
+ * read again, to find unexpected keys, only if there are any and there is still room to report them.
+ */
+final class MapDifference {
+
+  /**
+   * Computes the differences between the given maps.
+   * @param actual the actual map.
+   * @param expected the expected map.
+   * @param differencesToKeep the maximum number of differences to keep.
+   * @return the differences between the given maps.
+   */
+  static MapDifference compute(Map<?, ?> actual, Map<?, ?> expected, int differencesToKeep) {
+    MapDifference difference = new MapDifference(actual.size(), expected.size());
+    int keysInBoth = 0;
+    for (Entry<?, ?> entry : expected.entrySet()) {
+      Object key = entry.getKey(), expectedValue = entry.getValue();
+      Object actualValue = actual.get(key);
+      if (actualValue == null && !actual.containsKey(key)) {
+        if (difference.keep(differencesToKeep)) difference.missingKeys.add(key);
+        difference.count++;
+        continue;
+      }
+      keysInBoth++;
+      if (areEqual(actualValue, expectedValue)) continue;
+      if (difference.keep(differencesToKeep)) {
+        difference.keysWithDifferentValues.add(key);
+        difference.actualValues.add(actualValue);
+        difference.expectedValues.add(expectedValue);
+      }
+      difference.count++;
+    }
+    int unexpectedKeyCount = difference.sizeOfActual - keysInBoth;
+    difference.count += unexpectedKeyCount;
+    if (unexpectedKeyCount == 0 || !difference.keep(differencesToKeep)) return difference;
+    for (Object key : actual.keySet()) {
+      if (expected.containsKey(key)) continue;
+      difference.unexpectedKeys.add(key);
+      if (!difference.keep(differencesToKeep)) break;
+    }
+    return difference;
+  }
+
+  final int sizeOfActual;
+  final int sizeOfExpected;
+
+  /** The number of differences found, including the ones that were not kept. */
+  int count;
+
+  final List<Object> missingKeys = new ArrayList<Object>();
+  final List<Object> unexpectedKeys = new ArrayList<Object>();
+  final List<Object> keysWithDifferentValues = new ArrayList<Object>();
+  final List<Object> actualValues = new ArrayList<Object>();
+  final List<Object> expectedValues = new ArrayList<Object>();
+
+  private MapDifference(int sizeOfActual, int sizeOfExpected) {
+    this.sizeOfActual = sizeOfActual;
+    this.sizeOfExpected = sizeOfExpected;
+  }
+
+  private boolean keep(int differencesToKeep) {
+    return missingKeys.size() + unexpectedKeys.size() + keysWithDifferentValues.size() < differencesToKeep;
+  }
+}
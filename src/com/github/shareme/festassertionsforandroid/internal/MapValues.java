@@ -0,0 +1,55 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+import static com.github.shareme.festassertionsforandroid.internal.Lookups.shouldIndex;
+
+import java.util.*;
+
+/**
+ * Looks up values in a map during a single assertion. <code>{@link Map#containsValue(Object)}</code> scans the whole
+ * map on every call, so when enough values are looked up, the values of the map are indexed in a {@code HashSet}
+ * instead. The index is never kept after the assertion: the map may change between two assertions without changing
+ * its size, for example when an existing key is mapped to a new value.
+ */
+final class MapValues {
+
+  /**
+   * Creates an object that looks up the given number of values in the given map, indexing its values if that is
+   * cheaper than scanning the map once per value.
+   * @param map the map to look up values in.
+   * @param valueCount the number of values that will be looked up.
+   * @return the created object.
+   */
+  static MapValues of(Map<?, ?> map, int valueCount) {
+    // IdentityHashMap compares values by identity, which a HashSet does not.
+    if (map instanceof IdentityHashMap || !shouldIndex(map.size(), valueCount)) return new MapValues(map, null);
+    return new MapValues(map, new HashSet<Object>(map.values()));
+  }
+
+  private final Map<?, ?> map;
+  private final Set<Object> index;
+
+  private MapValues(Map<?, ?> map, Set<Object> index) {
+    this.map = map;
+    this.index = index;
+  }
+
+  /** Indicates whether the map contains the given value. */
+  boolean contains(Object value) {
+    if (index != null) return index.contains(value);
+    return map.containsValue(value);
+  }
+}
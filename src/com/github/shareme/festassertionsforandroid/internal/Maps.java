@@ -20,6 +20,14 @@ import static com.github.shareme.festassertionsforandroid.error.ShouldHaveSize.s
 import static com.github.shareme.festassertionsforandroid.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static com.github.shareme.festassertionsforandroid.error.ShouldBeEmpty.shouldBeEmpty;
 import static com.github.shareme.festassertionsforandroid.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeEqual.shouldBeEqual;
+import static com.github.shareme.festassertionsforandroid.error.ShouldHaveSameEntries.shouldHaveSameEntries;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainKeys.shouldContainKeys;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainOnlyKeys.shouldContainOnlyKeys;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainValues.shouldContainValues;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContainValue.shouldNotContainValue;
+import static com.github.shareme.festassertionsforandroid.internal.CommonErrors.*;
+import static com.github.shareme.festassertionsforandroid.internal.Mismatches.collect;
 import static com.github.shareme.festutilitiesandroid.Objects.areEqual;
 
 import java.util.*;
@@ -35,6 +43,9 @@ import com.github.shareme.festutilitiesandroid.VisibleForTesting;
  */
 public class Maps {
 
+  /** The number of differences reported by <code>{@link #assertEqual(AssertionInfo, Map, Map)}</code>. */
+  public static final int DIFFERENCES_TO_REPORT = 10;
+
   private static Maps INSTANCE = new Maps();
 
   /**
@@ -115,9 +126,9 @@ public class Maps {
   public void assertContains(AssertionInfo info, Map<?, ?> actual, MapEntry[] entries) {
     isNotEmptyOrNull(entries);
     assertNotNull(info, actual);
-    Set<MapEntry> notFound = new LinkedHashSet<MapEntry>();
-    for (MapEntry entry : entries) if (!containsEntry(actual, entry)) notFound.add(entry);
-    if (notFound.isEmpty()) return;
+    Set<MapEntry> notFound = null;
+    for (MapEntry entry : entries) if (!containsEntry(actual, entry)) notFound = collect(notFound, entry);
+    if (notFound == null) return;
     throw failures.failure(info, shouldContain(actual, entries, notFound));
   }
 
@@ -135,12 +146,140 @@ public class Maps {
   public void assertDoesNotContain(AssertionInfo info, Map<?, ?> actual, MapEntry[] entries) {
     isNotEmptyOrNull(entries);
     assertNotNull(info, actual);
-    Set<MapEntry> found = new LinkedHashSet<MapEntry>();
-    for (MapEntry entry : entries) if (containsEntry(actual, entry)) found.add(entry);
-    if (found.isEmpty()) return;
+    Set<MapEntry> found = null;
+    for (MapEntry entry : entries) if (containsEntry(actual, entry)) found = collect(found, entry);
+    if (found == null) return;
     throw failures.failure(info, shouldNotContain(actual, entries, found));
   }
 
+  /**
+   * Asserts that the given {@code Map} contains the given keys, in any order.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Map}.
+   * @param keys the keys that are expected to be in the given {@code Map}.
+   * @throws NullPointerException if the array of keys is {@code null}.
+   * @throws IllegalArgumentException if the array of keys is empty.
+   * @throws AssertionError if the given {@code Map} is {@code null}.
+   * @throws AssertionError if the given {@code Map} does not contain the given keys.
+   */
+  public void assertContainsKeys(AssertionInfo info, Map<?, ?> actual, Object[] keys) {
+    checkKeysAreNotNullOrEmpty(keys);
+    assertNotNull(info, actual);
+    Set<Object> notFound = null;
+    for (Object key : keys) if (!actual.containsKey(key)) notFound = collect(notFound, key);
+    if (notFound == null) return;
+    throw failures.failure(info, shouldContainKeys(actual, keys, notFound));
+  }
+
+  /**
+   * Asserts that the given {@code Map} contains the given keys and no other keys, in any order.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Map}.
+   * @param keys the only keys that are expected to be in the given {@code Map}.
+   * @throws NullPointerException if the array of keys is {@code null}.
+   * @throws IllegalArgumentException if the array of keys is empty.
+   * @throws AssertionError if the given {@code Map} is {@code null}.
+   * @throws AssertionError if the given {@code Map} does not contain the given keys, or contains keys other than the
+   * given ones.
+   */
+  public void assertContainsOnlyKeys(AssertionInfo info, Map<?, ?> actual, Object[] keys) {
+    checkKeysAreNotNullOrEmpty(keys);
+    assertNotNull(info, actual);
+    Set<Object> expected = new HashSet<Object>(), notFound = null;
+    for (Object key : keys) {
+      if (!expected.add(key)) continue;
+      if (!actual.containsKey(key)) notFound = collect(notFound, key);
+    }
+    // all the given keys are in the map: it has no other keys if it has as many keys as were given.
+    if (notFound == null && expected.size() == actual.size()) return;
+    Set<Object> notExpected = null;
+    for (Object key : actual.keySet()) if (!expected.contains(key)) notExpected = collect(notExpected, key);
+    throw failures.failure(info, shouldContainOnlyKeys(actual, keys, emptyIfNull(notFound), emptyIfNull(notExpected)));
+  }
+
+  private static Set<Object> emptyIfNull(Set<Object> values) {
+    if (values == null) return java.util.Collections.emptySet();
+    return values;
+  }
+
+  private void checkKeysAreNotNullOrEmpty(Object[] keys) {
+    if (keys == null) throw new NullPointerException("The array of keys to look for should not be null");
+    if (keys.length == 0) throw new IllegalArgumentException("The array of keys to look for should not be empty");
+  }
+
+  /**
+   * Asserts that the given {@code Map} contains the given values, in any order. The values of the map are indexed
+   * first if enough values are given; the index is only used by this assertion.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Map}.
+   * @param values the values that are expected to be in the given {@code Map}.
+   * @throws NullPointerException if the array of values is {@code null}.
+   * @throws IllegalArgumentException if the array of values is empty.
+   * @throws AssertionError if the given {@code Map} is {@code null}.
+   * @throws AssertionError if the given {@code Map} does not contain the given values.
+   */
+  public void assertContainsValues(AssertionInfo info, Map<?, ?> actual, Object[] values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    if (values.length == 0) throw arrayOfValuesToLookForIsEmpty();
+    assertNotNull(info, actual);
+    MapValues lookup = MapValues.of(actual, values.length);
+    Set<Object> notFound = null;
+    for (Object value : values) if (!lookup.contains(value)) notFound = collect(notFound, value);
+    if (notFound == null) return;
+    throw failures.failure(info, shouldContainValues(actual, values, notFound));
+  }
+
+  /**
+   * Asserts that the given {@code Map} does not contain the given value.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Map}.
+   * @param value the value that is expected not to be in the given {@code Map}.
+   * @throws AssertionError if the given {@code Map} is {@code null}.
+   * @throws AssertionError if the given {@code Map} contains the given value.
+   */
+  public void assertDoesNotContainValue(AssertionInfo info, Map<?, ?> actual, Object value) {
+    assertNotNull(info, actual);
+    if (!actual.containsValue(value)) return;
+    throw failures.failure(info, shouldNotContainValue(actual, value));
+  }
+
+  /**
+   * Asserts that the given {@code Map} is equal to the expected one. If it is not, the error message shows up to
+   * <code>{@link #DIFFERENCES_TO_REPORT}</code> differences between them instead of both maps.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Map}.
+   * @param expected the expected {@code Map}.
+   * @throws AssertionError if the given {@code Map} is not equal to the expected one.
+   */
+  public void assertEqual(AssertionInfo info, Map<?, ?> actual, Map<?, ?> expected) {
+    assertEqual(info, actual, expected, DIFFERENCES_TO_REPORT);
+  }
+
+  /**
+   * Asserts that the given {@code Map} is equal to the expected one, as defined by
+   * <code>{@link Map#equals(Object)}</code>. If it is not, the error message shows up to the given number of
+   * differences between them (missing keys, unexpected keys and keys mapped to different values) instead of both maps.
+   * The differences are found in a single pass over the expected map, looking up each of its keys in the given one.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Map}.
+   * @param expected the expected {@code Map}.
+   * @param differencesToReport the maximum number of differences to report.
+   * @throws IllegalArgumentException if the number of differences to report is not greater than zero.
+   * @throws AssertionError if the given {@code Map} is not equal to the expected one.
+   */
+  public void assertEqual(AssertionInfo info, Map<?, ?> actual, Map<?, ?> expected, int differencesToReport) {
+    if (differencesToReport <= 0)
+      throw new IllegalArgumentException("The number of differences to report should be greater than zero");
+    if (areEqual(actual, expected)) return;
+    if (actual == null || expected == null) throw failures.failure(info, shouldBeEqual(actual, expected));
+    MapDifference difference = MapDifference.compute(actual, expected, differencesToReport);
+    // the maps can be different but have no differences we can report (e.g. if they use different equality rules.)
+    if (difference.count == 0) throw failures.failure(info, shouldBeEqual(actual, expected));
+    throw failures.failure(info, shouldHaveSameEntries(difference.sizeOfActual, difference.sizeOfExpected,
+        difference.count, difference.missingKeys, difference.unexpectedKeys, difference.keysWithDifferentValues,
+        difference.actualValues, difference.expectedValues));
+  }
+
   private void isNotEmptyOrNull(MapEntry[] entries) {
     if (entries == null) throw new NullPointerException("The array of entries to look for should not be null");
     if (entries.length == 0) throw new IllegalArgumentException("The array of entries to look for should not be empty");
@@ -0,0 +1,39 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+import java.util.*;
+
+/**
+ * Collects the values an assertion reports when it fails. The set that holds them is only created when the first value
+ * is collected, so assertions that pass do not allocate it.
+ */
+final class Mismatches {
+
+  /**
+   * Adds the given value to the given values, creating the set that holds them if needed.
+   * @param <T> the type of the values.
+   * @param mismatches the values collected so far, or {@code null} if none were collected yet.
+   * @param value the value to add.
+   * @return the values collected so far, in the order they were collected, including the given one.
+   */
+  static <T> Set<T> collect(Set<T> mismatches, T value) {
+    Set<T> collected = mismatches != null ? mismatches : new LinkedHashSet<T>();
+    collected.add(value);
+    return collected;
+  }
+
+  private Mismatches() {}
+}
@@ -14,8 +14,26 @@
  */
 package com.github.shareme.festassertionsforandroid.internal;
 
+import static com.github.shareme.festassertionsforandroid.error.ShouldBeSorted.*;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContain.shouldContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainNull.shouldContainNull;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainOnly.shouldContainOnly;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainSequence.shouldContainSequence;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContain.shouldNotContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContainNull.shouldNotContainNull;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotHaveDuplicates.shouldNotHaveDuplicates;
+import static com.github.shareme.festassertionsforandroid.internal.Lookups.shouldIndex;
+import static com.github.shareme.festassertionsforandroid.internal.Mismatches.collect;
+import static com.github.shareme.festassertionsforandroid.internal.ParallelScan.*;
+import static com.github.shareme.festassertionsforandroid.internal.SequenceMatch.MAXIMUM_NAIVE_SEARCH_SIZE;
+import static com.github.shareme.festutilitiesandroid.Objects.areEqual;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
 import com.github.shareme.festassertionsforandroid.core.AssertionInfo;
 import com.github.shareme.festassertionsforandroid.data.Index;
+import com.github.shareme.festassertionsforandroid.data.Parallelism;
 import com.github.shareme.festutilitiesandroid.VisibleForTesting;
 
 /**
@@ -39,7 +57,36 @@ public class ObjectArrays {
 
   @VisibleForTesting Failures failures = Failures.instance();
 
-  @VisibleForTesting ObjectArrays() {}
+  private final Parallelism parallelism;
+
+  @VisibleForTesting ObjectArrays() {
+    this(null);
+  }
+
+  private ObjectArrays(Parallelism parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Returns a copy of this object that verifies large arrays in parallel. The assertions that visit every element
+   * ({@code assertContains}, {@code assertDoesNotContain}, {@code assertContainsOnly},
+   * {@code assertDoesNotHaveDuplicates}, {@code assertContainsNull} and {@code assertDoesNotContainNull}) split the
+   * work between threads when the array has at least <code>{@link Parallelism#threshold}</code> elements. Failure
+   * messages are the same as when verifying the array in the calling thread.
+   * <p>
+   * Looking for values that are themselves arrays is always done in the calling thread, since those values are compared
+   * by content instead of using {@code equals}.
+   * </p>
+   * @param parallelism how to split the work between threads.
+   * @return the created copy.
+   * @throws NullPointerException if the given {@code Parallelism} is {@code null}.
+   */
+  public ObjectArrays inParallel(Parallelism parallelism) {
+    if (parallelism == null) throw new NullPointerException("The parallelism to use should not be null");
+    ObjectArrays copy = new ObjectArrays(parallelism);
+    copy.failures = failures;
+    return copy;
+  }
 
   /**
    * Asserts that the given array is {@code null} or empty.
@@ -96,7 +143,8 @@ public class ObjectArrays {
    * @throws AssertionError if the given array does not contain the given values.
    */
   public void assertContains(AssertionInfo info, Object[] actual, Object[] values) {
-    arrays.assertContains(info, failures, actual, values);
+    if (shouldLookUpInParallel(actual, values)) assertContainsInParallel(info, actual, values);
+    else arrays.assertContains(info, failures, actual, values);
   }
 
   /**
@@ -141,7 +189,24 @@ public class ObjectArrays {
    * array contains values that are not in the given array.
    */
   public void assertContainsOnly(AssertionInfo info, Object[] actual, Object[] values) {
-    arrays.assertContainsOnly(info, failures, actual, values);
+    if (shouldLookUpInParallel(actual, values)) assertContainsOnlyInParallel(info, actual, values);
+    else arrays.assertContainsOnly(info, failures, actual, values);
+  }
+
+  /**
+   * Asserts that the given array contains exactly the given values, in any order: each value appears in the array as
+   * many times as it was given, and the array has no other elements. The number of times each value appears is counted
+   * in a {@code HashMap}, in O(n + m) time.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param values the values that are expected to be the elements of the given array.
+   * @throws NullPointerException if the array of values is {@code null}.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the given array does not contain exactly the given values, each of them as many times as
+   * it was given.
+   */
+  public void assertContainsExactlyInAnyOrder(AssertionInfo info, Object[] actual, Object[] values) {
+    arrays.assertContainsExactlyInAnyOrder(info, failures, actual, values);
   }
 
   /**
@@ -155,7 +220,41 @@ public class ObjectArrays {
    * @throws AssertionError if the given array does not contain the given sequence of objects.
    */
   public void assertContainsSequence(AssertionInfo info, Object[] actual, Object[] sequence) {
-    arrays.assertContainsSequence(info, failures, actual, sequence);
+    if (!isShortSequence(sequence) || actual == null) {
+      arrays.assertContainsSequence(info, failures, actual, sequence);
+      return;
+    }
+    int start = startOfLongestMatch(actual, sequence);
+    int size = matchSize(actual, start, sequence);
+    if (size == sequence.length) return;
+    throw failures.failure(info, shouldContainSequence(actual, sequence, start, size));
+  }
+
+  private static boolean isShortSequence(Object[] sequence) {
+    return sequence != null && sequence.length > 0 && sequence.length <= MAXIMUM_NAIVE_SEARCH_SIZE;
+  }
+
+  /**
+   * Compares the given sequence with the elements starting at each index of the given array in turn, and returns the
+   * index where the longest match starts (the first one, if there are several.) Unlike the search of
+   * <code>{@link SequenceMatch}</code>, it does not wrap the arrays or allocate anything.
+   */
+  private static int startOfLongestMatch(Object[] array, Object[] sequence) {
+    int longestMatchStart = 0, longestMatchSize = 0;
+    for (int start = 0; start < array.length && longestMatchSize < sequence.length; start++) {
+      int size = matchSize(array, start, sequence);
+      if (size <= longestMatchSize) continue;
+      longestMatchSize = size;
+      longestMatchStart = start;
+    }
+    return longestMatchStart;
+  }
+
+  /** Returns the number of values of the given sequence that match the elements starting at the given index. */
+  private static int matchSize(Object[] array, int start, Object[] sequence) {
+    int size = 0, maximumSize = Math.min(sequence.length, array.length - start);
+    while (size < maximumSize && areEqual(array[start + size], sequence[size])) size++;
+    return size;
   }
 
   /**
@@ -169,7 +268,8 @@ public class ObjectArrays {
    * @throws AssertionError if the given array contains any of given values.
    */
   public void assertDoesNotContain(AssertionInfo info, Object[] actual, Object[] values) {
-    arrays.assertDoesNotContain(info, failures, actual, values);
+    if (shouldLookUpInParallel(actual, values)) assertDoesNotContainInParallel(info, actual, values);
+    else arrays.assertDoesNotContain(info, failures, actual, values);
   }
 
   /**
@@ -182,7 +282,28 @@ public class ObjectArrays {
    * @throws AssertionError if the given array contains duplicate values.
    */
   public void assertDoesNotHaveDuplicates(AssertionInfo info, Object[] actual) {
-    arrays.assertDoesNotHaveDuplicates(info, failures, actual);
+    if (actual != null && !shouldIndex(actual.length, actual.length)) assertDoesNotHavePairwiseDuplicates(info, actual);
+    else if (shouldScanInParallel(actual)) assertDoesNotHaveDuplicatesInParallel(info, actual);
+    else arrays.assertDoesNotHaveDuplicates(info, failures, actual);
+  }
+
+  /**
+   * Compares each element with the ones before it, which is cheap for small arrays and does not allocate anything
+   * unless there are duplicates. Like the check that indexes the elements, it compares them with {@code equals} and
+   * reports the duplicates in the order of their second appearance.
+   */
+  private void assertDoesNotHavePairwiseDuplicates(AssertionInfo info, Object[] actual) {
+    Set<Object> duplicates = null;
+    for (int i = 1; i < actual.length; i++) {
+      Object element = actual[i];
+      for (int j = 0; j < i; j++) {
+        if (element == null ? actual[j] != null : !element.equals(actual[j])) continue;
+        duplicates = collect(duplicates, element);
+        break;
+      }
+    }
+    if (duplicates == null) return;
+    throw failures.failure(info, shouldNotHaveDuplicates(actual, duplicates));
   }
 
   /**
@@ -225,7 +346,8 @@ public class ObjectArrays {
    * @throws AssertionError if the given array does not contain a null element.
    */
   public void assertContainsNull(AssertionInfo info, Object[] actual) {
-    arrays.assertContainsNull(info, failures, actual);
+    if (!shouldScanInParallel(actual)) arrays.assertContainsNull(info, failures, actual);
+    else if (!containsNullInParallel(actual)) throw failures.failure(info, shouldContainNull(actual));
   }
 
   /**
@@ -236,7 +358,182 @@ public class ObjectArrays {
    * @throws AssertionError if the given array contains a null element.
    */
   public void assertDoesNotContainNull(AssertionInfo info, Object[] actual) {
-    arrays.assertDoesNotContainNull(info, failures, actual);
+    if (!shouldScanInParallel(actual)) arrays.assertDoesNotContainNull(info, failures, actual);
+    else if (containsNullInParallel(actual)) throw failures.failure(info, shouldNotContainNull(actual));
   }
 
+  /**
+   * Asserts that the given array is sorted in ascending order, according to the natural ordering of its elements.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the elements of the given array are not mutually comparable.
+   * @throws AssertionError if the given array is not sorted in ascending order.
+   */
+  @SuppressWarnings("unchecked")
+  public void assertIsSorted(AssertionInfo info, Object[] actual) {
+    assertNotNull(info, actual);
+    for (int i = 0; i < actual.length; i++) {
+      if (!(actual[i] instanceof Comparable))
+        throw failures.failure(info, shouldHaveMutuallyComparableElements(actual));
+      if (i == 0) continue;
+      int comparison;
+      try {
+        comparison = ((Comparable<Object>) actual[i - 1]).compareTo(actual[i]);
+      } catch (ClassCastException e) {
+        throw failures.failure(info, shouldHaveMutuallyComparableElements(actual));
+      }
+      if (comparison > 0) throw failures.failure(info, shouldBeSorted(i - 1, actual));
+    }
+  }
+
+  /**
+   * Asserts that the given array is sorted according to the given comparator.
+   * @param info contains information about the assertion.
+   * @param actual the given array.
+   * @param comparator the {@code Comparator} used to compare the elements of the array.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError if the given array is {@code null}.
+   * @throws AssertionError if the given array is not sorted according to the given comparator.
+   */
+  @SuppressWarnings("unchecked")
+  public void assertIsSortedAccordingToComparator(AssertionInfo info, Object[] actual, Comparator<?> comparator) {
+    if (comparator == null) throw new NullPointerException("The given comparator should not be null");
+    assertNotNull(info, actual);
+    Comparator<Object> elementComparator = (Comparator<Object>) comparator;
+    for (int i = 1; i < actual.length; i++) {
+      if (elementComparator.compare(actual[i - 1], actual[i]) <= 0) continue;
+      throw failures.failure(info, shouldBeSortedAccordingToGivenComparator(i - 1, actual, comparator));
+    }
+  }
+
+  private void assertNotNull(AssertionInfo info, Object[] actual) {
+    Objects.instance().assertNotNull(info, actual);
+  }
+
+  private boolean shouldScanInParallel(Object[] actual) {
+    return actual != null && shouldRunInParallel(parallelism, actual.length);
+  }
+
+  private boolean shouldLookUpInParallel(Object[] actual, Object[] values) {
+    if (values == null || values.length == 0 || !shouldScanInParallel(actual)) return false;
+    for (Object value : values)
+      if (value != null && value.getClass().isArray()) return false;
+    return true;
+  }
+
+  private void assertContainsInParallel(AssertionInfo info, Object[] actual, Object[] values) {
+    Set<Object> notFound = lookUpInParallel(actual, values, false);
+    if (notFound == null) return;
+    throw failures.failure(info, shouldContain(actual, values, notFound));
+  }
+
+  private void assertDoesNotContainInParallel(AssertionInfo info, Object[] actual, Object[] values) {
+    Set<Object> found = lookUpInParallel(actual, values, true);
+    if (found == null) return;
+    throw failures.failure(info, shouldNotContain(actual, values, found));
+  }
+
+  /**
+   * Returns the given values that are (or are not) in the given array, in the order they were given, or {@code null}
+   * if there are none. The scan stops as soon as all the values are found; otherwise it visits every element, which
+   * also tells which values were found.
+   */
+  private Set<Object> lookUpInParallel(final Object[] array, Object[] values, boolean found) {
+    final Map<Object, Integer> positions = positionsOf(values);
+    final AtomicIntegerArray marks = new AtomicIntegerArray(positions.size());
+    final AtomicInteger notFoundCount = new AtomicInteger(positions.size());
+    anyMatch(parallelism, array.length, new RangeCheck() {
+      public boolean matches(int part, int from, int to) {
+        for (int i = from; i < to; i++) {
+          Integer position = positions.get(array[i]);
+          if (position == null || marks.get(position) != 0 || !marks.compareAndSet(position, 0, 1)) continue;
+          if (notFoundCount.decrementAndGet() == 0) return true;
+        }
+        return false;
+      }
+    });
+    Set<Object> result = null;
+    for (Object value : values)
+      if ((marks.get(positions.get(value)) != 0) == found) result = collect(result, value);
+    return result;
+  }
+
+  /**
+   * Each part marks the values it finds and keeps the indices of the elements that are not expected, so a failure
+   * reports the same values, in the same order, as the sequential check.
+   */
+  private void assertContainsOnlyInParallel(AssertionInfo info, final Object[] actual, Object[] values) {
+    final Map<Object, Integer> positions = positionsOf(values);
+    final AtomicIntegerArray marks = new AtomicIntegerArray(positions.size());
+    final Indices unexpected = new Indices(parallelism.partCount);
+    anyMatch(parallelism, actual.length, new RangeCheck() {
+      public boolean matches(int part, int from, int to) {
+        for (int i = from; i < to; i++) {
+          Integer position = positions.get(actual[i]);
+          if (position == null) unexpected.add(part, i);
+          else if (marks.get(position) == 0) marks.set(position, 1);
+        }
+        return false;
+      }
+    });
+    Set<Object> notFound = new LinkedHashSet<Object>();
+    for (Object value : values)
+      if (marks.get(positions.get(value)) == 0) notFound.add(value);
+    int[] unexpectedIndices = unexpected.sorted();
+    if (notFound.isEmpty() && unexpectedIndices == null) return;
+    Set<Object> notExpected = new LinkedHashSet<Object>();
+    if (unexpectedIndices != null) for (int index : unexpectedIndices) notExpected.add(actual[index]);
+    throw failures.failure(info, shouldContainOnly(actual, values, notFound, notExpected));
+  }
+
+  private static Map<Object, Integer> positionsOf(Object[] values) {
+    Map<Object, Integer> positions = new HashMap<Object, Integer>();
+    for (Object value : values)
+      if (!positions.containsKey(value)) positions.put(value, positions.size());
+    return positions;
+  }
+
+  /**
+   * Groups the elements by hash code, so that equal elements always end up in the same group, and then lets each part
+   * look for duplicates in one group. The parts keep the index of the second appearance of each duplicate, so the
+   * duplicates are reported in the same order as the sequential check does.
+   */
+  private void assertDoesNotHaveDuplicatesInParallel(AssertionInfo info, final Object[] actual) {
+    final Groups groups = groupByHash(parallelism, actual.length, new IndexHash() {
+      public int hashAt(int index) {
+        Object element = actual[index];
+        return element == null ? 0 : element.hashCode();
+      }
+    });
+    final Indices secondAppearances = new Indices(parallelism.partCount);
+    anyPartMatches(parallelism, new PartCheck() {
+      public boolean matches(int part, int partCount, AtomicBoolean stopped) {
+        int from = groups.starts[part], to = groups.starts[part + 1];
+        Set<Object> seen = new HashSet<Object>();
+        Set<Object> reported = null;
+        for (int i = from; i < to; i++) {
+          int index = groups.indices[i];
+          if (seen.add(actual[index])) continue;
+          if (reported == null) reported = new HashSet<Object>();
+          if (reported.add(actual[index])) secondAppearances.add(part, index);
+        }
+        return false;
+      }
+    });
+    int[] indices = secondAppearances.sorted();
+    if (indices == null) return;
+    Set<Object> duplicates = new LinkedHashSet<Object>();
+    for (int index : indices) duplicates.add(actual[index]);
+    throw failures.failure(info, shouldNotHaveDuplicates(actual, duplicates));
+  }
+
+  private boolean containsNullInParallel(final Object[] actual) {
+    return anyMatch(parallelism, actual.length, new RangeCheck() {
+      public boolean matches(int part, int from, int to) {
+        for (int i = from; i < to; i++) if (actual[i] == null) return true;
+        return false;
+      }
+    });
+  }
 }
@@ -27,6 +27,7 @@ import static com.github.shareme.festutilitiesandroid.Objects.areEqual;
 import static com.github.shareme.festutilitiesandroid.ToString.toStringOf;
 
 import java.util.Collection;
+import java.util.HashSet;
 
 import com.github.shareme.festassertionsforandroid.core.AssertionInfo;
 import com.github.shareme.festutilitiesandroid.VisibleForTesting;
@@ -254,7 +255,13 @@ public class Objects {
     if (values.isEmpty()) throw new IllegalArgumentException("The given collection should not be empty");
   }
 
+  /**
+   * Scans the given collection, unless it is a {@code HashSet} and the given object is not an array: a {@code HashSet}
+   * finds objects that are equal to the given one without scanning, and arrays are compared by content instead of using
+   * {@code equals}.
+   */
   private boolean isActualIn(Object actual, Collection<?> values) {
+    if (values instanceof HashSet && !actual.getClass().isArray()) return values.contains(actual);
     for (Object value : values)
       if (areEqual(actual, value)) return true;
     return false;
@@ -0,0 +1,268 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.github.shareme.festassertionsforandroid.data.Parallelism;
+
+/**
+ * Looks for a match in the elements of a large array by splitting the work into parts that run in parallel. As soon as
+ * one part finds a match the other parts are told to stop, since the answer is known.
+ * <p>
+ * The parts of a scan also keep track of what a failure needs to report (the indices of the elements that made an
+ * assertion fail, or the values they found) so that an assertion never has to verify the array again in the calling
+ * thread to build its failure message. It reports the same values, in the same order, as when it does not run in
+ * parallel.
+ * </p>
+ */
+final class ParallelScan {
+
+  /** The number of elements a part checks between two checks of whether it was told to stop. */
+  static final int BLOCK_SIZE = 1 << 12;
+
+  /** Checks the elements in a range of indices. */
+  interface RangeCheck {
+    /**
+     * Indicates whether the elements in the given range match what the scan is looking for.
+     * @param part the part the range belongs to, between zero (inclusive) and the number of parts (exclusive.)
+     * @param from the first index in the range, inclusive.
+     * @param to the last index in the range, exclusive.
+     * @return {@code true} if a match was found, {@code false} otherwise.
+     */
+    boolean matches(int part, int from, int to);
+  }
+
+  /** Checks one of the parts the work of a scan was split into. */
+  interface PartCheck {
+    /**
+     * Indicates whether the given part matches what the scan is looking for.
+     * @param part the part to check, between zero (inclusive) and {@code partCount} (exclusive.)
+     * @param partCount the number of parts.
+     * @param stopped set when another part found a match; long checks should poll it and give up when it is set.
+     * @return {@code true} if a match was found, {@code false} otherwise.
+     */
+    boolean matches(int part, int partCount, AtomicBoolean stopped);
+  }
+
+  /** Hashes the element at an index of the array a scan visits. */
+  interface IndexHash {
+    /**
+     * Returns the hash of the element at the given index. Equal elements should have the same hash.
+     * @param index the index of the element.
+     * @return the hash of the element.
+     */
+    int hashAt(int index);
+  }
+
+  /**
+   * Indicates whether an array of the given size should be verified in parallel.
+   * @param parallelism how to split the work, or {@code null} if it should not be done in parallel.
+   * @param size the size of the array.
+   * @return {@code true} if the array should be verified in parallel, {@code false} otherwise.
+   */
+  static boolean shouldRunInParallel(Parallelism parallelism, int size) {
+    return parallelism != null && parallelism.partCount > 1 && size >= parallelism.threshold;
+  }
+
+  /**
+   * Splits the indices [0, size) into one contiguous range per part and looks for a match in them. Each part checks
+   * its range in ascending order, a block of indices at a time.
+   * @param parallelism how to split the work.
+   * @param size the number of elements to check.
+   * @param check checks a range of elements.
+   * @return {@code true} if a match was found, {@code false} otherwise.
+   */
+  static boolean anyMatch(Parallelism parallelism, final int size, final RangeCheck check) {
+    final int partSize = (int) ((size + (long) parallelism.partCount - 1) / parallelism.partCount);
+    return anyPartMatches(parallelism, new PartCheck() {
+      public boolean matches(int part, int partCount, AtomicBoolean stopped) {
+        int end = (int) Math.min((long) (part + 1) * partSize, size);
+        for (int from = part * partSize; from < end; from += Math.min(BLOCK_SIZE, end - from)) {
+          if (stopped.get()) return false;
+          if (check.matches(part, from, from + Math.min(BLOCK_SIZE, end - from))) return true;
+        }
+        return false;
+      }
+    });
+  }
+
+  /**
+   * Runs the given check once per part and waits for all the parts to finish.
+   * @param parallelism how to split the work.
+   * @param check checks a part.
+   * @return {@code true} if any part found a match, {@code false} otherwise.
+   */
+  static boolean anyPartMatches(Parallelism parallelism, final PartCheck check) {
+    final int partCount = parallelism.partCount;
+    final AtomicBoolean matched = new AtomicBoolean();
+    List<Future<?>> parts = new ArrayList<Future<?>>(partCount);
+    for (int i = 0; i < partCount; i++) {
+      final int part = i;
+      parts.add(parallelism.executor.submit(new Runnable() {
+        public void run() {
+          if (matched.get()) return;
+          if (check.matches(part, partCount, matched)) matched.set(true);
+        }
+      }));
+    }
+    for (Future<?> part : parts) waitFor(part, matched);
+    return matched.get();
+  }
+
+  private static void waitFor(Future<?> part, AtomicBoolean stopped) {
+    try {
+      part.get();
+    } catch (InterruptedException e) {
+      stopped.set(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a parallel assertion", e);
+    } catch (ExecutionException e) {
+      stopped.set(true);
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      if (cause instanceof Error) throw (Error) cause;
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /**
+   * Groups the indices [0, size) by the part the hash of their element belongs to (see
+   * <code>{@link #partOf(int, int)}</code>), so that equal elements always end up in the same group. Each part counts,
+   * and then places, the elements of its own range of indices, which keeps the total work linear in the size of the
+   * array.
+   * @param parallelism how to split the work.
+   * @param size the number of elements to group.
+   * @param hash hashes the elements.
+   * @return the grouped indices.
+   */
+  static Groups groupByHash(Parallelism parallelism, int size, final IndexHash hash) {
+    final int partCount = parallelism.partCount;
+    final int[][] counts = new int[partCount][partCount];
+    anyMatch(parallelism, size, new RangeCheck() {
+      public boolean matches(int part, int from, int to) {
+        int[] countsOfPart = counts[part];
+        for (int i = from; i < to; i++) countsOfPart[partOf(hash.hashAt(i), partCount)]++;
+        return false;
+      }
+    });
+    // The indices of a group are laid out range after range, which keeps them in ascending order.
+    final int[][] next = new int[partCount][partCount];
+    int[] starts = new int[partCount + 1];
+    for (int group = 0, position = 0; group < partCount; group++) {
+      starts[group] = position;
+      for (int part = 0; part < partCount; part++) {
+        next[part][group] = position;
+        position += counts[part][group];
+      }
+      starts[group + 1] = position;
+    }
+    final int[] indices = new int[size];
+    anyMatch(parallelism, size, new RangeCheck() {
+      public boolean matches(int part, int from, int to) {
+        int[] nextOfPart = next[part];
+        for (int i = from; i < to; i++) indices[nextOfPart[partOf(hash.hashAt(i), partCount)]++] = i;
+        return false;
+      }
+    });
+    return new Groups(indices, starts);
+  }
+
+  /** Indices of an array, grouped by the part that should check their elements. */
+  static final class Groups {
+    /** The grouped indices, in ascending order within each group. */
+    final int[] indices;
+    /** Where each group starts in {@code indices}; group {@code g} ends where group {@code g + 1} starts. */
+    final int[] starts;
+
+    private Groups(int[] indices, int[] starts) {
+      this.indices = indices;
+      this.starts = starts;
+    }
+  }
+
+  /**
+   * Indices of an array that the parts of a scan found, for example the ones of the elements that made an assertion
+   * fail. Each part only adds to its own list, so no locking is needed; the lists are merged once all the parts are
+   * done.
+   */
+  static final class Indices {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int[][] indicesOfPart;
+    private final int[] countOfPart;
+
+    Indices(int partCount) {
+      indicesOfPart = new int[partCount][];
+      countOfPart = new int[partCount];
+    }
+
+    /**
+     * Adds an index found by the given part.
+     * @param part the part that found the index.
+     * @param index the index to add.
+     */
+    void add(int part, int index) {
+      int[] indices = indicesOfPart[part];
+      int count = countOfPart[part];
+      if (indices == null) {
+        indices = indicesOfPart[part] = new int[INITIAL_CAPACITY];
+      } else if (count == indices.length) {
+        int[] grown = new int[count * 2];
+        System.arraycopy(indices, 0, grown, 0, count);
+        indices = indicesOfPart[part] = grown;
+      }
+      indices[count] = index;
+      countOfPart[part] = count + 1;
+    }
+
+    /**
+     * Returns the indices added by all the parts, in ascending order. It should only be called once all the parts are
+     * done.
+     * @return the indices added by all the parts, or {@code null} if none was added.
+     */
+    int[] sorted() {
+      int size = 0;
+      for (int count : countOfPart) size += count;
+      if (size == 0) return null;
+      int[] sorted = new int[size];
+      int position = 0;
+      for (int part = 0; part < countOfPart.length; part++) {
+        if (countOfPart[part] == 0) continue;
+        System.arraycopy(indicesOfPart[part], 0, sorted, position, countOfPart[part]);
+        position += countOfPart[part];
+      }
+      java.util.Arrays.sort(sorted);
+      return sorted;
+    }
+  }
+
+  /**
+   * Assigns the given hash to one of the parts of a scan. It uses different bits than hash tables do, so a part does
+   * not end up with values that all fall in the same few slots of its own table.
+   * @param hash the hash of a value.
+   * @param partCount the number of parts.
+   * @return the part the value belongs to, between zero (inclusive) and {@code partCount} (exclusive.)
+   */
+  static int partOf(int hash, int partCount) {
+    int mixed = hash * 0x85EBCA6B;
+    mixed ^= mixed >>> 13;
+    return (int) (((mixed & 0xFFFFFFFFL) * partCount) >>> 32);
+  }
+
+  private ParallelScan() {}
+}
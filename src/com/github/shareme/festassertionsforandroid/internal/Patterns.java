@@ -0,0 +1,119 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import com.github.shareme.festutilitiesandroid.VisibleForTesting;
+
+/**
+ * A bounded cache of compiled <code>{@link Pattern}</code>s, keyed by regular expression. Compiling a regular
+ * expression usually costs much more than matching it against a short {@code String}, so assertions that apply the same
+ * regular expressions to many values only compile each of them once. When the cache is full, the least recently used
+ * pattern is discarded. This class is thread-safe.
+ */
+public final class Patterns {
+
+  /** The number of compiled patterns kept by the shared instance. */
+  public static final int DEFAULT_CAPACITY = 128;
+
+  private static final Patterns INSTANCE = new Patterns(DEFAULT_CAPACITY);
+
+  /**
+   * Returns the singleton instance of this class.
+   * @return the singleton instance of this class.
+   */
+  public static Patterns instance() {
+    return INSTANCE;
+  }
+
+  private final Map<String, Pattern> cache;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  @VisibleForTesting Patterns(final int capacity) {
+    if (capacity <= 0) throw new IllegalArgumentException("The capacity of the cache should be greater than zero");
+    cache = new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Returns the compiled form of the given regular expression, compiling it only if it is not already in the cache.
+   * @param regex the regular expression to compile.
+   * @return the compiled pattern.
+   * @throws NullPointerException if the given regular expression is {@code null}.
+   * @throws java.util.regex.PatternSyntaxException if the regular expression's syntax is invalid.
+   */
+  public Pattern compile(String regex) {
+    if (regex == null) throw new NullPointerException("The regular expression to compile should not be null");
+    Pattern pattern;
+    synchronized (cache) {
+      pattern = cache.get(regex);
+    }
+    if (pattern != null) {
+      hits.incrementAndGet();
+      return pattern;
+    }
+    misses.incrementAndGet();
+    // compiled outside the lock: two threads may both compile a new expression, but neither waits on the other.
+    pattern = Pattern.compile(regex);
+    synchronized (cache) {
+      cache.put(regex, pattern);
+    }
+    return pattern;
+  }
+
+  /**
+   * Returns the number of calls to <code>{@link #compile(String)}</code> that found the pattern in the cache.
+   * @return the number of cache hits.
+   */
+  public long hits() {
+    return hits.get();
+  }
+
+  /**
+   * Returns the number of calls to <code>{@link #compile(String)}</code> that had to compile the regular expression.
+   * @return the number of cache misses.
+   */
+  public long misses() {
+    return misses.get();
+  }
+
+  /**
+   * Returns the number of compiled patterns currently in the cache.
+   * @return the number of compiled patterns currently in the cache.
+   */
+  public int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  /** Removes all the compiled patterns from the cache and resets the hit and miss counters. */
+  public void clear() {
+    synchronized (cache) {
+      cache.clear();
+    }
+    hits.set(0);
+    misses.set(0);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+import static com.github.shareme.festutilitiesandroid.Objects.areEqual;
+
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The result of looking for a sequence of values in a group of elements (e.g. an array or a collection.) The search
+ * uses the Knuth-Morris-Pratt algorithm: it visits each element once, in order, and never goes back after a mismatch.
+ * Short sequences are looked for in lists with random access by comparing them with the elements starting at each
+ * index instead, which does not need the table the Knuth-Morris-Pratt algorithm computes first. If the sequence is not
+ * found, the result describes the longest part of it that was.
+ */
+final class SequenceMatch {
+
+  /**
+   * The maximum size of a sequence that is looked for by comparing it with the elements starting at each index. Such a
+   * search takes at most this many comparisons per element, and usually close to one.
+   */
+  static final int MAXIMUM_NAIVE_SEARCH_SIZE = 8;
+
+  /**
+   * Looks for the given sequence in the given elements.
+   * @param elements the elements to search.
+   * @param sequence the sequence of values to look for. It should not be empty.
+   * @return the result of the search.
+   */
+  static SequenceMatch find(Iterable<?> elements, List<?> sequence) {
+    int sequenceSize = sequence.size();
+    if (sequenceSize <= MAXIMUM_NAIVE_SEARCH_SIZE && elements instanceof List && elements instanceof RandomAccess)
+      return findAtEachIndex((List<?>) elements, sequence);
+    int[] failure = failureFunction(sequence);
+    int matched = 0, index = 0, longestMatchStart = 0, longestMatchSize = 0;
+    for (Object element : elements) {
+      while (matched > 0 && !areEqual(element, sequence.get(matched))) matched = failure[matched - 1];
+      if (areEqual(element, sequence.get(matched))) {
+        if (++matched == sequenceSize) return new SequenceMatch(true, index - matched + 1, matched);
+        if (matched > longestMatchSize) {
+          longestMatchSize = matched;
+          longestMatchStart = index - matched + 1;
+        }
+      }
+      index++;
+    }
+    return new SequenceMatch(false, longestMatchStart, longestMatchSize);
+  }
+
+  private static SequenceMatch findAtEachIndex(List<?> elements, List<?> sequence) {
+    int elementCount = elements.size(), sequenceSize = sequence.size();
+    int longestMatchStart = 0, longestMatchSize = 0;
+    for (int start = 0; start < elementCount && longestMatchSize < sequenceSize; start++) {
+      int size = matchSize(elements, start, sequence);
+      if (size <= longestMatchSize) continue;
+      longestMatchSize = size;
+      longestMatchStart = start;
+    }
+    return new SequenceMatch(longestMatchSize == sequenceSize, longestMatchStart, longestMatchSize);
+  }
+
+  private static int matchSize(List<?> elements, int start, List<?> sequence) {
+    int size = 0, maximumSize = Math.min(sequence.size(), elements.size() - start);
+    while (size < maximumSize && areEqual(elements.get(start + size), sequence.get(size))) size++;
+    return size;
+  }
+
+  /**
+   * Computes the failure function of the given sequence: for each index {@code i}, the size of the longest proper
+   * prefix of {@code sequence[0..i]} that is also a suffix of it.
+   */
+  private static int[] failureFunction(List<?> sequence) {
+    int sequenceSize = sequence.size();
+    int[] failure = new int[sequenceSize];
+    for (int i = 1, matched = 0; i < sequenceSize; i++) {
+      Object value = sequence.get(i);
+      while (matched > 0 && !areEqual(value, sequence.get(matched))) matched = failure[matched - 1];
+      if (areEqual(value, sequence.get(matched))) matched++;
+      failure[i] = matched;
+    }
+    return failure;
+  }
+
+  /** Indicates whether the whole sequence was found. */
+  final boolean found;
+
+  /** The index of the element where the sequence, or the longest part of it that was found, starts. */
+  final int start;
+
+  /** The number of values of the sequence that were found; zero if not even its first value was found. */
+  final int size;
+
+  private SequenceMatch(boolean found, int start, int size) {
+    this.found = found;
+    this.start = start;
+    this.size = size;
+  }
+}
@@ -14,24 +14,23 @@
  */
 package com.github.shareme.festassertionsforandroid.internal;
 
-import static com.github.shareme.festassertionsforandroid.error.ShouldNotContainString.shouldNotContain;
-import static com.github.shareme.festassertionsforandroid.error.ShouldContainString.*;
-import static com.github.shareme.festassertionsforandroid.error.ShouldHaveSize.shouldHaveSize;
-import static com.github.shareme.festassertionsforandroid.error.ShouldMatchPattern.shouldMatch;
-import static com.github.shareme.festassertionsforandroid.error.ShouldStartWith.shouldStartWith;
-import static com.github.shareme.festassertionsforandroid.error.ShouldNotBeEmpty.shouldNotBeEmpty;
-import static com.github.shareme.festassertionsforandroid.error.ShouldBeEmpty.shouldBeEmpty;
 import static com.github.shareme.festassertionsforandroid.error.ShouldBeEqualIgnoringCase.shouldBeEqual;
-import static com.github.shareme.festassertionsforandroid.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
-import static com.github.shareme.festassertionsforandroid.error.ShouldNotMatchPattern.shouldNotMatch;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContain.shouldContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldContainString.shouldContainAny;
+import static com.github.shareme.festassertionsforandroid.error.ShouldEndWith.shouldEndWithIgnoringCase;
+import static com.github.shareme.festassertionsforandroid.error.ShouldNotContain.shouldNotContain;
+import static com.github.shareme.festassertionsforandroid.error.ShouldStartWith.shouldStartWithIgnoringCase;
+import static com.github.shareme.festassertionsforandroid.internal.CommonErrors.arrayOfValuesToLookForIsEmpty;
+import static com.github.shareme.festassertionsforandroid.internal.CommonErrors.arrayOfValuesToLookForIsNull;
 
-import java.util.regex.*;
+import java.util.Set;
 
 import com.github.shareme.festassertionsforandroid.core.AssertionInfo;
 import com.github.shareme.festutilitiesandroid.VisibleForTesting;
 
 /**
- * Reusable assertions for <code>{@link String}</code>s.
+ * Reusable assertions for <code>{@link String}</code>s that have no <code>{@link CharSequence}</code> equivalent. The
+ * other assertions on {@code String}s are the ones of <code>{@link CharSequences}</code>.
  *
  * @author Alex Ruiz
  */
@@ -52,107 +51,66 @@ public class Strings {
   @VisibleForTesting Strings() {}
 
   /**
-   * Asserts that the given {@code String} is {@code null} or empty.
+   * Verifies that the given {@code String} contains all the given sequences. The sequences are looked for in a single
+   * pass over the {@code String}, using an automaton compiled by <code>{@link Substrings}</code>.
    * @param info contains information about the assertion.
-   * @param actual the given {@code String}.
-   * @throws AssertionError if the given {@code String} is not {@code null} *and* it is not empty.
-   */
-  public void assertNullOrEmpty(AssertionInfo info, String actual) {
-    if (actual == null || !hasContents(actual)) return;
-    throw failures.failure(info, shouldBeNullOrEmpty(actual));
-  }
-
-  /**
-   * Asserts that the given {@code String} is empty.
-   * @param info contains information about the assertion.
-   * @param actual the given {@code String}.
-   * @throws AssertionError if the given {@code String} is {@code null}.
-   * @throws AssertionError if the given {@code String} is not empty.
-   */
-  public void assertEmpty(AssertionInfo info, String actual) {
-    assertNotNull(info, actual);
-    if (!hasContents(actual)) return;
-    throw failures.failure(info, shouldBeEmpty(actual));
-  }
-
-  /**
-   * Asserts that the given {@code String} is not empty.
-   * @param info contains information about the assertion.
-   * @param actual the given {@code String}.
-   * @throws AssertionError if the given {@code String} is {@code null}.
-   * @throws AssertionError if the given {@code String} is empty.
-   */
-  public void assertNotEmpty(AssertionInfo info, String actual) {
-    assertNotNull(info, actual);
-    if (hasContents(actual)) return;
-    throw failures.failure(info, shouldNotBeEmpty());
-  }
-
-  private static boolean hasContents(String s) {
-    return s.length() > 0;
-  }
-
-  /**
-   * Asserts that the size of the given {@code String} is equal to the expected one.
-   * @param info contains information about the assertion.
-   * @param actual the given {@code String}.
-   * @param expectedSize the expected size of {@code actual}.
+   * @param actual the actual {@code String}.
+   * @param sequences the sequences to search for.
+   * @throws NullPointerException if the given array of sequences, or any of the sequences, is {@code null}.
+   * @throws IllegalArgumentException if the given array of sequences is empty.
    * @throws AssertionError if the given {@code String} is {@code null}.
-   * @throws AssertionError if the size of the given {@code String} is different than the expected one.
+   * @throws AssertionError if the actual {@code String} does not contain all the given sequences.
    */
-  public void assertHasSize(AssertionInfo info, String actual, int expectedSize) {
+  public void assertContainsAll(AssertionInfo info, String actual, String[] sequences) {
+    checkSequencesAreValid(sequences);
     assertNotNull(info, actual);
-    int sizeOfActual = actual.length();
-    if (sizeOfActual == expectedSize) return;
-    throw failures.failure(info, shouldHaveSize(actual, sizeOfActual, expectedSize));
+    Set<String> notFound = Substrings.compile(sequences).notFoundIn(actual);
+    if (notFound.isEmpty()) return;
+    throw failures.failure(info, shouldContain(actual, sequences, notFound));
   }
 
   /**
-   * Verifies that the given {@code String} contains the given sequence.
+   * Verifies that the given {@code String} contains at least one of the given sequences. The sequences are looked for
+   * in a single pass over the {@code String}, using an automaton compiled by <code>{@link Substrings}</code>.
    * @param info contains information about the assertion.
    * @param actual the actual {@code String}.
-   * @param sequence the sequence to search for.
-   * @throws NullPointerException if the given sequence is {@code null}.
+   * @param sequences the sequences to search for.
+   * @throws NullPointerException if the given array of sequences, or any of the sequences, is {@code null}.
+   * @throws IllegalArgumentException if the given array of sequences is empty.
    * @throws AssertionError if the given {@code String} is {@code null}.
-   * @throws AssertionError if the actual {@code String} does not contain the given sequence.
+   * @throws AssertionError if the actual {@code String} contains none of the given sequences.
    */
-  public void assertContains(AssertionInfo info, String actual, String sequence) {
-    checkSequenceIsNotNull(sequence);
+  public void assertContainsAny(AssertionInfo info, String actual, String[] sequences) {
+    checkSequencesAreValid(sequences);
     assertNotNull(info, actual);
-    if (actual.contains(sequence)) return;
-    throw failures.failure(info, shouldContain(actual, sequence));
+    if (Substrings.compile(sequences).indexOfAnyIn(actual) >= 0) return;
+    throw failures.failure(info, shouldContainAny(actual, sequences));
   }
 
   /**
-   * Verifies that the given {@code String} contains the given sequence, ignoring case considerations.
+   * Verifies that the given {@code String} contains none of the given sequences. The sequences are looked for in a
+   * single pass over the {@code String}, using an automaton compiled by <code>{@link Substrings}</code>.
    * @param info contains information about the assertion.
    * @param actual the actual {@code String}.
-   * @param sequence the sequence to search for.
-   * @throws NullPointerException if the given sequence is {@code null}.
+   * @param sequences the sequences to search for.
+   * @throws NullPointerException if the given array of sequences, or any of the sequences, is {@code null}.
+   * @throws IllegalArgumentException if the given array of sequences is empty.
    * @throws AssertionError if the given {@code String} is {@code null}.
-   * @throws AssertionError if the actual {@code String} does not contain the given sequence.
+   * @throws AssertionError if the actual {@code String} contains any of the given sequences.
    */
-  public void assertContainsIgnoringCase(AssertionInfo info, String actual, String sequence) {
-    checkSequenceIsNotNull(sequence);
+  public void assertDoesNotContainAny(AssertionInfo info, String actual, String[] sequences) {
+    checkSequencesAreValid(sequences);
     assertNotNull(info, actual);
-    if (actual.toLowerCase().contains(sequence.toLowerCase())) return;
-    throw failures.failure(info, shouldContainIgnoringCase(actual, sequence));
+    Set<String> found = Substrings.compile(sequences).foundIn(actual);
+    if (found.isEmpty()) return;
+    throw failures.failure(info, shouldNotContain(actual, sequences, found));
   }
 
-  /**
-   * Verifies that the given {@code String} does not contain the given sequence.
-   * @param info contains information about the assertion.
-   * @param actual the actual {@code String}.
-   * @param sequence the sequence to search for.
-   * @throws NullPointerException if the given sequence is {@code null}.
-   * @throws AssertionError if the given {@code String} is {@code null}.
-   * @throws AssertionError if the actual {@code String} contains the given sequence.
-   */
-  public void assertDoesNotContain(AssertionInfo info, String actual, String sequence) {
-    checkSequenceIsNotNull(sequence);
-    assertNotNull(info, actual);
-    if (!actual.contains(sequence)) return;
-    throw failures.failure(info, shouldNotContain(actual, sequence));
+  private void checkSequencesAreValid(String[] sequences) {
+    if (sequences == null) throw arrayOfValuesToLookForIsNull();
+    if (sequences.length == 0) throw arrayOfValuesToLookForIsEmpty();
+    for (String sequence : sequences)
+      checkSequenceIsNotNull(sequence);
   }
 
   private void checkSequenceIsNotNull(String sequence) {
@@ -173,113 +131,39 @@ public class Strings {
 
   private boolean areEqualIgnoringCase(String actual, String expected) {
     if (actual == null) return expected == null;
-    return actual.equalsIgnoreCase(expected);
+    return expected != null && CaseInsensitive.areEqual(actual, expected);
   }
 
   /**
-   * Verifies that the given {@code String} starts with the given prefix.
+   * Verifies that the given {@code String} starts with the given prefix, ignoring case considerations.
    * @param info contains information about the assertion.
    * @param actual the actual {@code String}.
    * @param prefix the given prefix.
-   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws NullPointerException if the given prefix is {@code null}.
    * @throws AssertionError if the given {@code String} is {@code null}.
-   * @throws AssertionError if the actual {@code String} does not start with the given prefix.
+   * @throws AssertionError if the actual {@code String} does not start with the given prefix, ignoring case.
    */
-  public void assertStartsWith(AssertionInfo info, String actual, String prefix) {
+  public void assertStartsWithIgnoringCase(AssertionInfo info, String actual, String prefix) {
     if (prefix == null) throw new NullPointerException("The given prefix should not be null");
     assertNotNull(info, actual);
-    if (actual.startsWith(prefix)) return;
-    throw failures.failure(info, shouldStartWith(actual, prefix));
+    if (CaseInsensitive.startsWith(actual, prefix)) return;
+    throw failures.failure(info, shouldStartWithIgnoringCase(actual, prefix));
   }
 
   /**
-   * Verifies that the given {@code String} ends with the given suffix.
+   * Verifies that the given {@code String} ends with the given suffix, ignoring case considerations.
    * @param info contains information about the assertion.
    * @param actual the actual {@code String}.
    * @param suffix the given suffix.
-   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws NullPointerException if the given suffix is {@code null}.
    * @throws AssertionError if the given {@code String} is {@code null}.
-   * @throws AssertionError if the actual {@code String} does not end with the given suffix.
+   * @throws AssertionError if the actual {@code String} does not end with the given suffix, ignoring case.
    */
-  public void assertEndsWith(AssertionInfo info, String actual, String suffix) {
+  public void assertEndsWithIgnoringCase(AssertionInfo info, String actual, String suffix) {
     if (suffix == null) throw new NullPointerException("The given suffix should not be null");
     assertNotNull(info, actual);
-    if (actual.endsWith(suffix)) return;
-    throw failures.failure(info, shouldStartWith(actual, suffix));
-  }
-
-  /**
-   * Verifies that the given {@code String} matches the given regular expression.
-   * @param info contains information about the assertion.
-   * @param actual the given {@code String}.
-   * @param regex the regular expression to which the actual {@code String} is to be matched.
-   * @throws NullPointerException if the given pattern is {@code null}.
-   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
-   * @throws AssertionError if the given {@code String} is {@code null}.
-   * @throws AssertionError if the actual {@code String} does not match the given regular expression.
-   */
-  public void assertMatches(AssertionInfo info, String actual, String regex) {
-    checkRegexIsNotNull(regex);
-    assertNotNull(info, actual);
-    if (Pattern.matches(regex, actual)) return;
-    throw failures.failure(info, shouldMatch(actual, regex));
-  }
-
-  /**
-   * Verifies that the given {@code String} does not match the given regular expression.
-   * @param info contains information about the assertion.
-   * @param actual the given {@code String}.
-   * @param regex the regular expression to which the actual {@code String} is to be matched.
-   * @throws NullPointerException if the given pattern is {@code null}.
-   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
-   * @throws AssertionError if the actual {@code String} matches the given regular expression.
-   */
-  public void assertDoesNotMatch(AssertionInfo info, String actual, String regex) {
-    checkRegexIsNotNull(regex);
-    if (actual == null || !Pattern.matches(regex, actual)) return;
-    throw failures.failure(info, shouldNotMatch(actual, regex));
-  }
-
-  private void checkRegexIsNotNull(String regex) {
-    if (regex == null) throw patternToMatchIsNull();
-  }
-
-  /**
-   * Verifies that the given {@code String} matches the given regular expression.
-   * @param info contains information about the assertion.
-   * @param actual the given {@code String}.
-   * @param pattern the regular expression to which the actual {@code String} is to be matched.
-   * @throws NullPointerException if the given pattern is {@code null}.
-   * @throws AssertionError if the given {@code String} is {@code null}.
-   * @throws AssertionError if the given {@code String} does not match the given regular expression.
-   */
-  public void assertMatches(AssertionInfo info, String actual, Pattern pattern) {
-    checkIsNotNull(pattern);
-    assertNotNull(info, actual);
-    if (pattern.matcher(actual).matches()) return;
-    throw failures.failure(info, shouldMatch(actual, pattern.pattern()));
-  }
-
-  /**
-   * Verifies that the given {@code String} does not match the given regular expression.
-   * @param info contains information about the assertion.
-   * @param actual the given {@code String}.
-   * @param pattern the regular expression to which the actual {@code String} is to be matched.
-   * @throws NullPointerException if the given pattern is {@code null}.
-   * @throws AssertionError if the given {@code String} matches the given regular expression.
-   */
-  public void assertDoesNotMatch(AssertionInfo info, String actual, Pattern pattern) {
-    checkIsNotNull(pattern);
-    if (actual == null || !pattern.matcher(actual).matches()) return;
-    throw failures.failure(info, shouldNotMatch(actual, pattern.pattern()));
-  }
-
-  private void checkIsNotNull(Pattern pattern) {
-    if (pattern == null) throw patternToMatchIsNull();
-  }
-
-  private NullPointerException patternToMatchIsNull() {
-    return new NullPointerException("The regular expression pattern to match should not be null");
+    if (CaseInsensitive.endsWith(actual, suffix)) return;
+    throw failures.failure(info, shouldEndWithIgnoringCase(actual, suffix));
   }
 
   private void assertNotNull(AssertionInfo info, String actual) {
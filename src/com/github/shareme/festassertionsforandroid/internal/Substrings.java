@@ -0,0 +1,273 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+import java.util.*;
+
+/**
+ * A group of substrings compiled into an Aho-Corasick automaton, which looks for all of them in a single pass over a
+ * character sequence, instead of one pass per substring. Compiled groups are immutable, thread-safe and cached: the
+ * assertions that look for the same substrings in many {@code String}s only compile them once.
+ */
+final class Substrings {
+
+  /** The number of compiled groups of substrings kept in the cache. */
+  static final int CACHE_SIZE = 32;
+
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+  private static final int ASCII_LIMIT = 0x80;
+
+  private static final Map<List<String>, Substrings> CACHE = new LinkedHashMap<List<String>, Substrings>(16, 0.75f,
+      true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override protected boolean removeEldestEntry(Map.Entry<List<String>, Substrings> eldest) {
+      return size() > CACHE_SIZE;
+    }
+  };
+
+  /**
+   * Returns the given substrings compiled into an automaton, compiling them only if they are not already in the cache.
+   * @param substrings the substrings to look for, which should not be {@code null}.
+   * @return the compiled substrings.
+   */
+  static Substrings compile(String... substrings) {
+    List<String> key = java.util.Arrays.asList(substrings.clone());
+    Substrings compiled;
+    synchronized (CACHE) {
+      compiled = CACHE.get(key);
+    }
+    if (compiled != null) return compiled;
+    compiled = new Substrings(key);
+    synchronized (CACHE) {
+      CACHE.put(key, compiled);
+    }
+    return compiled;
+  }
+
+  private final List<String> substrings;
+  // the node of the trie where each substring ends.
+  private final int[] ends;
+  // the transitions of each node, as labels sorted in ascending order and their target nodes.
+  private final char[][] labels;
+  private final int[][] targets;
+  // the transitions of the root for ASCII characters, by character.
+  private final int[] asciiTargets = new int[ASCII_LIMIT];
+  private final int[] fail;
+  // the nearest node where a substring ends, following failure links from each node (the node itself included).
+  private final int[] output;
+  private final int[] nextOutput;
+  private final int outputCount;
+
+  private Substrings(List<String> substrings) {
+    this.substrings = substrings;
+    ends = new int[substrings.size()];
+    Trie trie = new Trie();
+    for (int i = 0; i < ends.length; i++)
+      ends[i] = trie.add(substrings.get(i));
+    int nodeCount = trie.nodes.size();
+    labels = new char[nodeCount][];
+    targets = new int[nodeCount][];
+    boolean[] isEnd = new boolean[nodeCount];
+    for (int node = 0; node < nodeCount; node++) {
+      Node built = trie.nodes.get(node);
+      labels[node] = resize(built.labels, built.childCount);
+      targets[node] = resize(built.targets, built.childCount);
+      isEnd[node] = built.isEnd;
+    }
+    for (char c = 0; c < ASCII_LIMIT; c++) {
+      int target = child(ROOT, c);
+      asciiTargets[c] = target == NONE ? ROOT : target;
+    }
+    fail = new int[nodeCount];
+    output = new int[nodeCount];
+    nextOutput = new int[nodeCount];
+    outputCount = linkFailures(isEnd);
+  }
+
+  /** Computes failure and output links breadth-first, and returns the number of nodes where a substring ends. */
+  private int linkFailures(boolean[] isEnd) {
+    int[] queue = new int[fail.length];
+    int head = 0, tail = 0;
+    queue[tail++] = ROOT;
+    fail[ROOT] = ROOT;
+    int count = 0;
+    while (head < tail) {
+      int node = queue[head++];
+      int linked = fail[node];
+      nextOutput[node] = node == ROOT ? NONE : output[linked];
+      output[node] = isEnd[node] ? node : nextOutput[node];
+      if (isEnd[node]) count++;
+      for (int i = 0; i < labels[node].length; i++) {
+        int child = targets[node][i];
+        fail[child] = node == ROOT ? ROOT : transition(linked, labels[node][i]);
+        queue[tail++] = child;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the index of a substring that appears in the given sequence, stopping at the first one found.
+   * @param text the sequence to search in.
+   * @return the index of a substring that appears in {@code text}, or -1 if none does.
+   */
+  int indexOfAnyIn(CharSequence text) {
+    int state = ROOT;
+    if (output[state] != NONE) return endingAt(output[state]);
+    for (int i = 0, length = text.length(); i < length; i++) {
+      state = transition(state, text.charAt(i));
+      if (output[state] != NONE) return endingAt(output[state]);
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the substrings that appear in the given sequence, in the order they were compiled, stopping as soon as
+   * all of them were found.
+   * @param text the sequence to search in.
+   * @return the substrings that appear in {@code text}.
+   */
+  Set<String> foundIn(CharSequence text) {
+    boolean[] found = new boolean[fail.length];
+    int remaining = outputCount;
+    int state = ROOT;
+    remaining -= markOutputs(state, found);
+    for (int i = 0, length = text.length(); i < length && remaining > 0; i++) {
+      state = transition(state, text.charAt(i));
+      remaining -= markOutputs(state, found);
+    }
+    Set<String> result = new LinkedHashSet<String>();
+    for (int i = 0; i < ends.length; i++)
+      if (found[ends[i]]) result.add(substrings.get(i));
+    return result;
+  }
+
+  /**
+   * Returns the substrings that do not appear in the given sequence, in the order they were compiled.
+   * @param text the sequence to search in.
+   * @return the substrings that do not appear in {@code text}.
+   */
+  Set<String> notFoundIn(CharSequence text) {
+    Set<String> notFound = new LinkedHashSet<String>(substrings);
+    notFound.removeAll(foundIn(text));
+    return notFound;
+  }
+
+  // Marks the nodes where a substring ends that are reachable from the given state, and returns how many were not
+  // marked yet. The outputs reachable from a marked node were all marked with it, so the walk stops at the first one.
+  private int markOutputs(int state, boolean[] found) {
+    int marked = 0;
+    for (int node = output[state]; node != NONE && !found[node]; node = nextOutput[node]) {
+      found[node] = true;
+      marked++;
+    }
+    return marked;
+  }
+
+  private int endingAt(int node) {
+    for (int i = 0; i < ends.length; i++)
+      if (ends[i] == node) return i;
+    throw new IllegalStateException("No substring ends at node " + node);
+  }
+
+  private int transition(int state, char c) {
+    while (true) {
+      if (state == ROOT) {
+        if (c < ASCII_LIMIT) return asciiTargets[c];
+        int target = child(ROOT, c);
+        return target == NONE ? ROOT : target;
+      }
+      int target = child(state, c);
+      if (target != NONE) return target;
+      state = fail[state];
+    }
+  }
+
+  private int child(int node, char c) {
+    int i = indexOf(labels[node], labels[node].length, c);
+    return i < 0 ? NONE : targets[node][i];
+  }
+
+  /** The trie of the substrings, as it is built. The transitions of each node are kept sorted by label. */
+  private static class Trie {
+    final List<Node> nodes = new ArrayList<Node>();
+
+    Trie() {
+      nodes.add(new Node());
+    }
+
+    int add(String substring) {
+      int node = ROOT;
+      for (int i = 0; i < substring.length(); i++)
+        node = childOrNew(node, substring.charAt(i));
+      nodes.get(node).isEnd = true;
+      return node;
+    }
+
+    private int childOrNew(int node, char c) {
+      Node parent = nodes.get(node);
+      int i = indexOf(parent.labels, parent.childCount, c);
+      if (i >= 0) return parent.targets[i];
+      int insertion = -i - 1;
+      int count = parent.childCount;
+      if (count == parent.labels.length) {
+        parent.labels = resize(parent.labels, count * 2);
+        parent.targets = resize(parent.targets, count * 2);
+      }
+      System.arraycopy(parent.labels, insertion, parent.labels, insertion + 1, count - insertion);
+      System.arraycopy(parent.targets, insertion, parent.targets, insertion + 1, count - insertion);
+      int child = nodes.size();
+      nodes.add(new Node());
+      parent.labels[insertion] = c;
+      parent.targets[insertion] = child;
+      parent.childCount++;
+      return child;
+    }
+  }
+
+  private static class Node {
+    char[] labels = new char[2];
+    int[] targets = new int[2];
+    int childCount;
+    boolean isEnd;
+  }
+
+  /** Binary search of the given label in the first {@code count} labels, with the contract of {@code Arrays}'. */
+  private static int indexOf(char[] labels, int count, char c) {
+    int low = 0, high = count - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      char label = labels[middle];
+      if (label < c) low = middle + 1;
+      else if (label > c) high = middle - 1;
+      else return middle;
+    }
+    return -(low + 1);
+  }
+
+  private static char[] resize(char[] array, int length) {
+    char[] resized = new char[length];
+    System.arraycopy(array, 0, resized, 0, Math.min(array.length, length));
+    return resized;
+  }
+
+  private static int[] resize(int[] array, int length) {
+    int[] resized = new int[length];
+    System.arraycopy(array, 0, resized, 0, Math.min(array.length, length));
+    return resized;
+  }
+}
@@ -22,6 +22,13 @@ import com.github.shareme.festutilitiesandroid.VisibleForTesting;
 /**
  * An list-like wrapper for arrays. This class does not provide type-safety in order to handle both arrays
  * of objects and arrays of primitives.
+ * <p>
+ * <code>{@link #wrap(Object)}</code> returns a view specialized for the type of the array (for example,
+ * <code>{@link IntArrayView}</code> for arrays of {@code int}s,) which reads elements directly instead of using
+ * reflection. The size of the array is read once, when the array is wrapped. The overloads of {@code wrap} that take
+ * an array of primitives return the specialized view itself, whose accessors (for example,
+ * <code>{@link IntArrayView#getInt(int)}</code>) read elements without boxing them.
+ * </p>
  *
  * @author Alex Ruiz
  * @author Yvonne Wang
@@ -36,14 +43,117 @@ public class ArrayWrapperList extends AbstractList<Object> {
    */
   public static ArrayWrapperList wrap(Object array) {
     if (array == null) return null;
-    if (!array.getClass().isArray()) throw new IllegalArgumentException("The object to wrap should be an array");
-    return new ArrayWrapperList(array);
+    if (array instanceof Object[]) return new ObjectArrayView((Object[]) array);
+    if (array instanceof int[]) return new IntArrayView((int[]) array);
+    if (array instanceof long[]) return new LongArrayView((long[]) array);
+    if (array instanceof double[]) return new DoubleArrayView((double[]) array);
+    if (array instanceof float[]) return new FloatArrayView((float[]) array);
+    if (array instanceof char[]) return new CharArrayView((char[]) array);
+    if (array instanceof byte[]) return new ByteArrayView((byte[]) array);
+    if (array instanceof short[]) return new ShortArrayView((short[]) array);
+    if (array instanceof boolean[]) return new BooleanArrayView((boolean[]) array);
+    throw new IllegalArgumentException("The object to wrap should be an array");
+  }
+
+  /**
+   * Wraps a given array of objects with a <code>{@link ObjectArrayView}</code>.
+   * @param array the array to wrap.
+   * @return the wrapped array or {@code null} if the given array was already {@code null}.
+   */
+  public static ObjectArrayView wrap(Object[] array) {
+    return array == null ? null : new ObjectArrayView(array);
+  }
+
+  /**
+   * Wraps a given array of {@code int}s with a <code>{@link IntArrayView}</code>.
+   * Its <code>{@link IntArrayView#getInt(int)}</code> reads an element without boxing it.
+   * @param array the array to wrap.
+   * @return the wrapped array or {@code null} if the given array was already {@code null}.
+   */
+  public static IntArrayView wrap(int[] array) {
+    return array == null ? null : new IntArrayView(array);
+  }
+
+  /**
+   * Wraps a given array of {@code long}s with a <code>{@link LongArrayView}</code>.
+   * Its <code>{@link LongArrayView#getLong(int)}</code> reads an element without boxing it.
+   * @param array the array to wrap.
+   * @return the wrapped array or {@code null} if the given array was already {@code null}.
+   */
+  public static LongArrayView wrap(long[] array) {
+    return array == null ? null : new LongArrayView(array);
+  }
+
+  /**
+   * Wraps a given array of {@code double}s with a <code>{@link DoubleArrayView}</code>.
+   * Its <code>{@link DoubleArrayView#getDouble(int)}</code> reads an element without boxing it.
+   * @param array the array to wrap.
+   * @return the wrapped array or {@code null} if the given array was already {@code null}.
+   */
+  public static DoubleArrayView wrap(double[] array) {
+    return array == null ? null : new DoubleArrayView(array);
+  }
+
+  /**
+   * Wraps a given array of {@code float}s with a <code>{@link FloatArrayView}</code>.
+   * Its <code>{@link FloatArrayView#getFloat(int)}</code> reads an element without boxing it.
+   * @param array the array to wrap.
+   * @return the wrapped array or {@code null} if the given array was already {@code null}.
+   */
+  public static FloatArrayView wrap(float[] array) {
+    return array == null ? null : new FloatArrayView(array);
+  }
+
+  /**
+   * Wraps a given array of {@code char}s with a <code>{@link CharArrayView}</code>.
+   * Its <code>{@link CharArrayView#getChar(int)}</code> reads an element without boxing it.
+   * @param array the array to wrap.
+   * @return the wrapped array or {@code null} if the given array was already {@code null}.
+   */
+  public static CharArrayView wrap(char[] array) {
+    return array == null ? null : new CharArrayView(array);
+  }
+
+  /**
+   * Wraps a given array of {@code byte}s with a <code>{@link ByteArrayView}</code>.
+   * Its <code>{@link ByteArrayView#getByte(int)}</code> reads an element without boxing it.
+   * @param array the array to wrap.
+   * @return the wrapped array or {@code null} if the given array was already {@code null}.
+   */
+  public static ByteArrayView wrap(byte[] array) {
+    return array == null ? null : new ByteArrayView(array);
+  }
+
+  /**
+   * Wraps a given array of {@code short}s with a <code>{@link ShortArrayView}</code>.
+   * Its <code>{@link ShortArrayView#getShort(int)}</code> reads an element without boxing it.
+   * @param array the array to wrap.
+   * @return the wrapped array or {@code null} if the given array was already {@code null}.
+   */
+  public static ShortArrayView wrap(short[] array) {
+    return array == null ? null : new ShortArrayView(array);
+  }
+
+  /**
+   * Wraps a given array of {@code boolean}s with a <code>{@link BooleanArrayView}</code>.
+   * Its <code>{@link BooleanArrayView#getBoolean(int)}</code> reads an element without boxing it.
+   * @param array the array to wrap.
+   * @return the wrapped array or {@code null} if the given array was already {@code null}.
+   */
+  public static BooleanArrayView wrap(boolean[] array) {
+    return array == null ? null : new BooleanArrayView(array);
   }
 
   private final Object array;
+  private final int size;
 
   @VisibleForTesting ArrayWrapperList(Object array) {
+    this(array, Array.getLength(array));
+  }
+
+  ArrayWrapperList(Object array, int size) {
     this.array = array;
+    this.size = size;
   }
 
   /**
@@ -54,9 +164,8 @@ public class ArrayWrapperList extends AbstractList<Object> {
     return Array.get(array, index);
   }
 
-  private void checkIsInRange(int index) {
-    int size = size();
-    if (index >= 0 && index < size()) return;
+  final void checkIsInRange(int index) {
+    if (index >= 0 && index < size) return;
     String message = String.format("Index should be between 0 and %d (inclusive,) but was %d", size - 1, index);
     throw new IndexOutOfBoundsException(message);
   }
@@ -65,7 +174,7 @@ public class ArrayWrapperList extends AbstractList<Object> {
    * {@inheritDoc}
    */
   @Override public int size() {
-    return Array.getLength(array);
+    return size;
   }
 
   @VisibleForTesting Object array() { return array; }
@@ -0,0 +1,48 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.util;
+
+/**
+ * A list-like view of an array of {@code float}s. <code>{@link #getFloat(int)}</code> reads an element without boxing
+ * it; the {@code List} methods box the elements they return.
+ */
+public class FloatArrayView extends ArrayWrapperList {
+
+  private final float[] array;
+
+  FloatArrayView(float[] array) {
+    super(array, array.length);
+    this.array = array;
+  }
+
+  /**
+   * Returns the element at the given index, without boxing it.
+   * @param index the index of the element to return.
+   * @return the element at the given index.
+   * @throws IndexOutOfBoundsException if the given index is not between zero (inclusive) and the size of this list
+   * (exclusive.)
+   */
+  public float getFloat(int index) {
+    checkIsInRange(index);
+    return array[index];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override public Float get(int index) {
+    return getFloat(index);
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.util;
+
+/**
+ * A list-like view of an array of objects, which reads its elements directly instead of using reflection.
+ */
+public class ObjectArrayView extends ArrayWrapperList {
+
+  private final Object[] array;
+
+  ObjectArrayView(Object[] array) {
+    super(array, array.length);
+    this.array = array;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override public Object get(int index) {
+    checkIsInRange(index);
+    return array[index];
+  }
+}
@@ -0,0 +1,245 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package com.github.shareme.festassertionsforandroid.internal;
+
+import static com.github.shareme.festassertionsforandroid.data.MapEntry.entry;
+
+import java.lang.management.*;
+import java.util.*;
+
+import com.github.shareme.festassertionsforandroid.core.WritableAssertionInfo;
+import com.github.shareme.festassertionsforandroid.data.MapEntry;
+
+/**
+ * Verifies that assertions on small arrays, collections and maps do not allocate anything when they pass. Each
+ * assertion is first run enough times to be compiled, and then run again while the memory the thread allocates is
+ * measured. The check runs from {@code main}, and exits with status 1 if any passing assertion allocated memory, so a
+ * build can run it as one of its steps, next to the compiled classes and the FestUtilitiesAndroid jar:
+ *
+ * <pre>
+ * javac -d out -cp festutiltiesandroid.jar $(find src test -name '*.java')
+ * java -cp out:festutiltiesandroid.jar \
+ *     com.github.shareme.festassertionsforandroid.internal.PassingAssertionsAllocationCheck
+ * </pre>
+ * <p>
+ * Measuring the memory allocated by a thread needs a JVM that provides
+ * <code>{@link com.sun.management.ThreadMXBean}</code> (e.g. HotSpot or OpenJDK.) On other JVMs the check is skipped,
+ * and exits with status 0.
+ * </p>
+ */
+public class PassingAssertionsAllocationCheck {
+
+  private static final int WARM_UP_RUNS = 20000;
+  private static final int MEASURED_RUNS = 10000;
+
+  private final com.sun.management.ThreadMXBean threads;
+  private final WritableAssertionInfo info = new WritableAssertionInfo();
+  private int failureCount;
+
+  private PassingAssertionsAllocationCheck(com.sun.management.ThreadMXBean threads) {
+    this.threads = threads;
+  }
+
+  public static void main(String[] args) {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+      System.out.println("Skipped: this JVM cannot measure the memory allocated by a thread");
+      return;
+    }
+    PassingAssertionsAllocationCheck check =
+        new PassingAssertionsAllocationCheck((com.sun.management.ThreadMXBean) threads);
+    check.checkIntArrays();
+    check.checkLongArrays();
+    check.checkDoubleArrays();
+    check.checkCharArrays();
+    check.checkByteArrays();
+    check.checkBooleanArrays();
+    check.checkObjectArrays();
+    check.checkCollections();
+    check.checkMaps();
+    if (check.failureCount > 0) {
+      System.out.println(check.failureCount + " passing assertion(s) allocated memory");
+      System.exit(1);
+    }
+    System.out.println("No passing assertion allocated memory");
+  }
+
+  private void checkIntArrays() {
+    final IntArrays arrays = IntArrays.instance();
+    final int[] actual = { 6, 8, 10, 12, 14, 16, 18, 20 };
+    final int[] values = { 8, 12 }, others = { 7, 9 }, sequence = { 10, 12, 14 };
+    check("IntArrays.assertContains", new Runnable() {
+      public void run() {
+        arrays.assertContains(info, actual, values);
+      }
+    });
+    check("IntArrays.assertDoesNotContain", new Runnable() {
+      public void run() {
+        arrays.assertDoesNotContain(info, actual, others);
+      }
+    });
+    check("IntArrays.assertContainsOnly", new Runnable() {
+      public void run() {
+        arrays.assertContainsOnly(info, actual, actual);
+      }
+    });
+    check("IntArrays.assertContainsSequence", new Runnable() {
+      public void run() {
+        arrays.assertContainsSequence(info, actual, sequence);
+      }
+    });
+    check("IntArrays.assertDoesNotHaveDuplicates", new Runnable() {
+      public void run() {
+        arrays.assertDoesNotHaveDuplicates(info, actual);
+      }
+    });
+  }
+
+  private void checkLongArrays() {
+    final LongArrays arrays = LongArrays.instance();
+    final long[] actual = { 6L, 8L, 10L, 12L, 14L, 16L, 18L, 20L };
+    final long[] sequence = { 14L, 16L };
+    check("LongArrays.assertContainsSequence", new Runnable() {
+      public void run() {
+        arrays.assertContainsSequence(info, actual, sequence);
+      }
+    });
+    check("LongArrays.assertDoesNotHaveDuplicates", new Runnable() {
+      public void run() {
+        arrays.assertDoesNotHaveDuplicates(info, actual);
+      }
+    });
+  }
+
+  private void checkDoubleArrays() {
+    final DoubleArrays arrays = DoubleArrays.instance();
+    final double[] actual = { -0.0, 0.0, 1.5, 2.5, Double.NaN };
+    final double[] sequence = { 0.0, 1.5 };
+    check("DoubleArrays.assertContainsSequence", new Runnable() {
+      public void run() {
+        arrays.assertContainsSequence(info, actual, sequence);
+      }
+    });
+    check("DoubleArrays.assertDoesNotHaveDuplicates", new Runnable() {
+      public void run() {
+        arrays.assertDoesNotHaveDuplicates(info, actual);
+      }
+    });
+  }
+
+  private void checkCharArrays() {
+    final CharArrays arrays = CharArrays.instance();
+    final char[] actual = { 'a', 'b', 'c', 'd', 'e' };
+    final char[] sequence = { 'c', 'd' };
+    check("CharArrays.assertContainsSequence", new Runnable() {
+      public void run() {
+        arrays.assertContainsSequence(info, actual, sequence);
+      }
+    });
+    check("CharArrays.assertDoesNotHaveDuplicates", new Runnable() {
+      public void run() {
+        arrays.assertDoesNotHaveDuplicates(info, actual);
+      }
+    });
+  }
+
+  private void checkByteArrays() {
+    final ByteArrays arrays = ByteArrays.instance();
+    final byte[] actual = { -2, -1, 0, 1, 2 };
+    check("ByteArrays.assertDoesNotHaveDuplicates", new Runnable() {
+      public void run() {
+        arrays.assertDoesNotHaveDuplicates(info, actual);
+      }
+    });
+  }
+
+  private void checkBooleanArrays() {
+    final BooleanArrays arrays = BooleanArrays.instance();
+    final boolean[] actual = { true, false };
+    final boolean[] sequence = { false };
+    check("BooleanArrays.assertContainsSequence", new Runnable() {
+      public void run() {
+        arrays.assertContainsSequence(info, actual, sequence);
+      }
+    });
+    check("BooleanArrays.assertDoesNotHaveDuplicates", new Runnable() {
+      public void run() {
+        arrays.assertDoesNotHaveDuplicates(info, actual);
+      }
+    });
+  }
+
+  private void checkObjectArrays() {
+    final ObjectArrays arrays = ObjectArrays.instance();
+    final Object[] actual = { "Luke", "Yoda", "Leia", "Han" };
+    final Object[] sequence = { "Yoda", "Leia" };
+    check("ObjectArrays.assertContainsSequence", new Runnable() {
+      public void run() {
+        arrays.assertContainsSequence(info, actual, sequence);
+      }
+    });
+    check("ObjectArrays.assertDoesNotHaveDuplicates", new Runnable() {
+      public void run() {
+        arrays.assertDoesNotHaveDuplicates(info, actual);
+      }
+    });
+  }
+
+  private void checkCollections() {
+    final Collections collections = Collections.instance();
+    final Collection<String> actual = new ArrayList<String>(java.util.Arrays.asList("Luke", "Yoda", "Leia", "Han"));
+    final Object[] values = { "Yoda", "Han" }, others = { "Vader", "Jabba" };
+    check("Collections.assertContains", new Runnable() {
+      public void run() {
+        collections.assertContains(info, actual, values);
+      }
+    });
+    check("Collections.assertDoesNotContain", new Runnable() {
+      public void run() {
+        collections.assertDoesNotContain(info, actual, others);
+      }
+    });
+  }
+
+  private void checkMaps() {
+    final Maps maps = Maps.instance();
+    final Map<String, String> actual = new HashMap<String, String>();
+    actual.put("name", "Yoda");
+    actual.put("job", "Jedi");
+    final MapEntry[] entries = { entry("name", "Yoda") }, others = { entry("name", "Vader"), entry("color", "green") };
+    check("Maps.assertContains", new Runnable() {
+      public void run() {
+        maps.assertContains(info, actual, entries);
+      }
+    });
+    check("Maps.assertDoesNotContain", new Runnable() {
+      public void run() {
+        maps.assertDoesNotContain(info, actual, others);
+      }
+    });
+  }
+
+  private void check(String description, Runnable assertion) {
+    for (int i = 0; i < WARM_UP_RUNS; i++) assertion.run();
+    long threadId = Thread.currentThread().getId();
+    long before = threads.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < MEASURED_RUNS; i++) assertion.run();
+    // The JVM itself may allocate a few bytes in this thread while it runs, but an object takes at least 16 bytes.
+    long allocatedPerRun = (threads.getThreadAllocatedBytes(threadId) - before) / MEASURED_RUNS;
+    if (allocatedPerRun == 0) return;
+    failureCount++;
+    System.out.println(description + " allocated " + allocatedPerRun + " bytes per run");
+  }
+}